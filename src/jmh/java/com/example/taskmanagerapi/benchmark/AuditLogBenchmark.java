@@ -0,0 +1,74 @@
+package com.example.taskmanagerapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.taskmanagerapi.modules.audit.services.AuditEventDrain;
+import com.example.taskmanagerapi.modules.audit.services.AuditEventPublisher;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.services.AuditLogService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * AuditLogService cost on the request thread: building the event and offering it to the queue
+ * A background thread drains the queue like AuditEventWriter, so events are not measured as drops
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditLogBenchmark {
+
+    private AuditLogService auditLogService;
+    private User user;
+    private Thread consumer;
+
+    @Setup
+    public void setup() {
+        AuditEventPublisher publisher = new AuditEventPublisher(65536, new SimpleMeterRegistry());
+        consumer = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (AuditEventDrain.discard(publisher, 1024) == 0) {
+                    LockSupport.parkNanos(50_000);
+                }
+            }
+        }, "audit-drain");
+        consumer.setDaemon(true);
+        consumer.start();
+
+        auditLogService = new AuditLogService(publisher);
+        user = BenchmarkFixtures.user();
+    }
+
+    @TearDown
+    public void stopConsumer() throws InterruptedException {
+        consumer.interrupt();
+        consumer.join();
+    }
+
+    @Benchmark
+    public void logLogin() {
+        auditLogService.logLogin(user, "203.0.113.42",
+            "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0 Safari/537.36");
+    }
+
+    @Benchmark
+    public void logTokenRefresh() {
+        auditLogService.logTokenRefresh(user, "203.0.113.42");
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.taskmanagerapi.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.example.taskmanagerapi.modules.auth.domain.RefreshToken;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.boards.domain.BoardType;
+import com.example.taskmanagerapi.modules.cards.domain.Card;
+import com.example.taskmanagerapi.modules.cards.domain.CardStatus;
+import com.example.taskmanagerapi.modules.lists.domain.BoardList;
+
+/**
+ * In-memory entities shaped like typical request payloads
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(UUID.randomUUID().toString());
+        user.setName("Maria Silva");
+        user.setUsername("maria.silva");
+        user.setEmail("maria.silva@example.com");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOHi5BtTQ4Wz6Jx0uYkK4xH1o1kS6Q9lG");
+        user.setEmailVerified(true);
+        return user;
+    }
+
+    /**
+     * A board with the given number of lists, each holding cardsPerList cards
+     */
+    static Board board(int lists, int cardsPerList) {
+        Board board = new Board();
+        board.setId(UUID.randomUUID().toString());
+        board.setName("Sprint planning");
+        board.setType(BoardType.BOARD);
+        board.setDescription("Backlog grooming and sprint commitments for the platform team");
+        board.setOwner(user());
+        board.setUpdatedAt(LocalDateTime.now());
+
+        List<BoardList> boardLists = new ArrayList<>();
+        for (int i = 0; i < lists; i++) {
+            BoardList list = new BoardList();
+            list.setId(UUID.randomUUID().toString());
+            list.setName("List " + i);
+            list.setPosition(i);
+            list.setBoard(board);
+            for (int j = 0; j < cardsPerList; j++) {
+                list.getCards().add(card(list, j));
+            }
+            boardLists.add(list);
+        }
+        board.setLists(boardLists);
+        return board;
+    }
+
+    static Card card(BoardList list, int position) {
+        Card card = new Card();
+        card.setId(UUID.randomUUID().toString());
+        card.setName("Card " + position);
+        card.setDescription("Investigate slow queries on the board detail endpoint and add missing indexes");
+        card.setStatus(CardStatus.ACTIVE);
+        card.setPosition(position);
+        card.setList(list);
+        card.setCreatedAt(LocalDateTime.now().minusDays(position));
+        card.setUpdatedAt(LocalDateTime.now());
+        return card;
+    }
+
+    static RefreshToken refreshToken() {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setToken(UUID.randomUUID().toString());
+        refreshToken.setUser(user());
+        refreshToken.setExpirationDate(LocalDateTime.now().plusDays(7));
+        refreshToken.setCreatedAt(LocalDateTime.now());
+        refreshToken.setIpAddress("203.0.113.42");
+        refreshToken.setUserAgent("Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0 Safari/537.36");
+        return refreshToken;
+    }
+}
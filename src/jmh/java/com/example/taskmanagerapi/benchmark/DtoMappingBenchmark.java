@@ -0,0 +1,60 @@
+package com.example.taskmanagerapi.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.boards.dto.BoardDetailDTO;
+import com.example.taskmanagerapi.modules.cards.domain.Card;
+import com.example.taskmanagerapi.modules.cards.dto.CardResponseDTO;
+
+/**
+ * Entity to response DTO mapping for card lists and board detail
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"5", "20"})
+    private int lists;
+
+    private Board board;
+    private List<Card> cards;
+
+    @Setup
+    public void setup() {
+        board = BenchmarkFixtures.board(lists, 10);
+        cards = board.getLists().get(0).getCards();
+    }
+
+    @Benchmark
+    public CardResponseDTO cardResponse() {
+        return new CardResponseDTO(cards.get(0));
+    }
+
+    @Benchmark
+    public List<CardResponseDTO> cardResponsesForList() {
+        return cards.stream().map(CardResponseDTO::new).toList();
+    }
+
+    @Benchmark
+    public BoardDetailDTO boardDetail() {
+        return new BoardDetailDTO(board);
+    }
+}
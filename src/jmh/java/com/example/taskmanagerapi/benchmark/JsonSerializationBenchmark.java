@@ -0,0 +1,76 @@
+package com.example.taskmanagerapi.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.taskmanagerapi.config.JacksonConfig;
+import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.boards.dto.BoardDetailDTO;
+import com.example.taskmanagerapi.modules.cards.dto.CardResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Jackson serialization of board payloads with the same settings as the HTTP message converter
+ * "default" is Boot's mapper as it was; "tuned" adds JacksonConfig's modules (Blackbird, ISO dates)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"5", "20"})
+    private int lists;
+
+    @Param({"default", "tuned"})
+    private String mapper;
+
+    private ObjectMapper objectMapper;
+    private BoardDetailDTO boardDetail;
+    private List<CardResponseDTO> cards;
+
+    @Setup
+    public void setup() {
+        // Spring Boot's defaults: builder defaults plus ISO-8601 dates
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (mapper.equals("tuned")) {
+            JacksonConfig config = new JacksonConfig();
+            builder.modulesToInstall(config.blackbirdModule(), config.isoLocalDateTimeModule());
+        }
+        objectMapper = builder.build();
+        Board board = BenchmarkFixtures.board(lists, 10);
+        boardDetail = new BoardDetailDTO(board);
+        cards = board.getLists().stream()
+            .flatMap(list -> list.getCards().stream())
+            .map(CardResponseDTO::new)
+            .toList();
+    }
+
+    @Benchmark
+    public byte[] boardDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(boardDetail);
+    }
+
+    @Benchmark
+    public byte[] boardCards() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cards);
+    }
+}
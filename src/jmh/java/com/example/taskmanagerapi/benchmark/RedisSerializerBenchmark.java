@@ -0,0 +1,62 @@
+package com.example.taskmanagerapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.example.taskmanagerapi.config.CachedRefreshTokenSerializer;
+import com.example.taskmanagerapi.config.RedisConfig;
+import com.example.taskmanagerapi.modules.auth.domain.CachedRefreshToken;
+
+/**
+ * Redis value codecs: the generic JSON serializer from RedisConfig against the
+ * binary refresh-token codec, on the same cached token
+ * The JSON side is write-only: its output (extra "expired" property, no @class on a
+ * final type) does not read back without a target type and lenient settings
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private CachedRefreshTokenSerializer binarySerializer;
+    private CachedRefreshToken token;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setup() {
+        jsonSerializer = RedisConfig.jsonRedisSerializer();
+        binarySerializer = new CachedRefreshTokenSerializer();
+        token = new CachedRefreshToken(BenchmarkFixtures.refreshToken());
+        binaryBytes = binarySerializer.serialize(token);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(token);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return binarySerializer.serialize(token);
+    }
+
+    @Benchmark
+    public CachedRefreshToken binaryDeserialize() {
+        return binarySerializer.deserialize(binaryBytes);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.taskmanagerapi.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+
+/**
+ * JWT signing and verification - runs on login/refresh and on every authenticated request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private TokenService tokenService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        tokenService = new TokenService();
+        // @Value-injected in the application
+        Field secret = ReflectionUtils.findField(TokenService.class, "secret");
+        ReflectionUtils.makeAccessible(secret);
+        ReflectionUtils.setField(secret, tokenService, "benchmark-secret-key");
+        user = BenchmarkFixtures.user();
+        token = tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String validateToken() {
+        return tokenService.validadeToken(token);
+    }
+}
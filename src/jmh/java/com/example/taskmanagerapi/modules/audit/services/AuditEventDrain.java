@@ -0,0 +1,17 @@
+package com.example.taskmanagerapi.modules.audit.services;
+
+/**
+ * Gives benchmarks the consumer side of AuditEventPublisher, which AuditEventWriter normally owns
+ */
+public final class AuditEventDrain {
+
+    private AuditEventDrain() {
+    }
+
+    /**
+     * Discard up to limit queued events; single consumer only
+     */
+    public static int discard(AuditEventPublisher publisher, int limit) {
+        return publisher.drain(event -> { }, limit);
+    }
+}
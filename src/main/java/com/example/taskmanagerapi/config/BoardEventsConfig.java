@@ -0,0 +1,77 @@
+package com.example.taskmanagerapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.example.taskmanagerapi.modules.boards.services.BoardEventRelay;
+
+@Configuration
+public class BoardEventsConfig {
+
+    /**
+     * Threads that write queued board events to SSE sockets (BoardEventBroadcaster)
+     * At most one task per subscriber is queued, so the queue is bounded by the subscriber limit
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor boardEventExecutor(
+            @Value("${app.board-events.sender-threads:4}") int senderThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(senderThreads);
+        executor.setMaxPoolSize(senderThreads);
+        executor.setThreadNamePrefix("board-events-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Virtual-thread variant: a client stalled on a full socket buffer only parks its own thread
+     */
+    @Bean("boardEventExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualBoardEventExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("board-events-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    /**
+     * Single thread that publishes relayed board events, in commit order (BoardEventRelay)
+     * Bounded so a Redis outage cannot grow the queue without limit; overflowing frames are dropped
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.board-events.relay.enabled", havingValue = "true", matchIfMissing = true)
+    public AsyncTaskExecutor boardEventRelayExecutor(
+            @Value("${app.board-events.relay.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("board-events-relay-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Subscribes the relay to board events published by other nodes
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.board-events.relay.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer boardEventListenerContainer(RedisConnectionFactory connectionFactory,
+            BoardEventRelay relay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(relay, new ChannelTopic(BoardEventRelay.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.taskmanagerapi.config;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.example.taskmanagerapi.modules.auth.domain.CachedRefreshToken;
+
+/**
+ * Binary codec for CachedRefreshToken values stored in Redis.
+ *
+ * Layout: format version (1 byte), expiration as epoch seconds (8 bytes), then
+ * token, userId, ipAddress and userAgent as length-prefixed UTF-8 strings
+ * (unsigned 2-byte length, 0xFFFF marks null). No class names, no field names.
+ */
+public class CachedRefreshTokenSerializer implements RedisSerializer<CachedRefreshToken> {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int NULL_LENGTH = 0xFFFF;
+    private static final int MAX_LENGTH = NULL_LENGTH - 1;
+
+    @Override
+    public byte[] serialize(CachedRefreshToken value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        byte[] token = encode(value.token());
+        byte[] userId = encode(value.userId());
+        byte[] ipAddress = encode(value.ipAddress());
+        byte[] userAgent = encode(value.userAgent());
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 + 4 * 2
+                + length(token) + length(userId) + length(ipAddress) + length(userAgent));
+        buffer.put(FORMAT_VERSION);
+        buffer.putLong(value.expirationDate().toEpochSecond(ZoneOffset.UTC));
+        put(buffer, token);
+        put(buffer, userId);
+        put(buffer, ipAddress);
+        put(buffer, userAgent);
+        return buffer.array();
+    }
+
+    @Override
+    public CachedRefreshToken deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            byte version = buffer.get();
+            if (version != FORMAT_VERSION) {
+                throw new SerializationException("Unsupported refresh token cache format: " + version);
+            }
+            LocalDateTime expirationDate = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+            return new CachedRefreshToken(
+                get(buffer),
+                get(buffer),
+                expirationDate,
+                get(buffer),
+                get(buffer)
+            );
+        } catch (RuntimeException e) {
+            if (e instanceof SerializationException) {
+                throw e;
+            }
+            throw new SerializationException("Could not read refresh token cache entry", e);
+        }
+    }
+
+    static byte[] encode(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_LENGTH) {
+            throw new SerializationException("Value too long for refresh token cache entry");
+        }
+        return bytes;
+    }
+
+    static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    static void put(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putShort((short) NULL_LENGTH);
+            return;
+        }
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    static String get(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.taskmanagerapi.config;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.RuntimeWiringConfigurer;
+
+import graphql.GraphQLContext;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.CoercedVariables;
+import graphql.language.StringValue;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.CoercingSerializeException;
+import graphql.schema.GraphQLScalarType;
+
+/**
+ * Limits and scalars for the /graphql endpoint
+ *
+ * Queries are checked before any data fetcher runs: nesting deeper than max-depth or
+ * selecting more than max-complexity fields (each field costs one, aliases count
+ * separately) is rejected with an error and no SQL. Batching keeps the statement
+ * count at one per hierarchy level; the limits bound how much a single document can
+ * ask for, e.g. the same listing repeated under a hundred aliases. Rows are bounded
+ * separately, by HierarchyLoaders (max-first, max-rows-per-level).
+ */
+@Configuration
+public class GraphQlConfig {
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+            @Value("${app.graphql.max-depth:10}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${app.graphql.max-complexity:200}") int maxComplexity) {
+        return new MaxQueryComplexityInstrumentation(maxComplexity);
+    }
+
+    /**
+     * LocalDateTime as ISO-8601 text, formatted like the REST responses
+     */
+    @Bean
+    public RuntimeWiringConfigurer localDateTimeScalar() {
+        GraphQLScalarType scalar = GraphQLScalarType.newScalar()
+            .name("LocalDateTime")
+            .coercing(new LocalDateTimeCoercing())
+            .build();
+        return wiring -> wiring.scalar(scalar);
+    }
+
+    private static final class LocalDateTimeCoercing implements Coercing<LocalDateTime, String> {
+
+        @Override
+        public String serialize(Object value, GraphQLContext context, Locale locale) {
+            if (value instanceof LocalDateTime dateTime) {
+                return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+            }
+            throw new CoercingSerializeException("Expected a LocalDateTime but was " + value.getClass().getName());
+        }
+
+        @Override
+        public LocalDateTime parseValue(Object value, GraphQLContext context, Locale locale) {
+            try {
+                return LocalDateTime.parse(value.toString());
+            } catch (DateTimeParseException e) {
+                throw new CoercingParseValueException("Not an ISO-8601 local date-time: " + value, e);
+            }
+        }
+
+        @Override
+        public LocalDateTime parseLiteral(graphql.language.Value<?> input, CoercedVariables variables,
+                GraphQLContext context, Locale locale) {
+            if (!(input instanceof StringValue string)) {
+                throw new CoercingParseLiteralException("Expected a string literal");
+            }
+            try {
+                return LocalDateTime.parse(string.getValue());
+            } catch (DateTimeParseException e) {
+                throw new CoercingParseLiteralException("Not an ISO-8601 local date-time: " + string.getValue(), e);
+            }
+        }
+    }
+}
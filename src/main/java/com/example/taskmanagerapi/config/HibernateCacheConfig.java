@@ -0,0 +1,62 @@
+package com.example.taskmanagerapi.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Hibernate second-level cache backed by Ehcache through JCache
+ *
+ * Caches the read-mostly entities (users, workspaces, boards, lists) that the
+ * controllers load by id for every ownership check, plus the per-request user
+ * lookup by email. Region sizes and TTLs live in ehcache.xml; a region missing
+ * there fails startup. The cache is local to each instance: committed changes are
+ * evicted on the other nodes through CacheInvalidationBus, and the TTLs bound
+ * staleness when that bus is disabled or Redis is unreachable.
+ *
+ * Disable with spring.jpa.properties.hibernate.cache.use_second_level_cache=false
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final String EHCACHE_CONFIG = "ehcache.xml";
+
+    /**
+     * A cache manager per application context: the JCache provider shares managers by URI,
+     * and Hibernate would otherwise close a manager still used by another context
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() throws IOException {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+            EhcacheCachingProvider.class.getName());
+        XmlConfiguration configuration = new XmlConfiguration(
+            new ClassPathResource(EHCACHE_CONFIG).getURL(), getClass().getClassLoader());
+        return provider.getCacheManager(URI.create("urn:hibernate-cache:" + UUID.randomUUID()), configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCache(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+            properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, "true");
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            // Boards and lists are created through their own repositories, not the parent's collection
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, "true");
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.taskmanagerapi.config;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+/**
+ * Writes LocalDateTime exactly as DateTimeFormatter.ISO_LOCAL_DATE_TIME would, without the formatter
+ *
+ * The digits go straight into a char array handed to the generator, so no
+ * String or formatter state is created per value. Timestamps in one response
+ * mostly share a day, so the "yyyy-MM-ddT" prefix of the last day seen is kept
+ * and reused. Years outside 0-9999, and WRITE_DATES_AS_TIMESTAMPS, fall back to
+ * the jsr310 serializer's output.
+ */
+public class IsoLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    private static final int MAX_LENGTH = 29;
+
+    private volatile DatePrefix lastDate = new DatePrefix(0, 0, 0, new char[0]);
+
+    public IsoLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            LocalDateTimeSerializer.INSTANCE.serialize(value, generator, provider);
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            generator.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+
+        char[] chars = new char[MAX_LENGTH];
+        char[] prefix = prefix(year, value.getMonthValue(), value.getDayOfMonth());
+        System.arraycopy(prefix, 0, chars, 0, prefix.length);
+        int length = prefix.length;
+        length = twoDigits(chars, length, value.getHour());
+        chars[length++] = ':';
+        length = twoDigits(chars, length, value.getMinute());
+        chars[length++] = ':';
+        length = twoDigits(chars, length, value.getSecond());
+
+        int nano = value.getNano();
+        if (nano > 0) {
+            chars[length++] = '.';
+            int fractionEnd = length + 9;
+            for (int i = fractionEnd - 1; i >= length; i--) {
+                chars[i] = (char) ('0' + nano % 10);
+                nano /= 10;
+            }
+            length = fractionEnd;
+            while (chars[length - 1] == '0') {
+                length--;
+            }
+        }
+        generator.writeString(chars, 0, length);
+    }
+
+    private char[] prefix(int year, int month, int day) {
+        DatePrefix cached = lastDate;
+        if (cached.year() == year && cached.month() == month && cached.day() == day) {
+            return cached.chars();
+        }
+        char[] chars = new char[11];
+        chars[0] = (char) ('0' + year / 1000);
+        chars[1] = (char) ('0' + year / 100 % 10);
+        chars[2] = (char) ('0' + year / 10 % 10);
+        chars[3] = (char) ('0' + year % 10);
+        chars[4] = '-';
+        twoDigits(chars, 5, month);
+        chars[7] = '-';
+        twoDigits(chars, 8, day);
+        chars[10] = 'T';
+        lastDate = new DatePrefix(year, month, day, chars);
+        return chars;
+    }
+
+    private static int twoDigits(char[] chars, int offset, int value) {
+        chars[offset] = (char) ('0' + value / 10);
+        chars[offset + 1] = (char) ('0' + value % 10);
+        return offset + 2;
+    }
+
+    private record DatePrefix(int year, int month, int day, char[] chars) {}
+}
@@ -0,0 +1,33 @@
+package com.example.taskmanagerapi.config;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Jackson modules for the response hot path
+ *
+ * Boot installs Module beans into its ObjectMapper and Jackson builder, so the JSON
+ * converter and the CBOR/Smile ones (BinaryFormatsConfig) all get them. Blackbird
+ * replaces reflective getter and constructor calls on the DTO records with generated
+ * lambdas; LocalDateTime values are written by IsoLocalDateTimeSerializer.
+ * Compare with JsonSerializationBenchmark (-Pjmh) before changing either.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Module isoLocalDateTimeModule() {
+        return new SimpleModule("IsoLocalDateTime").addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+    }
+}
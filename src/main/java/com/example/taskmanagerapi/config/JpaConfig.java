@@ -0,0 +1,23 @@
+package com.example.taskmanagerapi.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    /**
+     * Return the JDBC connection to the pool when each transaction ends
+     * Spring's default holds it until the open-in-view EntityManager closes, i.e. for
+     * the whole request: an SSE stream would keep a pooled connection for its lifetime,
+     * and with a read replica every later transaction would reuse the first one's pool
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.taskmanagerapi.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class MailConfig {
+
+    /**
+     * Bounded pool used by EmailOutboxDispatcher: at most pool-size lanes of domain batches
+     * per claim, so tasks never wait in the queue; caller-runs is only a safety net
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor emailDispatchExecutor(
+            @Value("${app.mail.outbox.pool-size:4}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("email-dispatch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Virtual-thread variant (spring.threads.virtual.enabled=true on Java 21+)
+     * pool-size still caps concurrent SMTP connections; the dispatcher submits no more lanes
+     * than that, so it never blocks on the limit. JavaMail's synchronized send pins the carrier
+     * while it writes
+     */
+    @Bean("emailDispatchExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualEmailDispatchExecutor(
+            @Value("${app.mail.outbox.pool-size:4}") int poolSize) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("email-dispatch-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(poolSize);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.taskmanagerapi.config;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Enables @Timed on beans; services annotated at class level get one timer
+     * (service.method) per public method, tagged with class, method and exception
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Cache meters that hibernate-micrometer's HibernateMetrics (bound by Spring Boot) lacks:
+     * the user-lookups query region, which it does not cover, and in-memory region sizes
+     */
+    @Bean
+    public MeterBinder hibernateCacheRegionMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> bindCacheRegions(registry, statistics);
+    }
+
+    /**
+     * Per-region cache meters (hibernate.cache.region.*, tagged with region)
+     * Query regions are created on first use, so the named ones are added explicitly
+     */
+    private static void bindCacheRegions(MeterRegistry registry, Statistics statistics) {
+        Set<String> regions = new TreeSet<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()));
+        regions.add(UserRepository.LOOKUP_CACHE_REGION);
+        for (String region : regions) {
+            regionCounter(registry, statistics, region, "hibernate.cache.region.requests", "hit",
+                CacheRegionStatistics::getHitCount);
+            regionCounter(registry, statistics, region, "hibernate.cache.region.requests", "miss",
+                CacheRegionStatistics::getMissCount);
+            regionCounter(registry, statistics, region, "hibernate.cache.region.puts", "total",
+                CacheRegionStatistics::getPutCount);
+            Gauge.builder("hibernate.cache.region.size", statistics,
+                    s -> regionValue(s, region, CacheRegionStatistics::getElementCountInMemory))
+                .tag("region", region)
+                .register(registry);
+        }
+    }
+
+    private static void regionCounter(MeterRegistry registry, Statistics statistics, String region, String name,
+            String result, ToLongFunction<CacheRegionStatistics> value) {
+        FunctionCounter.builder(name, statistics, s -> regionValue(s, region, value))
+            .tag("region", region)
+            .tag("result", result)
+            .register(registry);
+    }
+
+    private static double regionValue(Statistics statistics, String region,
+            ToLongFunction<CacheRegionStatistics> value) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics != null ? Math.max(value.applyAsLong(regionStatistics), 0) : 0;
+    }
+}
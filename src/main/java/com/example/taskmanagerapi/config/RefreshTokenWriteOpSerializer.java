@@ -0,0 +1,72 @@
+package com.example.taskmanagerapi.config;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.example.taskmanagerapi.modules.auth.domain.CachedRefreshToken;
+import com.example.taskmanagerapi.modules.auth.domain.RefreshTokenWriteOp;
+
+/**
+ * Binary codec for write-behind queue entries.
+ *
+ * Layout: format version (1 byte), op type (1 byte), occurredAt as epoch seconds
+ * (8 bytes), key as a length-prefixed UTF-8 string, then for SAVE the token in
+ * the CachedRefreshTokenSerializer format.
+ */
+public class RefreshTokenWriteOpSerializer implements RedisSerializer<RefreshTokenWriteOp> {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final RefreshTokenWriteOp.Type[] TYPES = RefreshTokenWriteOp.Type.values();
+
+    private final CachedRefreshTokenSerializer tokenSerializer = new CachedRefreshTokenSerializer();
+
+    @Override
+    public byte[] serialize(RefreshTokenWriteOp value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        byte[] key = CachedRefreshTokenSerializer.encode(value.key());
+        byte[] token = value.token() != null ? tokenSerializer.serialize(value.token()) : new byte[0];
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 1 + 8 + 2 + CachedRefreshTokenSerializer.length(key) + token.length);
+        buffer.put(FORMAT_VERSION);
+        buffer.put((byte) value.type().ordinal());
+        buffer.putLong(value.occurredAt().toEpochSecond(ZoneOffset.UTC));
+        CachedRefreshTokenSerializer.put(buffer, key);
+        buffer.put(token);
+        return buffer.array();
+    }
+
+    @Override
+    public RefreshTokenWriteOp deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            byte version = buffer.get();
+            if (version != FORMAT_VERSION) {
+                throw new SerializationException("Unsupported write-behind op format: " + version);
+            }
+            RefreshTokenWriteOp.Type type = TYPES[buffer.get()];
+            LocalDateTime occurredAt = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+            String key = CachedRefreshTokenSerializer.get(buffer);
+            CachedRefreshToken token = buffer.hasRemaining()
+                    ? tokenSerializer.deserialize(Arrays.copyOfRange(bytes, buffer.position(), bytes.length))
+                    : null;
+            return new RefreshTokenWriteOp(type, key, occurredAt, token);
+        } catch (RuntimeException e) {
+            if (e instanceof SerializationException) {
+                throw e;
+            }
+            throw new SerializationException("Could not read write-behind op", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.taskmanagerapi.infra.compression;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * CompressionFilter - Gzips large JSON responses and records the bytes saved
+ *
+ * Used instead of Tomcat's connector compression, whose savings the application
+ * cannot see. The body is buffered up to min-response-size and only then switched
+ * to a gzip stream, so small responses and anything flushed early (server-sent
+ * events) go out as written. Only the configured mime types are compressed, and
+ * only for clients that send Accept-Encoding: gzip; level (1-9) trades CPU for ratio.
+ * Every response of those types carries Vary: Accept-Encoding, compressed or not,
+ * so a shared cache never hands a gzipped body to a client that did not ask for one.
+ *
+ * Runs just inside ServerTimingFilter, so compression time is not attributed to a layer.
+ * Metrics: http.compression.original and http.compression.saved, in bytes per compressed response.
+ */
+@Component
+@ConditionalOnProperty(name = "app.compression.enabled", havingValue = "true", matchIfMissing = true)
+public class CompressionFilter extends OncePerRequestFilter implements Ordered {
+
+    static final String GZIP = "gzip";
+
+    private final DistributionSummary originalBytes;
+    private final DistributionSummary savedBytes;
+    private final int minResponseSize;
+    private final int level;
+    private final List<MediaType> mimeTypes;
+
+    public CompressionFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.compression.min-response-size:2KB}") DataSize minResponseSize,
+            @Value("${app.compression.level:5}") int level,
+            @Value("${app.compression.mime-types:application/json,application/*+json}") String mimeTypes) {
+        this.originalBytes = DistributionSummary.builder("http.compression.original")
+            .description("Size of responses before gzip")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.savedBytes = DistributionSummary.builder("http.compression.saved")
+            .description("Bytes gzip removed from responses")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.minResponseSize = (int) minResponseSize.toBytes();
+        this.level = level;
+        this.mimeTypes = MediaType.parseMediaTypes(mimeTypes);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        GzipResponseWrapper compressing = new GzipResponseWrapper(response, this,
+            acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING)));
+        filterChain.doFilter(request, compressing);
+        if (request.isAsyncStarted()) {
+            // Written from other threads from now on; pass everything through as is
+            compressing.passThrough();
+        } else {
+            compressing.finish();
+        }
+    }
+
+    int minResponseSize() {
+        return minResponseSize;
+    }
+
+    int level() {
+        return level;
+    }
+
+    boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType type = MediaType.parseMediaType(contentType);
+            return mimeTypes.stream().anyMatch(candidate -> candidate.includes(type));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    void recordCompressed(long original, long compressed) {
+        originalBytes.record(original);
+        savedBytes.record(Math.max(0, original - compressed));
+    }
+
+    /**
+     * True if the Accept-Encoding header lists gzip (or *) without q=0
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase(GZIP) && !name.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                refused |= parameter.equals("q=0") || parameter.matches("q=0\\.0{0,3}");
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
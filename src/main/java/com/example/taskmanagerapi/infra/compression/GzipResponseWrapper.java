@@ -0,0 +1,304 @@
+package com.example.taskmanagerapi.infra.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Response whose body is held back until it is known whether to gzip it
+ *
+ * Bytes are buffered until min-response-size is reached (gzip, if the content type
+ * is compressible) or the body is flushed or finished first (sent as is). The
+ * Content-Length set by the application is withheld until then, since a gzipped
+ * body is sent without one. For clients that do not accept gzip it writes straight
+ * through. Either way a compressible content type adds Vary: Accept-Encoding.
+ */
+class GzipResponseWrapper extends HttpServletResponseWrapper {
+
+    private enum Mode { BUFFERING, PLAIN, GZIP, FINISHED }
+
+    private final CompressionFilter filter;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private Mode mode;
+    private long contentLength = -1;
+    private CompressingOutputStream outputStream;
+    private PrintWriter writer;
+    private OutputStream target;
+    private CountingOutputStream sent;
+    private long originalBytes;
+
+    GzipResponseWrapper(HttpServletResponse response, CompressionFilter filter, boolean acceptsGzip) {
+        super(response);
+        this.filter = filter;
+        this.mode = acceptsGzip ? Mode.BUFFERING : Mode.PLAIN;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        if (outputStream == null) {
+            outputStream = new CompressingOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called");
+            }
+            outputStream = new CompressingOutputStream();
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentType(String type) {
+        super.setContentType(type);
+        if (filter.isCompressible(type)) {
+            varyOnAcceptEncoding();
+        }
+    }
+
+    @Override
+    public void setContentLength(int length) {
+        setContentLengthLong(length);
+    }
+
+    @Override
+    public void setContentLengthLong(long length) {
+        if (mode == Mode.PLAIN) {
+            super.setContentLengthLong(length);
+        } else {
+            contentLength = length;
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value != null ? Long.parseLong(value) : -1);
+        } else if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+            setContentType(value);
+        } else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Long.parseLong(value));
+        } else if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+            setContentType(value);
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value);
+        } else {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (outputStream != null) {
+            outputStream.flush();
+        }
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        buffer.reset();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        buffer.reset();
+        contentLength = -1;
+    }
+
+    /**
+     * Send what is buffered uncompressed and write through from now on
+     */
+    void passThrough() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (mode == Mode.BUFFERING) {
+            decide(false);
+        }
+    }
+
+    /**
+     * Complete the body: small ones go out as is, a gzip stream gets its trailer
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (mode == Mode.BUFFERING) {
+            decide(false);
+        } else if (mode == Mode.GZIP) {
+            ((GZIPOutputStream) target).finish();
+            filter.recordCompressed(originalBytes, sent.count);
+            mode = Mode.FINISHED;
+        }
+    }
+
+    private void decide(boolean largeEnough) throws IOException {
+        HttpServletResponse response = (HttpServletResponse) getResponse();
+        if (largeEnough && !response.isCommitted() && !response.containsHeader(HttpHeaders.CONTENT_ENCODING)
+                && filter.isCompressible(getContentType())) {
+            mode = Mode.GZIP;
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, CompressionFilter.GZIP);
+            varyOnAcceptEncoding();
+            sent = new CountingOutputStream(response.getOutputStream());
+            target = new LevelGzipOutputStream(sent, filter.level());
+            originalBytes = buffer.size();
+        } else {
+            mode = Mode.PLAIN;
+            if (contentLength >= 0) {
+                response.setContentLengthLong(contentLength);
+            }
+            if (buffer.size() == 0) {
+                // Nothing written yet: leave the response free for sendError and error pages
+                return;
+            }
+        }
+        buffer.writeTo(target());
+        buffer.reset();
+    }
+
+    private void varyOnAcceptEncoding() {
+        HttpServletResponse response = (HttpServletResponse) getResponse();
+        boolean present = response.getHeaders(HttpHeaders.VARY).stream()
+            .flatMap(value -> Arrays.stream(value.split(",")))
+            .map(String::trim)
+            .anyMatch(token -> token.equals("*") || token.equalsIgnoreCase(HttpHeaders.ACCEPT_ENCODING));
+        if (!present) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+
+    private OutputStream target() throws IOException {
+        if (target == null) {
+            target = getResponse().getOutputStream();
+        }
+        return target;
+    }
+
+    private void write(byte[] bytes, int offset, int length) throws IOException {
+        if (mode == Mode.BUFFERING) {
+            buffer.write(bytes, offset, length);
+            if (buffer.size() >= filter.minResponseSize()) {
+                decide(true);
+            }
+            return;
+        }
+        if (mode == Mode.FINISHED) {
+            throw new IOException("Response body already finished");
+        }
+        if (mode == Mode.GZIP) {
+            originalBytes += length;
+        }
+        target().write(bytes, offset, length);
+    }
+
+    /**
+     * The stream handed to the application; an explicit flush before the threshold means streaming
+     */
+    private class CompressingOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            GzipResponseWrapper.this.write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            GzipResponseWrapper.this.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (mode == Mode.BUFFERING) {
+                decide(false);
+            }
+            if (target != null && mode != Mode.FINISHED) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("Non-blocking writes are not supported");
+        }
+    }
+
+    private static class LevelGzipOutputStream extends GZIPOutputStream {
+
+        LevelGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, 8192);
+            def.setLevel(level);
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.taskmanagerapi.infra.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OptimisticRetry - Runs a read-modify-write in its own transaction, again on a version conflict
+ *
+ * Each attempt must load what it changes: the rolled-back attempt leaves the
+ * persistence context cleared, so the next one re-reads current rows and
+ * re-resolves positions against them. The conflicting entity is also evicted
+ * from the second-level cache, which may hold a version another node has
+ * already replaced. Lock timeouts and deadlocks between writers are retried
+ * the same way. Attempts back off with jitter; after max-attempts the
+ * conflict is rethrown (409). Inside an outer transaction the work runs once,
+ * since a failed flush has already doomed that transaction.
+ *
+ * Metrics: optimistic.retries and optimistic.exhausted, tagged by operation.
+ */
+@Component
+@Slf4j
+public class OptimisticRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffNanos;
+
+    public OptimisticRetry(
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory,
+            MeterRegistry meterRegistry,
+            @Value("${app.concurrency.optimistic.max-attempts:5}") int maxAttempts,
+            @Value("${app.concurrency.optimistic.backoff:5ms}") Duration backoff) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffNanos = backoff.toNanos();
+    }
+
+    public <T> T execute(String operation, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        for (int attempt = 1;; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (ConcurrencyFailureException e) {
+                evict(e);
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("optimistic.exhausted", "operation", operation).increment();
+                    log.warn("{} still conflicting after {} attempts", operation, attempt);
+                    throw e;
+                }
+                meterRegistry.counter("optimistic.retries", "operation", operation).increment();
+                pause(attempt);
+            }
+        }
+    }
+
+    private void evict(ConcurrencyFailureException e) {
+        if (e instanceof ObjectOptimisticLockingFailureException conflict
+                && conflict.getPersistentClass() != null && conflict.getIdentifier() != null) {
+            entityManagerFactory.getCache().evict(conflict.getPersistentClass(), conflict.getIdentifier());
+        }
+    }
+
+    /**
+     * Random pause of up to attempt x backoff, so colliding writers spread out
+     */
+    private void pause(int attempt) {
+        if (backoffNanos <= 0) {
+            return;
+        }
+        long nanos = ThreadLocalRandom.current().nextLong(backoffNanos * attempt);
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.taskmanagerapi.infra.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.taskmanagerapi.modules.auth.domain.User;
+
+/**
+ * ReadYourWritesTracker - Keeps a user's reads on the primary right after their own writes
+ *
+ * A committed read-write transaction marks the authenticated user as sticky for
+ * the configured window, long enough for the replica to catch up. Marks live in
+ * this instance only: a user whose next request lands on another node can still
+ * read from a lagging replica. A zero window disables stickiness.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Mark the current user, if any, as having just written
+     */
+    public void recordWrite() {
+        String userId = currentUserId();
+        if (userId != null && windowNanos > 0) {
+            stickyUntil.put(userId, System.nanoTime() + windowNanos);
+        }
+    }
+
+    /**
+     * Whether the current user wrote within the window
+     */
+    public boolean isSticky() {
+        if (windowNanos <= 0 || stickyUntil.isEmpty()) {
+            return false;
+        }
+        String userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(userId);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.sticky-prune-interval:60000}")
+    public void prune() {
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    int size() {
+        return stickyUntil.size();
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user.getId() : null;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.taskmanagerapi.infra.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * ReplicaRoutingDataSource - Sends read-only transactions to the replica pool
+ *
+ * The route is chosen when a physical connection is fetched, so this must sit
+ * behind a LazyConnectionDataSourceProxy: the transaction's read-only flag is
+ * only bound after the transaction manager has asked for a connection.
+ * Everything outside a read-only transaction (writes, lazy loads after the
+ * transaction, startup migrations) goes to the primary, as do read-only
+ * transactions of a user who has just written (see ReadYourWritesTracker) and
+ * those that called requirePrimary().
+ *
+ * A session routed to the replica only reads the second-level cache
+ * (CacheMode.GET) until its transaction ends: rows the replica has not caught
+ * up on must not be cached where later primary transactions would load them.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private static final Object WRITE_MARKER = new Object();
+    private static final Object PRIMARY_MARKER = new Object();
+
+    private final ReadYourWritesTracker tracker;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter stickyRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker tracker,
+            ObjectProvider<EntityManagerFactory> entityManagerFactory, MeterRegistry meterRegistry) {
+        this.tracker = tracker;
+        this.entityManagerFactory = entityManagerFactory;
+        this.primaryRoutes = meterRegistry.counter("datasource.routing", "route", "primary");
+        this.replicaRoutes = meterRegistry.counter("datasource.routing", "route", "replica");
+        this.stickyRoutes = meterRegistry.counter("datasource.routing", "route", "sticky");
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    /**
+     * Keep the current read-only transaction on the primary, for reads that must not lag
+     * Must be called before the transaction's first statement; a no-op without a replica
+     */
+    public static void requirePrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(PRIMARY_MARKER)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(PRIMARY_MARKER, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PRIMARY_MARKER);
+            }
+        });
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            watchForCommit();
+            return Route.PRIMARY;
+        }
+        if (TransactionSynchronizationManager.hasResource(PRIMARY_MARKER)) {
+            primaryRoutes.increment();
+            return Route.PRIMARY;
+        }
+        if (tracker.isSticky()) {
+            stickyRoutes.increment();
+            return Route.PRIMARY;
+        }
+        replicaRoutes.increment();
+        skipCachePuts();
+        return Route.REPLICA;
+    }
+
+    /**
+     * Stop the transaction's session from putting replica rows into the second-level cache
+     * The open-in-view session outlives the transaction, so its cache mode is restored afterwards
+     */
+    private void skipCachePuts() {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || !(TransactionSynchronizationManager.getResource(factory) instanceof EntityManagerHolder holder)) {
+            return;
+        }
+        Session session = holder.getEntityManager().unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        if (previous == CacheMode.GET || previous == CacheMode.IGNORE) {
+            return;
+        }
+        session.setCacheMode(CacheMode.GET);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (session.isOpen()) {
+                    session.setCacheMode(previous);
+                }
+            }
+        });
+    }
+
+    /**
+     * Mark the user sticky once the read-write transaction using this connection commits
+     */
+    private void watchForCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.recordWrite();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+}
@@ -2,14 +2,18 @@ package com.example.taskmanagerapi.infra.exception;
 
 import java.util.List;
 
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mail.MailAuthenticationException;
 import org.springframework.mail.MailException;
+import org.springframework.orm.ObjectRetrievalFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.example.taskmanagerapi.infra.fields.InvalidFieldsException;
+
 /**
  * GlobalExceptionHandler - Centralizes error handling for the entire API.
  * Converts Spring validation errors into clean, consistent JSON responses.
@@ -56,6 +60,36 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("EMAIL_SEND_ERROR", "Failed to send email. Please try again later.", HttpStatus.INTERNAL_SERVER_ERROR.value()));
     }
 
+    /**
+     * Handles edits that kept conflicting with concurrent ones after all retries.
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyFailure(ConcurrencyFailureException ex) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse("CONCURRENT_MODIFICATION", "The resource was changed concurrently. Please reload and try again.", HttpStatus.CONFLICT.value()));
+    }
+
+    /**
+     * Handles entities deleted concurrently while being edited.
+     */
+    @ExceptionHandler(ObjectRetrievalFailureException.class)
+    public ResponseEntity<ErrorResponse> handleObjectRetrievalFailure(ObjectRetrievalFailureException ex) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse("NOT_FOUND", "The resource no longer exists.", HttpStatus.NOT_FOUND.value()));
+    }
+
+    /**
+     * Handles ?fields= parameters naming unknown fields.
+     */
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFields(InvalidFieldsException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("INVALID_FIELDS", ex.getMessage(), HttpStatus.BAD_REQUEST.value()));
+    }
+
     // DTO records used in the response body
     public record ValidationErrorResponse(String code, String message, int statusCode, List<FieldError> errors) {}
     public record FieldError(String field, String message) {}
@@ -0,0 +1,148 @@
+package com.example.taskmanagerapi.infra.fields;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * FieldCatalog - The fields of a response DTO and the SQL expression that reads each one
+ *
+ * Backs ?fields= sparse fieldsets: only the requested expressions are selected, so a
+ * client asking for id,name,position never reads a card's description. Expressions are
+ * written against the catalog's FROM alias; derived fields (a card's list name, a
+ * board's list count) are correlated subqueries and cost nothing unless requested.
+ * The GraphQL loaders read whole levels of the hierarchy through queryByParents,
+ * with a row cap per parent and per level.
+ */
+public final class FieldCatalog {
+
+    /**
+     * Parent ids bound to one statement; more are read in several, keeping IN lists within driver limits
+     */
+    static final int MAX_PARENTS_PER_QUERY = 500;
+
+    private final String from;
+    private final Map<String, Field> fields = new LinkedHashMap<>();
+
+    public FieldCatalog(String from) {
+        this.from = from;
+    }
+
+    /**
+     * Register a field under its DTO name, in DTO order
+     */
+    public FieldCatalog field(String name, String expression, Class<?> type) {
+        fields.put(name, new Field(expression, type));
+        return this;
+    }
+
+    public Set<String> names() {
+        return Collections.unmodifiableSet(fields.keySet());
+    }
+
+    /**
+     * Parse a comma-separated fields parameter; the selection keeps DTO order
+     *
+     * @throws InvalidFieldsException if a field is unknown or none is given
+     */
+    public Selection select(String requested) {
+        Set<String> wanted = new LinkedHashSet<>();
+        for (String name : requested.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!fields.containsKey(trimmed)) {
+                throw new InvalidFieldsException("Unknown field '" + trimmed + "'; available: "
+                    + String.join(",", fields.keySet()));
+            }
+            wanted.add(trimmed);
+        }
+        if (wanted.isEmpty()) {
+            throw new InvalidFieldsException("fields must name at least one of: " + String.join(",", fields.keySet()));
+        }
+        return new Selection(fields.keySet().stream().filter(wanted::contains).toList());
+    }
+
+    private record Field(String expression, Class<?> type) {}
+
+    /**
+     * A parsed fields parameter, ready to run against a WHERE/ORDER BY tail
+     */
+    public final class Selection {
+
+        private final List<String> names;
+
+        private Selection(List<String> names) {
+            this.names = names;
+        }
+
+        /**
+         * Rows as field-name maps; the condition is appended to SELECT ... FROM and may hold ? parameters
+         */
+        public List<Map<String, Object>> query(JdbcTemplate jdbcTemplate, String condition, Object... args) {
+            String sql = "SELECT " + names.stream().map(name -> fields.get(name).expression())
+                .collect(Collectors.joining(", ")) + " FROM " + from + " " + condition;
+            return jdbcTemplate.query(sql, (rs, rowNum) -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                for (int i = 0; i < names.size(); i++) {
+                    row.put(names.get(i), rs.getObject(i + 1, fields.get(names.get(i)).type()));
+                }
+                return row;
+            }, args);
+        }
+
+        /**
+         * Rows of many parents, grouped by parent id; parents without rows are absent
+         *
+         * Each parent contributes at most perParent rows, the first in orderBy order. Parent
+         * ids are bound MAX_PARENTS_PER_QUERY to a statement, and reading stops with a
+         * RowLimitExceededException as soon as more than maxRows rows have come back.
+         */
+        public Map<String, List<Map<String, Object>>> queryByParents(JdbcTemplate jdbcTemplate,
+                String parentExpression, Collection<String> parentIds, String orderBy, int perParent, int maxRows) {
+            Map<String, List<Map<String, Object>>> grouped = new LinkedHashMap<>();
+            List<String> ids = List.copyOf(parentIds);
+            int[] rows = { 0 };
+            for (int start = 0; start < ids.size(); start += MAX_PARENTS_PER_QUERY) {
+                List<String> chunk = ids.subList(start, Math.min(start + MAX_PARENTS_PER_QUERY, ids.size()));
+                List<Object> args = new ArrayList<>(chunk);
+                args.add(perParent);
+                jdbcTemplate.query(byParentsSql(parentExpression, chunk.size(), orderBy), rs -> {
+                    if (++rows[0] > maxRows) {
+                        throw new RowLimitExceededException("The query reads more than " + maxRows
+                            + " rows at one level; ask for fewer with first");
+                    }
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 0; i < names.size(); i++) {
+                        row.put(names.get(i), rs.getObject(i + 2, fields.get(names.get(i)).type()));
+                    }
+                    grouped.computeIfAbsent(rs.getString(1), parent -> new ArrayList<>()).add(row);
+                }, args.toArray());
+            }
+            return grouped;
+        }
+
+        /**
+         * Parent id, the selected fields, then the row's rank within its parent (ranks above ? filtered out)
+         */
+        private String byParentsSql(String parentExpression, int parents, String orderBy) {
+            StringBuilder columns = new StringBuilder(parentExpression + " AS parent_id");
+            for (int i = 0; i < names.size(); i++) {
+                columns.append(", ").append(fields.get(names.get(i)).expression()).append(" AS f").append(i);
+            }
+            return "SELECT * FROM (SELECT " + columns + ", ROW_NUMBER() OVER (PARTITION BY " + parentExpression
+                + " ORDER BY " + orderBy + ") AS parent_rank FROM " + from + " WHERE " + parentExpression
+                + " IN (" + String.join(", ", Collections.nCopies(parents, "?")) + ")) ranked"
+                + " WHERE parent_rank <= ? ORDER BY parent_rank";
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.taskmanagerapi.infra.fields;
+
+/**
+ * InvalidFieldsException - A ?fields= parameter naming no field or an unknown one
+ */
+public class InvalidFieldsException extends IllegalArgumentException {
+
+    public InvalidFieldsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.taskmanagerapi.infra.fields;
+
+/**
+ * RowLimitExceededException - A read asking for more rows than a caller may take at once
+ */
+public class RowLimitExceededException extends IllegalArgumentException {
+
+    public RowLimitExceededException(String message) {
+        super(message);
+    }
+}
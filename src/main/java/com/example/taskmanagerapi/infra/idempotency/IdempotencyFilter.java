@@ -0,0 +1,497 @@
+package com.example.taskmanagerapi.infra.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.example.taskmanagerapi.infra.exception.GlobalExceptionHandler.ErrorResponse;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * IdempotencyFilter - Answers retried creates and moves from Redis
+ *
+ * Applies to the create endpoints (workspaces, boards, lists, cards), card
+ * moves and batches when the request carries an Idempotency-Key header. The
+ * first request claims the key with SET NX, runs normally and stores its 2xx
+ * response for ttl; a retry with the same key, method, path and body gets the
+ * stored response (Idempotent-Replayed: true) without reaching the controllers.
+ * The Accept header is part of the request: the stored body is in the format it
+ * negotiated, so a retry asking for another format is a different request.
+ *
+ * A duplicate arriving while the first is still running waits for its result
+ * without holding a request thread: it goes async and Redis is polled from a
+ * single waiter thread, so this also works across nodes. It gets 409 (with
+ * Retry-After) after wait-timeout, if the first request fails or if the key
+ * keeps vanishing while it tries to claim it. Reusing a key for a different
+ * request is a 422, and a body over max-body-size is a 413, as it is buffered
+ * in memory to fingerprint it. Each claim carries an owner token, and the
+ * response is stored or the key released only while that claim still holds
+ * it, so a request whose claim expired after lock-ttl cannot touch the claim
+ * of the request that took the key over. Failed requests release the key so
+ * the client can retry them. Keys are scoped to the user; if Redis is
+ * unavailable the request runs without idempotency.
+ *
+ * Runs after the Spring Security chain, so the user is already authenticated.
+ * Metric: idempotency.requests tagged with result.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter implements Ordered {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_MILLIS = 20;
+    private static final long MAX_POLL_MILLIS = 250;
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+    private static final List<Endpoint> ENDPOINTS = List.of(
+        new Endpoint(HttpMethod.POST, PARSER.parse("/workspaces")),
+        new Endpoint(HttpMethod.POST, PARSER.parse("/boards")),
+        new Endpoint(HttpMethod.POST, PARSER.parse("/boards/{boardId}/lists")),
+        new Endpoint(HttpMethod.POST, PARSER.parse("/boards/{boardId}/lists/{listId}/cards")),
+        new Endpoint(HttpMethod.PATCH, PARSER.parse("/boards/{boardId}/lists/{listId}/cards/{cardId}/move")),
+        new Endpoint(HttpMethod.POST, PARSER.parse("/batch"))
+    );
+
+    /**
+     * Replace our claim with the stored response, only while the claim is still ours
+     * KEYS: idempotency key. ARGV: our claim, completed record, ttl millis
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * Delete our claim, only while it is still ours
+     * KEYS: idempotency key. ARGV: our claim
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final ThreadPoolTaskScheduler waiter = new ThreadPoolTaskScheduler();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration lockTtl;
+    private final Duration waitTimeout;
+    private final int maxBodyBytes;
+
+    public IdempotencyFilter(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.idempotency.ttl:24h}") Duration ttl,
+            @Value("${app.idempotency.lock-ttl:30s}") Duration lockTtl,
+            @Value("${app.idempotency.wait-timeout:10s}") Duration waitTimeout,
+            @Value("${app.idempotency.max-body-size:1MB}") DataSize maxBodySize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.lockTtl = lockTtl;
+        this.waitTimeout = waitTimeout;
+        this.maxBodyBytes = Math.toIntExact(maxBodySize.toBytes());
+    }
+
+    @PostConstruct
+    void startWaiter() {
+        waiter.setPoolSize(1);
+        waiter.setThreadNamePrefix("idempotency-wait-");
+        waiter.initialize();
+    }
+
+    @PreDestroy
+    void stopWaiter() {
+        waiter.shutdown();
+    }
+
+    @Override
+    public int getOrder() {
+        return SecurityProperties.DEFAULT_FILTER_ORDER + 1;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (request.getHeader(IDEMPOTENCY_KEY) == null) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(
+            request.getRequestURI().substring(request.getContextPath().length()));
+        return ENDPOINTS.stream().noneMatch(endpoint -> endpoint.matches(request.getMethod(), path));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters.");
+            return;
+        }
+
+        // Never buffers more than one byte past the limit, whatever Content-Length claims
+        byte[] body = request.getContentLengthLong() > maxBodyBytes
+            ? null
+            : request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body == null || body.length > maxBodyBytes) {
+            count("too_large");
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "REQUEST_BODY_TOO_LARGE",
+                "Requests with an Idempotency-Key may have at most " + maxBodyBytes + " bytes of body.");
+            return;
+        }
+        HttpServletRequest bufferedRequest = new BufferedBodyRequest(request, body);
+        String redisKey = KEY_PREFIX + user.getId() + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request, body);
+        String claim = objectMapper.writeValueAsString(
+            IdempotencyRecord.pending(fingerprint, UUID.randomUUID().toString()));
+
+        IdempotencyRecord existing;
+        try {
+            existing = claim(redisKey, claim);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency store unavailable, processing request without it: {}", e.getMessage());
+            count("unavailable");
+            filterChain.doFilter(bufferedRequest, response);
+            return;
+        } catch (ClaimContendedException e) {
+            count("contended");
+            writeInUse(response);
+            return;
+        }
+
+        if (existing == null) {
+            count("first");
+            execute(bufferedRequest, response, filterChain, redisKey, claim, fingerprint);
+        } else if (!existing.fingerprint().equals(fingerprint)) {
+            count("mismatch");
+            writeKeyReused(response);
+        } else if (!existing.completed()) {
+            await(bufferedRequest, response, redisKey, fingerprint);
+        } else {
+            count("replayed");
+            replay(existing, response);
+        }
+    }
+
+    /**
+     * Claims the key and returns null, or returns the record of the request that holds it
+     * The key can vanish between SET NX and GET (expired or released); that is retried with a
+     * short backoff MAX_CLAIM_ATTEMPTS times before giving up
+     */
+    private IdempotencyRecord claim(String redisKey, String claim) throws IOException, ClaimContendedException {
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            if (attempt > 0) {
+                backOff(attempt);
+            }
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(redisKey, claim, lockTtl))) {
+                return null;
+            }
+            String stored = redisTemplate.opsForValue().get(redisKey);
+            if (stored != null) {
+                return objectMapper.readValue(stored, IdempotencyRecord.class);
+            }
+        }
+        throw new ClaimContendedException();
+    }
+
+    private static void backOff(int attempt) throws ClaimContendedException {
+        try {
+            Thread.sleep(POLL_MILLIS * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClaimContendedException();
+        }
+    }
+
+    /**
+     * Waits for the request holding the key off the request thread: the request goes async and
+     * the waiter polls Redis, backing off up to MAX_POLL_MILLIS, until the holder stores its
+     * response, gives the key up or wait-timeout passes
+     */
+    private void await(HttpServletRequest request, HttpServletResponse response, String redisKey,
+            String fingerprint) throws IOException {
+        if (!request.isAsyncSupported()) {
+            count("in_flight");
+            writeInUse(response);
+            return;
+        }
+        AsyncContext async = request.startAsync(request, response);
+        // Backstop only: the waiter answers at wait-timeout, before the container would
+        async.setTimeout(waitTimeout.toMillis() + 1000);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        schedulePoll(async, redisKey, fingerprint, deadline, POLL_MILLIS);
+    }
+
+    private void schedulePoll(AsyncContext async, String redisKey, String fingerprint, long deadline, long delay) {
+        waiter.schedule(() -> poll(async, redisKey, fingerprint, deadline, delay), Instant.now().plusMillis(delay));
+    }
+
+    private void poll(AsyncContext async, String redisKey, String fingerprint, long deadline, long delay) {
+        HttpServletResponse response = (HttpServletResponse) async.getResponse();
+        try {
+            String stored = redisTemplate.opsForValue().get(redisKey);
+            IdempotencyRecord existing = stored != null
+                ? objectMapper.readValue(stored, IdempotencyRecord.class)
+                : null;
+            if (existing == null) {
+                count("released");
+                writeInUse(response);
+            } else if (!existing.fingerprint().equals(fingerprint)) {
+                count("mismatch");
+                writeKeyReused(response);
+            } else if (existing.completed()) {
+                count("replayed");
+                replay(existing, response);
+            } else if (System.nanoTime() < deadline) {
+                schedulePoll(async, redisKey, fingerprint, deadline, Math.min(delay * 2, MAX_POLL_MILLIS));
+                return;
+            } else {
+                count("in_flight");
+                writeInUse(response);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Idempotency store unavailable while waiting for {}: {}", redisKey, e.getMessage());
+            count("unavailable");
+            writeQuietly(response);
+        } catch (IOException e) {
+            log.debug("Could not answer a waiting duplicate: {}", e.getMessage());
+        }
+        async.complete();
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+            String redisKey, String claim, String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, cachingResponse);
+            int status = cachingResponse.getStatus();
+            if (status >= 200 && status < 300) {
+                IdempotencyRecord record = new IdempotencyRecord(fingerprint, null, status,
+                    cachingResponse.getContentType(), cachingResponse.getHeader(HttpHeaders.LOCATION),
+                    cachingResponse.getContentAsByteArray());
+                Long stored = redisTemplate.execute(COMPLETE_SCRIPT, List.of(redisKey), claim,
+                    objectMapper.writeValueAsString(record), String.valueOf(ttl.toMillis()));
+                if (!Long.valueOf(1).equals(stored)) {
+                    log.warn("Idempotency claim for {} expired before its response was stored",
+                        request.getRequestURI());
+                }
+                completed = true;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not store idempotent response for {}: {}", request.getRequestURI(), e.getMessage());
+        } finally {
+            if (!completed) {
+                release(redisKey, claim);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Delete the key if it still holds this claim; a claim that expired and was taken over is left alone
+     */
+    void release(String redisKey, String claim) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(redisKey), claim);
+        } catch (DataAccessException e) {
+            log.warn("Could not release idempotency key, it expires after {}: {}", lockTtl, e.getMessage());
+        }
+    }
+
+    private static void replay(IdempotencyRecord record, HttpServletResponse response) throws IOException {
+        response.setStatus(record.status());
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        // The stored body was content-negotiated, as NegotiatedBodyAdvice marks live responses
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        if (record.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, record.location());
+        }
+        if (record.body() != null) {
+            response.setContentLength(record.body().length);
+            response.getOutputStream().write(record.body());
+        }
+    }
+
+    private void writeKeyReused(HttpServletResponse response) throws IOException {
+        writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+            "This Idempotency-Key was already used for a different request.");
+    }
+
+    private void writeInUse(HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        writeError(response, HttpStatus.CONFLICT, "IDEMPOTENCY_KEY_IN_USE",
+            "A request with this Idempotency-Key is still being processed. Please retry later.");
+    }
+
+    private void writeQuietly(HttpServletResponse response) {
+        try {
+            writeInUse(response);
+        } catch (IOException e) {
+            log.debug("Could not answer a waiting duplicate: {}", e.getMessage());
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String code, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(code, message, status.value()));
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("idempotency.requests", "result", result).increment();
+    }
+
+    static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n"
+                + request.getHeader(HttpHeaders.ACCEPT) + "\n").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * The key kept changing hands while it was being claimed
+     */
+    private static final class ClaimContendedException extends Exception {
+    }
+
+    private record Endpoint(HttpMethod method, PathPattern pattern) {
+        boolean matches(String requestMethod, PathContainer path) {
+            return method.matches(requestMethod) && pattern.matches(path);
+        }
+    }
+
+    /**
+     * Request whose body was read up front (to fingerprint it) and can be read again downstream
+     */
+    static class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * The whole body is already in memory, so it is available at once and then done
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                ? Charset.forName(getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
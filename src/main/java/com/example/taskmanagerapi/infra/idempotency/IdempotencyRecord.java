@@ -0,0 +1,26 @@
+package com.example.taskmanagerapi.infra.idempotency;
+
+/**
+ * IdempotencyRecord - What Redis holds for one Idempotency-Key
+ *
+ * Written without a status when the first request claims the key, then
+ * overwritten with the stored response once it completes. The fingerprint
+ * (method, path and body hash) detects a key reused for a different request;
+ * the owner token tells a claim apart from a later claim of the same key.
+ */
+record IdempotencyRecord(
+    String fingerprint,
+    String owner,
+    Integer status,
+    String contentType,
+    String location,
+    byte[] body
+) {
+    static IdempotencyRecord pending(String fingerprint, String owner) {
+        return new IdempotencyRecord(fingerprint, owner, null, null, null, null);
+    }
+
+    boolean completed() {
+        return status != null;
+    }
+}
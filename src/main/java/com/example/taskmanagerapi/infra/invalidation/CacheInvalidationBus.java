@@ -0,0 +1,267 @@
+package com.example.taskmanagerapi.infra.invalidation;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CacheInvalidationBus - Cluster-wide invalidation of node-local caches over Redis
+ *
+ * Keys invalidated on this node are coalesced for coalesce-window and published
+ * as one message: appended to a capped Redis stream (the replay log) and announced
+ * on a pub/sub channel with its stream id. Other nodes apply every announcement as
+ * it arrives: XADD and PUBLISH are separate commands, so two nodes' announcements
+ * can arrive in the opposite order of their stream ids, and invalidation is
+ * idempotent anyway. The highest id seen is kept only as the replay cursor. Pub/sub
+ * drops messages while a node is disconnected, so on every (re)subscription the
+ * node replays the stream from a few seconds before that cursor, which also covers
+ * announcements lost while a later one got through; if the stream has been trimmed
+ * past the cursor, everything is invalidated. A batch that cannot be published
+ * stays pending and is retried on the next flush. Delivery is therefore
+ * at-least-once, and listeners must be idempotent.
+ *
+ * Flushes run on the bus's own thread every coalesce-window, so a slow job on the
+ * shared scheduler cannot hold invalidations back.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CacheInvalidationBus implements MessageListener, SubscriptionListener {
+
+    public static final String CHANNEL = "cache:invalidation";
+    public static final String STREAM = "cache:invalidation:log";
+
+    private static final String ORIGIN_FIELD = "origin";
+    private static final String KEYS_FIELD = "keys";
+    private static final String STREAM_START = "0-0";
+    private static final int REPLAY_PAGE = 500;
+    private static final long REPLAY_OVERLAP_MILLIS = 5_000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<InvalidationKey> pending = ConcurrentHashMap.newKeySet();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectProvider<InvalidationListener> listeners;
+    private final long streamMaxLength;
+    private final int maxPending;
+    private final Duration coalesceWindow;
+    private final ThreadPoolTaskScheduler flusher = new ThreadPoolTaskScheduler();
+    private final Counter publishedKeys;
+    private final Counter publishFailures;
+    private final Counter receivedMessages;
+    private final Counter replayedMessages;
+    private final Counter fullInvalidations;
+
+    private String lastSeenId;
+
+    public CacheInvalidationBus(
+            StringRedisTemplate redisTemplate,
+            ObjectProvider<InvalidationListener> listeners,
+            @Value("${app.cache.invalidation.stream-max-length:100000}") long streamMaxLength,
+            @Value("${app.cache.invalidation.max-pending:10000}") int maxPending,
+            @Value("${app.cache.invalidation.coalesce-window:50}") long coalesceWindowMillis,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listeners = listeners;
+        this.streamMaxLength = streamMaxLength;
+        this.maxPending = maxPending;
+        this.coalesceWindow = Duration.ofMillis(coalesceWindowMillis);
+        this.publishedKeys = meterRegistry.counter("cache.invalidation.published");
+        this.publishFailures = meterRegistry.counter("cache.invalidation.publish.failures");
+        this.receivedMessages = meterRegistry.counter("cache.invalidation.received");
+        this.replayedMessages = meterRegistry.counter("cache.invalidation.replayed");
+        this.fullInvalidations = meterRegistry.counter("cache.invalidation.full");
+    }
+
+    /**
+     * Queue a key for the next coalesced publication
+     */
+    public void invalidate(InvalidationKey key) {
+        pending.add(key);
+        if (pending.size() > maxPending) {
+            // Too many distinct keys (e.g. Redis has been down): tell everyone to drop everything
+            pending.clear();
+            pending.add(InvalidationKey.ALL);
+        }
+    }
+
+    @PostConstruct
+    void startFlushing() {
+        flusher.setPoolSize(1);
+        flusher.setThreadNamePrefix("cache-invalidation-");
+        flusher.initialize();
+        flusher.scheduleWithFixedDelay(this::flush, Instant.now().plus(coalesceWindow), coalesceWindow);
+    }
+
+    @PreDestroy
+    void stopFlushing() {
+        flusher.shutdown();
+        flush();
+    }
+
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Set<InvalidationKey> batch = new HashSet<>();
+        for (Iterator<InvalidationKey> it = pending.iterator(); it.hasNext();) {
+            batch.add(it.next());
+            it.remove();
+        }
+        if (batch.contains(InvalidationKey.ALL)) {
+            batch = Set.of(InvalidationKey.ALL);
+        }
+        String keys = InvalidationKey.encodeAll(batch);
+        try {
+            RecordId id = redisTemplate.opsForStream().add(
+                StreamRecords.string(Map.of(ORIGIN_FIELD, nodeId, KEYS_FIELD, keys)).withStreamKey(STREAM),
+                XAddOptions.maxlen(streamMaxLength).approximateTrimming(true));
+            redisTemplate.convertAndSend(CHANNEL, id.getValue() + " " + nodeId + " " + keys);
+            publishedKeys.increment(batch.size());
+        } catch (DataAccessException e) {
+            publishFailures.increment();
+            batch.forEach(this::invalidate);
+            log.warn("Could not publish {} cache invalidations, will retry: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Pub/sub announcement: "<stream id> <origin node> <keys>"
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(" ", 3);
+        if (parts.length < 3) {
+            return;
+        }
+        receivedMessages.increment();
+        apply(parts[0], parts[1], parts[2]);
+    }
+
+    /**
+     * Called on the first subscription and after every reconnect
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        try {
+            replay();
+        } catch (DataAccessException e) {
+            log.warn("Could not replay cache invalidations, dropping all local entries: {}", e.getMessage());
+            invalidateAllLocally();
+        }
+    }
+
+    synchronized void replay() {
+        if (lastSeenId == null) {
+            // Fresh node: local caches are empty, only later messages matter
+            List<MapRecord<String, Object, Object>> last = redisTemplate.opsForStream()
+                .reverseRange(STREAM, Range.unbounded(), Limit.limit().count(1));
+            lastSeenId = last == null || last.isEmpty() ? STREAM_START : last.get(0).getId().getValue();
+            return;
+        }
+        if (!STREAM_START.equals(lastSeenId)) {
+            List<MapRecord<String, Object, Object>> oldest = redisTemplate.opsForStream()
+                .range(STREAM, Range.unbounded(), Limit.limit().count(1));
+            if (oldest != null && !oldest.isEmpty() && compareIds(oldest.get(0).getId().getValue(), lastSeenId) > 0) {
+                // Our cursor was trimmed away: entries before the oldest one may be gone
+                invalidateAllLocally();
+            }
+        }
+        Range.Bound<String> from = Range.Bound.inclusive(rewind(lastSeenId));
+        while (true) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(STREAM,
+                Range.rightUnbounded(from), Limit.limit().count(REPLAY_PAGE));
+            if (records == null || records.isEmpty()) {
+                return;
+            }
+            for (MapRecord<String, Object, Object> record : records) {
+                apply(record.getId().getValue(), String.valueOf(record.getValue().get(ORIGIN_FIELD)),
+                    String.valueOf(record.getValue().get(KEYS_FIELD)));
+                replayedMessages.increment();
+            }
+            if (records.size() < REPLAY_PAGE) {
+                return;
+            }
+            from = Range.Bound.exclusive(records.get(records.size() - 1).getId().getValue());
+        }
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Null until the first subscription has completed
+     */
+    synchronized String lastSeenId() {
+        return lastSeenId;
+    }
+
+    private synchronized void apply(String streamId, String origin, String encodedKeys) {
+        if (lastSeenId == null || compareIds(streamId, lastSeenId) > 0) {
+            lastSeenId = streamId;
+        }
+        if (nodeId.equals(origin)) {
+            return;
+        }
+        Set<InvalidationKey> keys = InvalidationKey.decodeAll(encodedKeys);
+        if (keys.contains(InvalidationKey.ALL)) {
+            invalidateAllLocally();
+        } else if (!keys.isEmpty()) {
+            listeners.orderedStream().forEach(listener -> listener.invalidate(keys));
+        }
+    }
+
+    private void invalidateAllLocally() {
+        fullInvalidations.increment();
+        listeners.orderedStream().forEach(InvalidationListener::invalidateAll);
+    }
+
+    /**
+     * Replay start: REPLAY_OVERLAP_MILLIS before the cursor, clamped to the stream start
+     */
+    private static String rewind(String id) {
+        long millis = Long.parseLong(id.substring(0, id.indexOf('-'))) - REPLAY_OVERLAP_MILLIS;
+        return millis > 0 ? millis + "-0" : STREAM_START;
+    }
+
+    /**
+     * Stream ids are "<millis>-<sequence>"
+     */
+    private static int compareIds(String a, String b) {
+        int dashA = a.indexOf('-');
+        int dashB = b.indexOf('-');
+        int byTime = Long.compare(Long.parseLong(a.substring(0, dashA)), Long.parseLong(b.substring(0, dashB)));
+        return byTime != 0 ? byTime
+            : Long.compare(Long.parseLong(a.substring(dashA + 1)), Long.parseLong(b.substring(dashB + 1)));
+    }
+}
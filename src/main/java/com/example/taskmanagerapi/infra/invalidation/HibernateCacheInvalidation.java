@@ -0,0 +1,140 @@
+package com.example.taskmanagerapi.infra.invalidation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.lists.domain.BoardList;
+import com.example.taskmanagerapi.modules.workspaces.domain.Workspace;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HibernateCacheInvalidation - Keeps the second-level cache coherent across nodes
+ *
+ * After a transaction commits, every insert, update or delete of a cached entity
+ * is published on the bus together with the parent whose cached collection it
+ * belongs to (a board also invalidates its workspace, a list its board). Keys
+ * received from other nodes evict the matching entity and collection entries.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class HibernateCacheInvalidation implements InvalidationListener,
+        PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String WORKSPACE_BOARDS = Workspace.class.getName() + ".boards";
+    private static final String BOARD_LISTS = Board.class.getName() + ".lists";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationBus bus;
+
+    private Cache cache;
+
+    @PostConstruct
+    void register() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        cache = sessionFactory.getCache();
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return type == User.class || type == Workspace.class || type == Board.class || type == BoardList.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was committed, so other nodes have nothing to drop
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public void invalidate(Set<InvalidationKey> keys) {
+        for (InvalidationKey key : keys) {
+            switch (key.kind()) {
+                case USER -> {
+                    cache.evictEntityData(User.class, key.id());
+                    // Lookup results are keyed by email/username, not by id
+                    cache.evictQueryRegion(UserRepository.LOOKUP_CACHE_REGION);
+                }
+                case WORKSPACE -> {
+                    cache.evictEntityData(Workspace.class, key.id());
+                    cache.evictCollectionData(WORKSPACE_BOARDS, key.id());
+                }
+                case BOARD -> {
+                    cache.evictEntityData(Board.class, key.id());
+                    cache.evictCollectionData(BOARD_LISTS, key.id());
+                }
+                case LIST -> cache.evictEntityData(BoardList.class, key.id());
+                case ALL -> invalidateAll();
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.evictAllRegions();
+    }
+
+    private void publish(Object entity) {
+        List<InvalidationKey> keys = new ArrayList<>(2);
+        if (entity instanceof User user) {
+            keys.add(InvalidationKey.user(user.getId()));
+        } else if (entity instanceof Workspace workspace) {
+            keys.add(InvalidationKey.workspace(workspace.getId()));
+        } else if (entity instanceof Board board) {
+            keys.add(InvalidationKey.board(board.getId()));
+            keys.add(InvalidationKey.workspace(board.getWorkspace().getId()));
+        } else if (entity instanceof BoardList list) {
+            keys.add(InvalidationKey.list(list.getId()));
+            keys.add(InvalidationKey.board(list.getBoard().getId()));
+        }
+        keys.forEach(bus::invalidate);
+    }
+}
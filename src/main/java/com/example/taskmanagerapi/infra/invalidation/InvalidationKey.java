@@ -0,0 +1,70 @@
+package com.example.taskmanagerapi.infra.invalidation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * InvalidationKey - One cached thing to drop on every node, e.g. b:<board id>
+ * Encoded as kind prefix + ":" + id; "*" stands for everything
+ */
+public record InvalidationKey(Kind kind, String id) {
+
+    public static final InvalidationKey ALL = new InvalidationKey(Kind.ALL, "*");
+
+    public enum Kind {
+        USER("u"), WORKSPACE("w"), BOARD("b"), LIST("l"), ALL("*");
+
+        private final String prefix;
+
+        Kind(String prefix) {
+            this.prefix = prefix;
+        }
+
+        static Kind fromPrefix(String prefix) {
+            return Arrays.stream(values())
+                .filter(kind -> kind.prefix.equals(prefix))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown invalidation key kind: " + prefix));
+        }
+    }
+
+    public static InvalidationKey user(String id) {
+        return new InvalidationKey(Kind.USER, id);
+    }
+
+    public static InvalidationKey workspace(String id) {
+        return new InvalidationKey(Kind.WORKSPACE, id);
+    }
+
+    public static InvalidationKey board(String id) {
+        return new InvalidationKey(Kind.BOARD, id);
+    }
+
+    public static InvalidationKey list(String id) {
+        return new InvalidationKey(Kind.LIST, id);
+    }
+
+    String encode() {
+        return kind == Kind.ALL ? ALL.id : kind.prefix + ":" + id;
+    }
+
+    static String encodeAll(Collection<InvalidationKey> keys) {
+        return keys.stream().map(InvalidationKey::encode).collect(Collectors.joining(","));
+    }
+
+    static Set<InvalidationKey> decodeAll(String encoded) {
+        Set<InvalidationKey> keys = new LinkedHashSet<>();
+        for (String token : encoded.split(",")) {
+            if (token.equals(ALL.id)) {
+                keys.add(ALL);
+            } else if (!token.isEmpty()) {
+                int colon = token.indexOf(':');
+                keys.add(new InvalidationKey(Kind.fromPrefix(token.substring(0, colon)), token.substring(colon + 1)));
+            }
+        }
+        return keys;
+    }
+}
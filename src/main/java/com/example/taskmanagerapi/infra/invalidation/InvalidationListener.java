@@ -0,0 +1,17 @@
+package com.example.taskmanagerapi.infra.invalidation;
+
+import java.util.Set;
+
+/**
+ * InvalidationListener - A node-local cache kept coherent by CacheInvalidationBus
+ * Called only for changes made on other nodes; the local node maintains its own caches
+ */
+public interface InvalidationListener {
+
+    void invalidate(Set<InvalidationKey> keys);
+
+    /**
+     * Called when this node may have missed invalidations (e.g. after a long disconnect)
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,125 @@
+package com.example.taskmanagerapi.infra.schema;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * IndexVerifier - Startup check that the hot-path indexes exist
+ *
+ * Runs after the Flyway migrations and before the web server starts. An expected
+ * index matches any index whose leading columns are the expected ones, whatever
+ * its name, so a hand-made equivalent index also counts. With
+ * app.schema.index-check=fail (default) a missing index stops startup; warn only
+ * logs it and off skips the check.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndexVerifier {
+
+    /**
+     * Table -> indexed column lists, in index order (kept in sync with the V2 and V4 migrations)
+     */
+    static final Map<String, List<List<String>>> EXPECTED_INDEXES = Map.of(
+        "cards", List.of(List.of("list_id", "card_position")),
+        "board_lists", List.of(List.of("board_id", "list_position")),
+        "boards", List.of(List.of("workspace_id", "created_at"), List.of("owner_id")),
+        "workspaces", List.of(List.of("owner_id", "created_at")),
+        "refresh_tokens", List.of(List.of("user_id"), List.of("expiration_date")),
+        "email_verification_tokens", List.of(List.of("token"), List.of("email"), List.of("expiration_date")),
+        "password_reset_tokens", List.of(List.of("token"), List.of("email"), List.of("expiration_date")),
+        "email_outbox", List.of(List.of("status", "next_attempt_at")),
+        "board_changes", List.of(List.of("board_id", "version"), List.of("deleted", "changed_at"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<FlywayMigrationInitializer> flywayMigrationInitializer;
+
+    @Value("${app.schema.index-check:fail}")
+    private String mode;
+
+    @PostConstruct
+    void verify() {
+        if ("off".equalsIgnoreCase(mode)) {
+            return;
+        }
+        // Resolving the initializer makes sure migrations have run
+        flywayMigrationInitializer.getIfAvailable();
+
+        List<String> missing = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection ->
+            findMissing(connection.getMetaData(), connection.getCatalog(), connection.getSchema()));
+        if (missing.isEmpty()) {
+            log.debug("All {} expected tables have their indexes", EXPECTED_INDEXES.size());
+            return;
+        }
+        String message = "Missing database indexes: " + String.join(", ", missing);
+        if ("warn".equalsIgnoreCase(mode)) {
+            log.warn(message);
+        } else {
+            throw new IllegalStateException(message + " (run the migrations or set app.schema.index-check=warn)");
+        }
+    }
+
+    private static List<String> findMissing(DatabaseMetaData metaData, String catalog, String schema)
+            throws SQLException {
+        List<String> missing = new ArrayList<>();
+        for (Map.Entry<String, List<List<String>>> table : new TreeMap<>(EXPECTED_INDEXES).entrySet()) {
+            String tableName = metaData.storesUpperCaseIdentifiers()
+                ? table.getKey().toUpperCase(Locale.ROOT)
+                : table.getKey();
+            String schemaName = schema != null && metaData.storesUpperCaseIdentifiers()
+                ? schema.toUpperCase(Locale.ROOT)
+                : schema;
+            List<List<String>> existing = indexColumns(metaData, catalog, schemaName, tableName);
+            for (List<String> expected : table.getValue()) {
+                boolean covered = existing.stream()
+                    .anyMatch(columns -> columns.size() >= expected.size()
+                        && columns.subList(0, expected.size()).equals(expected));
+                if (!covered) {
+                    missing.add(table.getKey() + " (" + String.join(", ", expected) + ")");
+                }
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Column lists of every index on a table, lower-cased and in key order
+     */
+    private static List<List<String>> indexColumns(DatabaseMetaData metaData, String catalog, String schema,
+            String table) throws SQLException {
+        Map<String, TreeMap<Short, String>> indexes = new LinkedHashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(catalog, schema, table, false, true)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName == null || column == null) {
+                    continue;
+                }
+                indexes.computeIfAbsent(indexName, name -> new TreeMap<>())
+                    .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+            }
+        }
+        return indexes.values().stream()
+            .map(columns -> List.copyOf(columns.values()))
+            .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.taskmanagerapi.infra.security;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,6 +14,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import jakarta.servlet.DispatcherType;
 
 @Configuration
 @EnableWebSecurity
@@ -21,6 +25,15 @@ public class SecurityConfig {
     @Autowired
     SecurityFilter securityFilter;
 
+    @Value("${server.port:8080}")
+    int serverPort;
+
+    @Value("${management.server.port:-1}")
+    int managementPort;
+
+    @Value("${management.endpoints.web.base-path:/actuator}")
+    String actuatorBasePath;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         return httpSecurity
@@ -37,13 +50,30 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/auth/reset-password").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers(prometheusOnManagementPort()).permitAll()
                         .requestMatchers("/error").permitAll()
+                        // Completion of an already authorized async request (SSE streams)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 
+    /**
+     * Prometheus scrapes without a token only on a separate management.server.port, which
+     * is meant to be reachable from the monitoring network alone. On the API port the
+     * endpoint needs a token like any other request.
+     */
+    private RequestMatcher prometheusOnManagementPort() {
+        if (managementPort <= 0 || managementPort == serverPort) {
+            return request -> false;
+        }
+        String scrapePath = actuatorBasePath + "/prometheus";
+        return request -> request.getLocalPort() == managementPort && scrapePath.equals(request.getRequestURI());
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -0,0 +1,91 @@
+package com.example.taskmanagerapi.infra.timing;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.util.ClassUtils;
+
+import com.example.taskmanagerapi.infra.timing.RequestTimings.Layer;
+
+/**
+ * Times Redis and password hashing for the current request
+ *
+ * Redis is measured at the connection rather than the template, so RedisTemplate,
+ * StringRedisTemplate, scripts and the cache manager are all covered: connections
+ * handed out during a timed request are wrapped so every command (and the
+ * *Commands views they expose) adds to the Redis layer. Connection housekeeping
+ * (close, isClosed, pipelining state) adds time but does not count as a command.
+ */
+@Aspect
+public class RequestTimingAspect {
+
+    private static final String COMMANDS_PACKAGE = RedisConnection.class.getPackageName();
+
+    @Around("execution(* org.springframework.data.redis.connection.RedisConnectionFactory.getConnection())")
+    public Object timeRedisConnection(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (RequestTimings.current() == null) {
+            return joinPoint.proceed();
+        }
+        long start = System.nanoTime();
+        try {
+            Object connection = joinPoint.proceed();
+            return timed(connection, ClassUtils.getAllInterfaces(connection));
+        } finally {
+            RequestTimings.addTime(Layer.REDIS, System.nanoTime() - start);
+        }
+    }
+
+    @Around("execution(* org.springframework.security.crypto.password.PasswordEncoder.*(..))")
+    public Object timePasswordEncoder(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTimings.record(Layer.BCRYPT, System.nanoTime() - start);
+        }
+    }
+
+    private static Object timed(Object target, Class<?>... interfaces) {
+        InvocationHandler handler = (proxy, method, args) -> invoke(target, method, args);
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = method.invoke(target, args);
+            Class<?> returnType = method.getReturnType();
+            if (result != null && isCommandsView(returnType)) {
+                // Command time is recorded by the view itself
+                return timed(result, returnType);
+            }
+            recordRedis(method, System.nanoTime() - start);
+            return result;
+        } catch (InvocationTargetException e) {
+            recordRedis(method, System.nanoTime() - start);
+            throw e.getCause();
+        }
+    }
+
+    private static void recordRedis(Method method, long elapsedNanos) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (declaringClass == RedisConnection.class || declaringClass == Object.class
+                || declaringClass == AutoCloseable.class) {
+            RequestTimings.addTime(Layer.REDIS, elapsedNanos);
+        } else {
+            RequestTimings.record(Layer.REDIS, elapsedNanos);
+        }
+    }
+
+    private static boolean isCommandsView(Class<?> type) {
+        return type.isInterface()
+            && type.getPackageName().equals(COMMANDS_PACKAGE)
+            && type.getSimpleName().endsWith("Commands");
+    }
+}
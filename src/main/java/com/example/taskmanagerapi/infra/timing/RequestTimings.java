@@ -0,0 +1,154 @@
+package com.example.taskmanagerapi.infra.timing;
+
+import java.util.Locale;
+
+/**
+ * RequestTimings - Wall time of the current request attributed to layers
+ *
+ * Bound to the request thread by ServerTimingFilter; instrumentation calls
+ * record(), which is a no-op on threads without a timed request (scheduled jobs,
+ * executors). Whatever is not attributed to a layer is reported as "app".
+ */
+public final class RequestTimings {
+
+    public enum Layer {
+        DB("db", "Database"),
+        REDIS("redis", "Redis"),
+        BCRYPT("bcrypt", "Password hashing"),
+        SERIALIZATION("ser", "JSON serialization");
+
+        private final String metric;
+        private final String description;
+
+        Layer(String metric, String description) {
+            this.metric = metric;
+            this.description = description;
+        }
+
+        public String metric() {
+            return metric;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final Layer[] LAYERS = Layer.values();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] nanos = new long[LAYERS.length];
+    private final int[] counts = new int[LAYERS.length];
+    private String userId;
+    private boolean internal;
+    private boolean headerWritten;
+
+    private RequestTimings() {
+    }
+
+    static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Add one operation of the given layer to the current request, if any
+     */
+    public static void record(Layer layer, long elapsedNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.nanos[layer.ordinal()] += elapsedNanos;
+            timings.counts[layer.ordinal()]++;
+        }
+    }
+
+    /**
+     * Add time to a layer without counting an operation (e.g. connection acquisition)
+     */
+    static void addTime(Layer layer, long elapsedNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.nanos[layer.ordinal()] += elapsedNanos;
+        }
+    }
+
+    void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    String userId() {
+        return userId;
+    }
+
+    /**
+     * The caller is on an internal network and gets the header without authenticating
+     */
+    void markInternal() {
+        internal = true;
+    }
+
+    /**
+     * Never write the header for this response
+     */
+    void suppressHeader() {
+        headerWritten = true;
+    }
+
+    /**
+     * Claim the single Server-Timing header of this response; false if already written,
+     * or if the caller is neither authenticated nor internal
+     */
+    boolean claimHeader() {
+        if (headerWritten || (userId == null && !internal)) {
+            return false;
+        }
+        headerWritten = true;
+        return true;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    long nanos(Layer layer) {
+        return nanos[layer.ordinal()];
+    }
+
+    int count(Layer layer) {
+        return counts[layer.ordinal()];
+    }
+
+    /**
+     * Server-Timing value, e.g. db;dur=4.1;desc="Database (3)", ..., app;dur=1.2, total;dur=9.8
+     * Password hashing is folded into app: its duration would tell a caller whether an
+     * account exists or a password was checked
+     */
+    String toServerTiming() {
+        long total = elapsedNanos();
+        long attributed = 0;
+        StringBuilder header = new StringBuilder(160);
+        for (Layer layer : LAYERS) {
+            int count = counts[layer.ordinal()];
+            long layerNanos = nanos[layer.ordinal()];
+            if (layer == Layer.BCRYPT || (count == 0 && layerNanos == 0)) {
+                continue;
+            }
+            attributed += layerNanos;
+            header.append(layer.metric).append(";dur=").append(millis(layerNanos))
+                .append(";desc=\"").append(layer.description).append(" (").append(count).append(")\", ");
+        }
+        header.append("app;dur=").append(millis(Math.max(total - attributed, 0)))
+            .append(", total;dur=").append(millis(total));
+        return header.toString();
+    }
+
+    static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.taskmanagerapi.infra.timing;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.taskmanagerapi.infra.timing.RequestTimings.Layer;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ServerTimingFilter - Outermost filter that times each request by layer
+ *
+ * With header-enabled, adds a Server-Timing header (db, redis, ser, app, total)
+ * to responses for authenticated callers and callers on header-internal-networks:
+ * JSON bodies get it from TimedJackson2HttpMessageConverter, other bodies just
+ * before the response commits, and empty ones after the chain. Anonymous callers
+ * never see it, and password hashing is never broken out in it.
+ * A sample of requests, plus every request slower than slow-threshold, is also
+ * logged with the full breakdown (bcrypt included) as key/value pairs.
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter implements Ordered {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    @Value("${app.timing.header-enabled:false}")
+    private boolean headerEnabled;
+
+    @Value("${app.timing.header-internal-networks:}")
+    private String[] headerInternalNetworks;
+
+    private List<IpAddressMatcher> internalNetworks = List.of();
+
+    @Value("${app.timing.log-sample-rate:0.01}")
+    private double logSampleRate;
+
+    @Value("${app.timing.slow-threshold:1s}")
+    private Duration slowThreshold;
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    protected void initFilterBean() {
+        internalNetworks = Arrays.stream(headerInternalNetworks)
+            .map(String::trim)
+            .filter(network -> !network.isEmpty())
+            .map(IpAddressMatcher::new)
+            .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        if (!headerEnabled) {
+            timings.suppressHeader();
+        } else if (isInternal(request)) {
+            timings.markInternal();
+        }
+        HttpServletResponse timedResponse = new OnCommittedResponseWrapper(response) {
+            @Override
+            protected void onResponseCommitted() {
+                writeHeader(timings, response);
+            }
+        };
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            RequestTimings.clear();
+            if (!request.isAsyncStarted()) {
+                if (!response.isCommitted()) {
+                    writeHeader(timings, response);
+                }
+                logTimings(timings, request, response);
+            }
+        }
+    }
+
+    private boolean isInternal(HttpServletRequest request) {
+        for (IpAddressMatcher network : internalNetworks) {
+            if (network.matches(request.getRemoteAddr())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void writeHeader(RequestTimings timings, HttpServletResponse response) {
+        if (timings.claimHeader()) {
+            response.setHeader(SERVER_TIMING, timings.toServerTiming());
+        }
+    }
+
+    private void logTimings(RequestTimings timings, HttpServletRequest request, HttpServletResponse response) {
+        long totalNanos = timings.elapsedNanos();
+        boolean slow = totalNanos >= slowThreshold.toNanos();
+        if (!slow && ThreadLocalRandom.current().nextDouble() >= logSampleRate) {
+            return;
+        }
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var event = (slow ? log.atWarn() : log.atInfo())
+            .addKeyValue("method", request.getMethod())
+            .addKeyValue("route", route != null ? route : request.getRequestURI())
+            .addKeyValue("status", response.getStatus())
+            .addKeyValue("user", timings.userId())
+            .addKeyValue("total_ms", RequestTimings.millis(totalNanos));
+        for (Layer layer : Layer.values()) {
+            event = event
+                .addKeyValue(layer.metric() + "_ms", RequestTimings.millis(timings.nanos(layer)))
+                .addKeyValue(layer.metric() + "_count", timings.count(layer));
+        }
+        event.log("Request timing {} {} {}", request.getMethod(), route != null ? route : request.getRequestURI(),
+            timings.toServerTiming());
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.taskmanagerapi.infra.timing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.example.taskmanagerapi.infra.timing.RequestTimings.Layer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Jackson converter that attributes request/response (de)serialization to the "ser" layer
+ *
+ * During a timed request the first BUFFER_LIMIT bytes of the response are held back,
+ * so for typical bodies the measurement excludes socket writes and the Server-Timing
+ * header, "ser" included, is added before any byte can commit the response. Larger
+ * bodies are not copied: once the limit is passed the header is written with the
+ * layers known so far and the rest is streamed, its "ser" going to the sampled log only.
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    static final int BUFFER_LIMIT = 8 * 1024;
+
+    public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return super.read(type, contextClass, inputMessage);
+        } finally {
+            RequestTimings.record(Layer.SERIALIZATION, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        long start = System.nanoTime();
+        HeldBackBody body = new HeldBackBody(timings, outputMessage);
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        RequestTimings.record(Layer.SERIALIZATION, System.nanoTime() - start);
+        body.release();
+    }
+
+    /**
+     * Buffers up to BUFFER_LIMIT bytes, then writes the header and streams the rest
+     */
+    private static class HeldBackBody extends OutputStream {
+
+        private final RequestTimings timings;
+        private final HttpOutputMessage outputMessage;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        private OutputStream target;
+
+        HeldBackBody(RequestTimings timings, HttpOutputMessage outputMessage) {
+            this.timings = timings;
+            this.outputMessage = outputMessage;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (target == null && buffer.size() + length <= BUFFER_LIMIT) {
+                buffer.write(bytes, offset, length);
+                return;
+            }
+            if (target == null) {
+                release();
+            }
+            target.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Jackson flushes when it finishes; holding back until release() keeps "ser" in the header
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        /**
+         * Add the header with the timings so far and send what is buffered; later writes go straight through
+         */
+        void release() throws IOException {
+            if (target != null) {
+                return;
+            }
+            if (timings.claimHeader()) {
+                outputMessage.getHeaders().set(ServerTimingFilter.SERVER_TIMING, timings.toServerTiming());
+            }
+            target = outputMessage.getBody();
+            buffer.writeTo(target);
+        }
+    }
+}
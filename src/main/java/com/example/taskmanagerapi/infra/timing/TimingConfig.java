@@ -0,0 +1,72 @@
+package com.example.taskmanagerapi.infra.timing;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Per-request timing breakdown (Server-Timing header and sampled log)
+ * On by default; app.timing.enabled=false removes the filter and all instrumentation
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.timing.enabled", havingValue = "true", matchIfMissing = true)
+public class TimingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public ServerTimingFilter serverTimingFilter() {
+        return new ServerTimingFilter();
+    }
+
+    @Bean
+    public RequestTimingAspect requestTimingAspect() {
+        return new RequestTimingAspect();
+    }
+
+    /**
+     * Replaces Boot's default Jackson converter, which backs off when one is defined
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJackson2HttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer timingSessionEventListener() {
+        return properties -> properties.put(
+            AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, TimingSessionEventListener.class.getName());
+    }
+
+    /**
+     * Tags the timing with the authenticated user, which is only known inside the security chain
+     */
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                    @NonNull Object handler) {
+                RequestTimings timings = RequestTimings.current();
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                if (timings != null && authentication != null && authentication.getPrincipal() instanceof User user) {
+                    timings.setUserId(user.getId());
+                }
+                return true;
+            }
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.taskmanagerapi.infra.timing;
+
+import org.hibernate.BaseSessionEventListener;
+
+import com.example.taskmanagerapi.infra.timing.RequestTimings.Layer;
+
+/**
+ * Attributes Hibernate's JDBC work to the DB layer of the current request
+ * Registered for every session through hibernate.session.events.auto; each
+ * executed statement or batch counts as one operation, while connection
+ * acquisition and statement preparation only add time
+ */
+public class TimingSessionEventListener extends BaseSessionEventListener {
+
+    private long acquisitionStart;
+    private long prepareStart;
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestTimings.addTime(Layer.DB, System.nanoTime() - acquisitionStart);
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        prepareStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        RequestTimings.addTime(Layer.DB, System.nanoTime() - prepareStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings.record(Layer.DB, System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTimings.record(Layer.DB, System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.taskmanagerapi.modules.audit.controllers;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.taskmanagerapi.modules.audit.dto.AuditEventDTO;
+import com.example.taskmanagerapi.modules.audit.dto.AuditEventPageDTO;
+import com.example.taskmanagerapi.modules.audit.repositories.AuditEventRepository;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/users/me/audit-events")
+@RequiredArgsConstructor
+@Tag(name = "Users", description = "User management endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+public class AuditEventController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final AuditEventRepository auditEventRepository;
+
+    @Operation(summary = "List Audit Events",
+            description = "Security events of the current user (logins, refreshes, logouts...), newest first. "
+                    + "Events are written asynchronously and appear within a fraction of a second.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Page of audit events",
+                content = @Content(schema = @Schema(implementation = AuditEventPageDTO.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing token")
+    })
+    @GetMapping
+    public ResponseEntity<AuditEventPageDTO> getAuditEvents(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Zero-based page index") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, at most 100") @RequestParam(defaultValue = "20") int size) {
+
+        int pageIndex = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // Fetch one extra row to learn whether another page exists without counting
+        List<AuditEventDTO> events = auditEventRepository.findByUser(
+            user.getId(), pageSize + 1, (long) pageIndex * pageSize);
+        boolean hasNext = events.size() > pageSize;
+
+        return ResponseEntity.ok(new AuditEventPageDTO(
+            hasNext ? events.subList(0, pageSize) : events,
+            pageIndex,
+            pageSize,
+            hasNext
+        ));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.taskmanagerapi.modules.audit.domain;
+
+/**
+ * AuditEvent - An audit entry waiting in the in-memory queue
+ * Captured on the request thread with only cheap fields; the writer assigns
+ * the row id and converts the timestamp when it inserts the batch
+ */
+public record AuditEvent(
+    String userId,
+    AuditEventType type,
+    String ipAddress,
+    String userAgent,
+    long occurredAtMillis
+) {}
@@ -0,0 +1,14 @@
+package com.example.taskmanagerapi.modules.audit.domain;
+
+/**
+ * Kinds of security-relevant events recorded in the audit log
+ */
+public enum AuditEventType {
+    LOGIN,
+    LOGOUT,
+    LOGOUT_ALL,
+    REGISTER,
+    TOKEN_REFRESH,
+    PASSWORD_RESET,
+    EMAIL_VERIFIED
+}
@@ -0,0 +1,13 @@
+package com.example.taskmanagerapi.modules.audit.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.taskmanagerapi.modules.audit.domain.AuditEventType;
+
+public record AuditEventDTO(
+    String id,
+    AuditEventType type,
+    String ipAddress,
+    String userAgent,
+    LocalDateTime occurredAt
+) {}
@@ -0,0 +1,14 @@
+package com.example.taskmanagerapi.modules.audit.dto;
+
+import java.util.List;
+
+/**
+ * One page of audit events, newest first
+ * hasNext replaces a total count, which would scan every partition
+ */
+public record AuditEventPageDTO(
+    List<AuditEventDTO> events,
+    int page,
+    int size,
+    boolean hasNext
+) {}
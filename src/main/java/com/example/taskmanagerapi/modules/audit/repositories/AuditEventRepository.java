@@ -0,0 +1,138 @@
+package com.example.taskmanagerapi.modules.audit.repositories;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskmanagerapi.modules.audit.domain.AuditEvent;
+import com.example.taskmanagerapi.modules.audit.domain.AuditEventType;
+import com.example.taskmanagerapi.modules.audit.dto.AuditEventDTO;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AuditEventRepository - JDBC access to the audit_events table
+ *
+ * Plain JDBC rather than JPA: rows are append-only, written in large batches
+ * and never loaded as entities. The table comes from the V3 migration: on
+ * PostgreSQL it is range-partitioned by month on occurred_at so retention is a
+ * DROP of a whole partition; on other databases (H2 in tests) it is a regular table.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class AuditEventRepository {
+
+    public static final String TABLE = "audit_events";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final int IP_ADDRESS_LENGTH = 64;
+    private static final int USER_AGENT_LENGTH = 255;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_events (id, user_id, event_type, ip_address, user_agent, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String FIND_BY_USER_SQL = """
+            SELECT id, event_type, ip_address, user_agent, occurred_at
+            FROM audit_events
+            WHERE user_id = ?
+            ORDER BY occurred_at DESC, id DESC
+            LIMIT ? OFFSET ?
+            """;
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = 'audit_events'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private boolean partitioned;
+
+    @PostConstruct
+    void detectPartitioning() {
+        String product = jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        partitioned = "PostgreSQL".equals(product);
+    }
+
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    /**
+     * Insert a batch with one JDBC batch round trip
+     * Client-supplied values are cut to their column widths so one oversized
+     * header (e.g. a long X-Forwarded-For chain) cannot fail the whole batch
+     */
+    public void insertAll(List<AuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setString(2, event.userId());
+            ps.setString(3, event.type().name());
+            ps.setString(4, truncate(event.ipAddress(), IP_ADDRESS_LENGTH));
+            ps.setString(5, truncate(event.userAgent(), USER_AGENT_LENGTH));
+            ps.setTimestamp(6, new Timestamp(event.occurredAtMillis()));
+        });
+    }
+
+    /**
+     * One page of a user's events, newest first; fetches limit rows starting at offset
+     */
+    public List<AuditEventDTO> findByUser(String userId, int limit, long offset) {
+        return jdbcTemplate.query(FIND_BY_USER_SQL, (rs, rowNum) -> new AuditEventDTO(
+            rs.getString("id"),
+            AuditEventType.valueOf(rs.getString("event_type")),
+            rs.getString("ip_address"),
+            rs.getString("user_agent"),
+            rs.getTimestamp("occurred_at").toLocalDateTime()
+        ), userId, limit, offset);
+    }
+
+    /**
+     * Create the partition holding the given month if it does not exist (PostgreSQL only)
+     */
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+            + " PARTITION OF audit_events FOR VALUES FROM ('" + month.atDay(1)
+            + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    /**
+     * Drop every monthly partition older than the given month (PostgreSQL only)
+     * Returns the names of the dropped partitions
+     */
+    public List<String> dropPartitionsBefore(YearMonth oldestKept) {
+        String oldestName = partitionName(oldestKept);
+        List<String> expired = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class).stream()
+            .filter(name -> name.matches("audit_events_\\d{4}_\\d{2}"))
+            .filter(name -> name.compareTo(oldestName) < 0)
+            .toList();
+        for (String name : expired) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + name);
+            log.info("Dropped audit partition {}", name);
+        }
+        return expired;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return TABLE + "_" + month.format(PARTITION_SUFFIX);
+    }
+
+    private static String truncate(String value, int length) {
+        return value != null && value.length() > length ? value.substring(0, length) : value;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.taskmanagerapi.modules.audit.services;
+
+import java.util.function.Consumer;
+
+import org.jctools.queues.MpscArrayQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.taskmanagerapi.modules.audit.domain.AuditEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * AuditEventPublisher - Hot-path entry point of the audit pipeline
+ *
+ * Request threads offer events to a bounded, lock-free multi-producer/single-consumer
+ * ring buffer; AuditEventWriter is the only consumer. A full buffer never blocks the
+ * request: the event is dropped and counted in audit.events.dropped instead.
+ */
+@Component
+public class AuditEventPublisher {
+
+    private final MpscArrayQueue<AuditEvent> queue;
+    private final Counter published;
+    private final Counter dropped;
+
+    public AuditEventPublisher(
+            @Value("${app.audit.queue-capacity:65536}") int capacity,
+            MeterRegistry meterRegistry) {
+        this.queue = new MpscArrayQueue<>(capacity);
+        this.published = meterRegistry.counter("audit.events.published");
+        this.dropped = meterRegistry.counter("audit.events.dropped");
+        Gauge.builder("audit.queue.size", queue, MpscArrayQueue::size)
+            .description("Audit events waiting to be written")
+            .register(meterRegistry);
+    }
+
+    public void publish(AuditEvent event) {
+        if (queue.offer(event)) {
+            published.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Hand up to limit queued events to the consumer; single consumer only
+     */
+    int drain(Consumer<AuditEvent> consumer, int limit) {
+        return queue.drain(consumer::accept, limit);
+    }
+}
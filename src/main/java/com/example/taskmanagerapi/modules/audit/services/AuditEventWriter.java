@@ -0,0 +1,71 @@
+package com.example.taskmanagerapi.modules.audit.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.taskmanagerapi.modules.audit.domain.AuditEvent;
+import com.example.taskmanagerapi.modules.audit.repositories.AuditEventRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AuditEventWriter - Single consumer of the audit ring buffer
+ *
+ * Every flush drains the buffer in batches of batch-size and inserts each batch
+ * with one JDBC batch statement. A batch that fails to insert is counted in
+ * audit.events.failed and discarded: audit is best effort and must not back up
+ * into the request path. The lock keeps the shutdown flush from overlapping a
+ * scheduled one, since the queue allows only one consumer at a time.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditEventWriter {
+
+    private final AuditEventPublisher publisher;
+    private final AuditEventRepository auditEventRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock consumerLock = new ReentrantLock();
+
+    @Value("${app.audit.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval:200}")
+    public void flush() {
+        consumerLock.lock();
+        try {
+            List<AuditEvent> batch = new ArrayList<>(batchSize);
+            while (publisher.drain(batch::add, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            auditEventRepository.insertAll(batch);
+            meterRegistry.counter("audit.events.written").increment(batch.size());
+        } catch (DataAccessException e) {
+            meterRegistry.counter("audit.events.failed").increment(batch.size());
+            log.warn("Discarded {} audit events: {}", batch.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.taskmanagerapi.modules.audit.services;
+
+import java.time.YearMonth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.dao.DataAccessException;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.taskmanagerapi.modules.audit.repositories.AuditEventRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AuditPartitionMaintainer - Keeps the monthly audit partitions rolling (PostgreSQL only)
+ * Creates the current month plus partitions-ahead future months and drops
+ * partitions older than retention-months; a no-op on unpartitioned databases
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditPartitionMaintainer {
+
+    private final AuditEventRepository auditEventRepository;
+
+    @Value("${app.audit.partitions-ahead:2}")
+    private int partitionsAhead;
+
+    @Value("${app.audit.retention-months:12}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.audit.partition-cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!auditEventRepository.isPartitioned()) {
+            return;
+        }
+        // Runs at startup too, so a DDL failure (lock timeout, missing privilege) is
+        // logged rather than aborting the boot; the next cron run retries it
+        try {
+            YearMonth current = YearMonth.now();
+            for (int i = 0; i <= partitionsAhead; i++) {
+                auditEventRepository.createPartition(current.plusMonths(i));
+            }
+            auditEventRepository.dropPartitionsBefore(current.minusMonths(retentionMonths - 1L));
+        } catch (DataAccessException e) {
+            log.error("Audit partition maintenance failed; retrying on the next scheduled run", e);
+        }
+    }
+}
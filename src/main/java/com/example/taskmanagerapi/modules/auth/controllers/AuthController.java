@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -62,6 +63,18 @@ public class AuthController {
     @Value("${app.frontend.url}")
     private String frontendUrl;
     
+    // Compared against when no account matches, so unknown logins cost the same bcrypt round
+    private volatile String unknownUserHash;
+    
+    private String unknownUserHash() {
+        String hash = unknownUserHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            unknownUserHash = hash;
+        }
+        return hash;
+    }
+    
     private String getClientIp(HttpServletRequest request) {
         String ip = request.getHeader("X-Forwarded-For");
         if (ip == null || ip.isEmpty()) {
@@ -90,7 +103,9 @@ public class AuthController {
                 .or(() -> this.repository.findByUsername(body.emailOrUsername()))
                 .orElse(null);
 
-        if (user == null || !passwordEncoder.matches(body.password(), user.getPassword())) {
+        boolean passwordMatches = passwordEncoder.matches(body.password(),
+                user != null ? user.getPassword() : unknownUserHash());
+        if (user == null || !passwordMatches) {
             return ResponseEntity.status(401).body(new ErrorResponseDTO(
                 "INVALID_CREDENTIALS",
                 "Invalid credentials.",
@@ -127,11 +142,10 @@ public class AuthController {
         @ApiResponse(responseCode = "201", description = "Account created — verification email sent",
                 content = @Content(schema = @Schema(implementation = MessageResponseDTO.class))),
         @ApiResponse(responseCode = "400", description = "Validation error — `PASSWORDS_DO_NOT_MATCH`, `EMAIL_ALREADY_EXISTS`, `USERNAME_ALREADY_EXISTS`",
-                content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
-        @ApiResponse(responseCode = "500", description = "Email service error — `EMAIL_SEND_ERROR`",
                 content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @PostMapping("/register")
+    @Transactional
     public ResponseEntity<Object> register(
             @Valid @RequestBody RegisterRequestDTO body,
             @RequestHeader(value = "User-Agent", required = false) String userAgent,
@@ -348,11 +362,10 @@ public class AuthController {
         @ApiResponse(responseCode = "400", description = "Email already verified — `EMAIL_ALREADY_VERIFIED`",
                 content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
         @ApiResponse(responseCode = "404", description = "Email not found — `EMAIL_NOT_FOUND`",
-                content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
-        @ApiResponse(responseCode = "500", description = "Email service error — `EMAIL_SEND_ERROR`",
                 content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @PostMapping("/resend-verification")
+    @Transactional
     public ResponseEntity<Object> resendVerification(@RequestBody ForgotPasswordRequestDTO body) {
 
         Optional<User> userOpt = this.repository.findByEmail(body.email());
@@ -404,6 +417,7 @@ public class AuthController {
         @ApiResponse(responseCode = "400", description = "Email not found")
     })
     @PostMapping("/forgot-password")
+    @Transactional
     public ResponseEntity<Object> forgotPassword(@RequestBody ForgotPasswordRequestDTO body) {
 
         Optional<User> userOpt = this.repository.findByEmail(body.email());
@@ -0,0 +1,29 @@
+package com.example.taskmanagerapi.modules.auth.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * CachedRefreshToken - Compact Redis representation of a refresh token
+ * Holds only what validation needs, without the lazy User association
+ */
+public record CachedRefreshToken(
+    String token,
+    String userId,
+    LocalDateTime expirationDate,
+    String ipAddress,
+    String userAgent
+) {
+    public CachedRefreshToken(RefreshToken refreshToken) {
+        this(
+            refreshToken.getToken(),
+            refreshToken.getUser().getId(),
+            refreshToken.getExpirationDate(),
+            refreshToken.getIpAddress(),
+            refreshToken.getUserAgent()
+        );
+    }
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(this.expirationDate);
+    }
+}
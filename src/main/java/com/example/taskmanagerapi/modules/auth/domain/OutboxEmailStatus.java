@@ -0,0 +1,10 @@
+package com.example.taskmanagerapi.modules.auth.domain;
+
+/**
+ * Delivery state of an outbox email
+ * Delivered emails are deleted, so only pending and given-up rows remain
+ */
+public enum OutboxEmailStatus {
+    PENDING,
+    FAILED
+}
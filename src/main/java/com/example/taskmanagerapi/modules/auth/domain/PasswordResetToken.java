@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -13,7 +14,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "password_reset_tokens")
+@Table(name = "password_reset_tokens", indexes = {
+    @Index(name = "idx_password_reset_tokens_token", columnList = "token", unique = true),
+    @Index(name = "idx_password_reset_tokens_email", columnList = "email"),
+    @Index(name = "idx_password_reset_tokens_expiration_date", columnList = "expirationDate")
+})
 @Getter
 @Setter
 @NoArgsConstructor
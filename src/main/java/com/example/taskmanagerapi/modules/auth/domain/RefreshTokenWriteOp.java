@@ -0,0 +1,32 @@
+package com.example.taskmanagerapi.modules.auth.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * RefreshTokenWriteOp - Pending database write queued by the write-behind store
+ * key holds the token for SAVE/DELETE and the user ID for DELETE_USER
+ */
+public record RefreshTokenWriteOp(
+    Type type,
+    String key,
+    LocalDateTime occurredAt,
+    CachedRefreshToken token
+) {
+    public enum Type {
+        SAVE,
+        DELETE,
+        DELETE_USER
+    }
+
+    public static RefreshTokenWriteOp save(CachedRefreshToken token, LocalDateTime createdAt) {
+        return new RefreshTokenWriteOp(Type.SAVE, token.token(), createdAt, token);
+    }
+
+    public static RefreshTokenWriteOp delete(String token) {
+        return new RefreshTokenWriteOp(Type.DELETE, token, LocalDateTime.now(), null);
+    }
+
+    public static RefreshTokenWriteOp deleteUser(String userId) {
+        return new RefreshTokenWriteOp(Type.DELETE_USER, userId, LocalDateTime.now(), null);
+    }
+}
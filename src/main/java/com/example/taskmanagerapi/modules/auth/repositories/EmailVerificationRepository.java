@@ -1,9 +1,14 @@
 package com.example.taskmanagerapi.modules.auth.repositories;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.taskmanagerapi.modules.auth.domain.EmailVerificationToken;
@@ -14,4 +19,10 @@ public interface EmailVerificationRepository extends JpaRepository<EmailVerifica
     @Modifying
     @Transactional
     void deleteByEmail(String email);
+    
+    /**
+     * Ids of expired tokens, one page at a time - used by the token reaper
+     */
+    @Query("SELECT t.id FROM EmailVerificationToken t WHERE t.expirationDate < :now")
+    List<String> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
 }
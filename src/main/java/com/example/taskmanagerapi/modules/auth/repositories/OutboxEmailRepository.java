@@ -0,0 +1,29 @@
+package com.example.taskmanagerapi.modules.auth.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.example.taskmanagerapi.modules.auth.domain.OutboxEmail;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, String> {
+
+    /**
+     * Pending emails that are due, locked FOR UPDATE SKIP LOCKED (lock timeout -2)
+     * so concurrent dispatchers never claim the same rows
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEmail e WHERE e.status = com.example.taskmanagerapi.modules.auth.domain.OutboxEmailStatus.PENDING "
+            + "AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<OutboxEmail> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+}
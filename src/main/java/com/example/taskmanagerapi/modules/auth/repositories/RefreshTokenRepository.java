@@ -1,10 +1,16 @@
 package com.example.taskmanagerapi.modules.auth.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.taskmanagerapi.modules.auth.domain.RefreshToken;
@@ -16,11 +22,31 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Stri
     
     List<RefreshToken> findByUser(User user);
     
+    /**
+     * Bulk delete in a single statement (derived deletes load every row first)
+     */
     @Modifying
     @Transactional
-    void deleteByUser(User user);
+    @Query("DELETE FROM RefreshToken r WHERE r.user = :user")
+    void deleteByUser(@Param("user") User user);
     
     @Modifying
     @Transactional
     void deleteByToken(String token);
+    
+    /**
+     * Active tokens, paged - used to rebuild the Redis store after a cold start
+     */
+    Slice<RefreshToken> findByExpirationDateAfter(LocalDateTime now, Pageable pageable);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id IN :userIds")
+    void deleteByUserIdIn(@Param("userIds") Collection<String> userIds);
+    
+    /**
+     * Ids of expired tokens, one page at a time - used by the token reaper
+     */
+    @Query("SELECT r.token FROM RefreshToken r WHERE r.expirationDate < :now")
+    List<String> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
 }
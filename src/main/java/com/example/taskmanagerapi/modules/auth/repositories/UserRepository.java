@@ -2,11 +2,30 @@ package com.example.taskmanagerapi.modules.auth.repositories;
 
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.example.taskmanagerapi.modules.auth.domain.User;
 
+import jakarta.persistence.QueryHint;
+
 public interface UserRepository extends JpaRepository<User, String> {
+
+    /**
+     * Query cache region for the lookups below (SecurityFilter runs findByEmail on every request)
+     */
+    String LOOKUP_CACHE_REGION = "user-lookups";
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION)
+    })
     Optional<User> findByEmail(String email);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION)
+    })
     Optional<User> findByUsername(String username);
 }
@@ -1,109 +1,80 @@
 package com.example.taskmanagerapi.modules.auth.services;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import com.example.taskmanagerapi.modules.audit.domain.AuditEvent;
+import com.example.taskmanagerapi.modules.audit.domain.AuditEventType;
+import com.example.taskmanagerapi.modules.audit.services.AuditEventPublisher;
 import com.example.taskmanagerapi.modules.auth.domain.User;
 
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AuditLogService - Records authentication events in the audit pipeline
+ * Each call only enqueues an event; AuditEventWriter persists it in the background
+ */
 @Service
+@RequiredArgsConstructor
 public class AuditLogService {
     
-    private static final Logger logger = LoggerFactory.getLogger(AuditLogService.class);
-    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final AuditEventPublisher auditEventPublisher;
     
     /**
      * Log user login event
      */
     public void logLogin(User user, String ipAddress, String userAgent) {
-        String timestamp = LocalDateTime.now().format(formatter);
-        logger.info("[LOGIN] User: {} | Email: {} | IP: {} | Device: {} | Time: {}", 
-            user.getName(), 
-            user.getEmail(), 
-            ipAddress != null ? ipAddress : "unknown",
-            userAgent != null ? userAgent.substring(0, Math.min(50, userAgent.length())) : "unknown",
-            timestamp
-        );
+        publish(user, AuditEventType.LOGIN, ipAddress, userAgent);
     }
     
     /**
      * Log user logout event
      */
     public void logLogout(User user, String ipAddress) {
-        String timestamp = LocalDateTime.now().format(formatter);
-        logger.info("[LOGOUT] User: {} | Email: {} | IP: {} | Time: {}", 
-            user.getName(), 
-            user.getEmail(), 
-            ipAddress != null ? ipAddress : "unknown",
-            timestamp
-        );
+        publish(user, AuditEventType.LOGOUT, ipAddress, null);
     }
     
     /**
      * Log user registration event
      */
     public void logRegistration(User user, String ipAddress) {
-        String timestamp = LocalDateTime.now().format(formatter);
-        logger.info("[REGISTER] User: {} | Email: {} | IP: {} | Time: {}", 
-            user.getName(), 
-            user.getEmail(), 
-            ipAddress != null ? ipAddress : "unknown",
-            timestamp
-        );
+        publish(user, AuditEventType.REGISTER, ipAddress, null);
     }
     
     /**
      * Log token refresh event
      */
     public void logTokenRefresh(User user, String ipAddress) {
-        String timestamp = LocalDateTime.now().format(formatter);
-        logger.info("[TOKEN_REFRESH] User: {} | Email: {} | IP: {} | Time: {}", 
-            user.getName(), 
-            user.getEmail(), 
-            ipAddress != null ? ipAddress : "unknown",
-            timestamp
-        );
+        publish(user, AuditEventType.TOKEN_REFRESH, ipAddress, null);
     }
     
     /**
      * Log logout from all devices event
      */
     public void logLogoutAll(User user, String ipAddress) {
-        String timestamp = LocalDateTime.now().format(formatter);
-        logger.warn("[LOGOUT_ALL] User: {} | Email: {} | IP: {} | Time: {} | Reason: User initiated global logout", 
-            user.getName(), 
-            user.getEmail(), 
-            ipAddress != null ? ipAddress : "unknown",
-            timestamp
-        );
+        publish(user, AuditEventType.LOGOUT_ALL, ipAddress, null);
     }
     
     /**
      * Log password reset event (with token revocation)
      */
     public void logPasswordReset(User user, String ipAddress) {
-        String timestamp = LocalDateTime.now().format(formatter);
-        logger.warn("[PASSWORD_RESET] User: {} | Email: {} | IP: {} | Time: {} | Action: All refresh tokens invalidated", 
-            user.getName(), 
-            user.getEmail(), 
-            ipAddress != null ? ipAddress : "unknown",
-            timestamp
-        );
+        publish(user, AuditEventType.PASSWORD_RESET, ipAddress, null);
     }
 
     /**
      * Log email verification event
      */
     public void logEmailVerification(User user, String ipAddress) {
-        String timestamp = LocalDateTime.now().format(formatter);
-        logger.info("[EMAIL_VERIFIED] User: {} | Email: {} | IP: {} | Time: {}", 
-            user.getName(), 
-            user.getEmail(), 
-            ipAddress != null ? ipAddress : "unknown",
-            timestamp
-        );
+        publish(user, AuditEventType.EMAIL_VERIFIED, ipAddress, null);
+    }
+
+    private void publish(User user, AuditEventType type, String ipAddress, String userAgent) {
+        auditEventPublisher.publish(new AuditEvent(
+            user.getId(),
+            type,
+            ipAddress,
+            userAgent,
+            System.currentTimeMillis()
+        ));
     }
 }
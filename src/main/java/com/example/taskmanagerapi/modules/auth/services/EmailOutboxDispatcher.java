@@ -0,0 +1,222 @@
+package com.example.taskmanagerapi.modules.auth.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.taskmanagerapi.modules.auth.domain.OutboxEmail;
+import com.example.taskmanagerapi.modules.auth.domain.OutboxEmailStatus;
+import com.example.taskmanagerapi.modules.auth.repositories.OutboxEmailRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * EmailOutboxDispatcher - delivers emails queued in the outbox table
+ *
+ * Each poll claims due rows (FOR UPDATE SKIP LOCKED) and leases them by pushing
+ * nextAttemptAt forward, so a crashed node's rows are retried once the lease runs out.
+ * Claimed emails are grouped by recipient domain and every group is sent over a single
+ * SMTP connection on the bounded emailDispatchExecutor. Delivered rows are deleted;
+ * failed ones are retried with exponential backoff until max-attempts.
+ *
+ * The poll never waits for delivery: it hands the groups to at most pool-size lanes
+ * (so the executor neither queues past its threads nor blocks the caller) and returns.
+ * One claim is in flight at a time; when a full claim finishes, the next one is
+ * scheduled right away instead of waiting for the poll interval.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final JavaMailSender mailSender;
+    private final AsyncTaskExecutor emailDispatchExecutor;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean inFlight = new AtomicBoolean();
+
+    @Value("${app.mail.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.pool-size:4}")
+    private int poolSize;
+
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Scheduled(
+        fixedDelayString = "${app.mail.outbox.poll-interval:2000}",
+        initialDelayString = "${app.mail.outbox.poll-interval:2000}"
+    )
+    public void poll() {
+        dispatch();
+    }
+
+    /**
+     * Claim one batch and hand it to the executor
+     * The returned future completes once every claimed email has been delivered or rescheduled
+     */
+    public CompletableFuture<Void> dispatch() {
+        // The previous claim is still being delivered; its completion claims again if needed
+        if (!inFlight.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        try {
+            List<OutboxEmail> claimed = claim();
+            if (claimed.isEmpty()) {
+                inFlight.set(false);
+                return CompletableFuture.completedFuture(null);
+            }
+
+            Map<String, List<OutboxEmail>> byDomain = new LinkedHashMap<>();
+            for (OutboxEmail email : claimed) {
+                byDomain.computeIfAbsent(email.getRecipientDomain(), domain -> new ArrayList<>()).add(email);
+            }
+
+            // Domain batches dealt round-robin into lanes; each lane sends its batches in turn
+            int laneCount = Math.min(poolSize, byDomain.size());
+            List<List<List<OutboxEmail>>> lanes = new ArrayList<>();
+            for (int i = 0; i < laneCount; i++) {
+                lanes.add(new ArrayList<>());
+            }
+            int next = 0;
+            for (List<OutboxEmail> batch : byDomain.values()) {
+                lanes.get(next++ % laneCount).add(batch);
+            }
+
+            return CompletableFuture.allOf(lanes.stream()
+                    .map(lane -> CompletableFuture.runAsync(
+                        () -> lane.forEach(this::deliverLogged), emailDispatchExecutor))
+                    .toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, failure) -> {
+                    inFlight.set(false);
+                    if (claimed.size() == batchSize) {
+                        taskScheduler.schedule(this::dispatch, Instant.now());
+                    }
+                });
+        } catch (RuntimeException e) {
+            inFlight.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Lock due rows, count the attempt and lease them in one short transaction
+     */
+    private List<OutboxEmail> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEmail> due = outboxEmailRepository.findDueForUpdate(now, PageRequest.ofSize(batchSize));
+            for (OutboxEmail email : due) {
+                email.setAttempts(email.getAttempts() + 1);
+                email.setNextAttemptAt(now.plus(CLAIM_LEASE));
+            }
+            return due;
+        });
+    }
+
+    /**
+     * A batch whose result cannot be recorded keeps its lease and is retried once it runs out;
+     * the rest of the lane still goes out
+     */
+    private void deliverLogged(List<OutboxEmail> batch) {
+        try {
+            deliver(batch);
+        } catch (RuntimeException e) {
+            log.error("Failed to record delivery of {} emails to {}: {}", batch.size(),
+                batch.get(0).getRecipientDomain(), e.getMessage());
+        }
+    }
+
+    /**
+     * Send one domain batch; JavaMailSender reuses a single connection for the varargs call
+     */
+    private void deliver(List<OutboxEmail> batch) {
+        Map<SimpleMailMessage, OutboxEmail> messages = new IdentityHashMap<>();
+        for (OutboxEmail email : batch) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(email.getRecipient());
+            message.setSubject(email.getSubject());
+            message.setText(email.getBody());
+            messages.put(message, email);
+        }
+
+        Map<OutboxEmail, Exception> failures = new IdentityHashMap<>();
+        try {
+            mailSender.send(messages.keySet().toArray(SimpleMailMessage[]::new));
+        } catch (MailSendException e) {
+            // Only the listed messages failed; an empty map means nothing was sent
+            if (e.getFailedMessages().isEmpty()) {
+                batch.forEach(email -> failures.put(email, e));
+            } else {
+                e.getFailedMessages().forEach((message, cause) -> failures.put(messages.get(message), cause));
+            }
+        } catch (MailException e) {
+            batch.forEach(email -> failures.put(email, e));
+        }
+
+        List<OutboxEmail> sent = batch.stream().filter(email -> !failures.containsKey(email)).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEmailRepository.deleteAllInBatch(sent);
+            failures.forEach(this::scheduleRetry);
+        });
+
+        meterRegistry.counter("email.outbox.sent").increment(sent.size());
+        meterRegistry.counter("email.outbox.failed").increment(failures.size());
+        if (!failures.isEmpty()) {
+            log.warn("Failed to deliver {} of {} emails to {}", failures.size(), batch.size(),
+                batch.get(0).getRecipientDomain());
+        }
+    }
+
+    private void scheduleRetry(OutboxEmail email, Exception cause) {
+        String error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        email.setLastError(error.substring(0, Math.min(1000, error.length())));
+
+        if (email.getAttempts() >= maxAttempts) {
+            email.setStatus(OutboxEmailStatus.FAILED);
+            log.error("Giving up on email to {} after {} attempts: {}", email.getRecipient(), email.getAttempts(), error);
+        } else {
+            email.setNextAttemptAt(LocalDateTime.now().plus(backoff(email.getAttempts())));
+        }
+        outboxEmailRepository.save(email);
+    }
+
+    /**
+     * initial-backoff doubled per attempt, capped at one hour
+     */
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
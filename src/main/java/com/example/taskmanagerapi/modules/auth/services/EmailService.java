@@ -1,8 +1,10 @@
 package com.example.taskmanagerapi.modules.auth.services;
 
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.taskmanagerapi.modules.auth.domain.OutboxEmail;
+import com.example.taskmanagerapi.modules.auth.repositories.OutboxEmailRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -10,13 +12,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final OutboxEmailRepository outboxEmailRepository;
 
+    /**
+     * Queue an email in the outbox, joining the caller's transaction
+     * Delivery happens asynchronously in EmailOutboxDispatcher
+     */
+    @Transactional
     public void sendEmail(String to, String subject, String text) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(text);
-        mailSender.send(message);
+        outboxEmailRepository.save(new OutboxEmail(to, subject, text));
     }
 }
@@ -0,0 +1,96 @@
+package com.example.taskmanagerapi.modules.auth.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.taskmanagerapi.modules.auth.repositories.EmailVerificationRepository;
+import com.example.taskmanagerapi.modules.auth.repositories.PasswordResetRepository;
+import com.example.taskmanagerapi.modules.auth.repositories.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ExpiredTokenReaper - periodically removes expired auth tokens
+ *
+ * Expired rows are otherwise only deleted when someone presents them. Each run
+ * deletes in bounded batches (one short transaction per batch, driven by the
+ * expirationDate index) and stops after max-batches so a large backlog is worked
+ * off over several runs instead of holding locks for long.
+ *
+ * Metrics: auth.tokens.purged (counter) and auth.tokens.purge (timer), tagged by type.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiredTokenReaper {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final PasswordResetRepository passwordResetRepository;
+    private final EmailVerificationRepository emailVerificationRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.auth.token-reaper.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.auth.token-reaper.max-batches:100}")
+    private int maxBatches;
+
+    @Scheduled(cron = "${app.auth.token-reaper.cron:0 */15 * * * *}")
+    public void purgeExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+
+        purge("refresh", pageable -> refreshTokenRepository.findExpiredIds(now, pageable),
+            refreshTokenRepository::deleteAllByIdInBatch);
+        purge("password_reset", pageable -> passwordResetRepository.findExpiredIds(now, pageable),
+            passwordResetRepository::deleteAllByIdInBatch);
+        purge("email_verification", pageable -> emailVerificationRepository.findExpiredIds(now, pageable),
+            emailVerificationRepository::deleteAllByIdInBatch);
+    }
+
+    /**
+     * Delete expired rows of one token type, a batch at a time
+     * A failure is logged and leaves the remaining rows for the next run
+     */
+    private void purge(String type, Function<Pageable, List<String>> findExpiredIds, Consumer<List<String>> deleteByIds) {
+        Counter purged = meterRegistry.counter("auth.tokens.purged", "type", type);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long total = 0;
+
+        try {
+            // Always read the first page: the previous batch is gone once deleted
+            Pageable firstPage = PageRequest.ofSize(batchSize);
+            for (int batch = 0; batch < maxBatches; batch++) {
+                List<String> ids = findExpiredIds.apply(firstPage);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                deleteByIds.accept(ids);
+                purged.increment(ids.size());
+                total += ids.size();
+                if (ids.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge expired {} tokens: {}", type, e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("auth.tokens.purge", "type", type));
+        }
+
+        if (total > 0) {
+            log.info("Purged {} expired {} tokens", total, type);
+        }
+    }
+}
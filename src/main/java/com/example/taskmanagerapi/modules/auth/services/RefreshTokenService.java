@@ -1,41 +1,74 @@
 package com.example.taskmanagerapi.modules.auth.services;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.taskmanagerapi.modules.auth.domain.CachedRefreshToken;
 import com.example.taskmanagerapi.modules.auth.domain.RefreshToken;
 import com.example.taskmanagerapi.modules.auth.domain.User;
 import com.example.taskmanagerapi.modules.auth.repositories.RefreshTokenRepository;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 @Slf4j
 public class RefreshTokenService {
     
     private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, CachedRefreshToken> refreshTokenRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    // Present only when app.auth.refresh-token.write-behind.enabled=true
+    private final ObjectProvider<RefreshTokenWriteBehindStore> writeBehindStore;
+    private final MeterRegistry meterRegistry;
     
     private static final String REFRESH_TOKEN_CACHE_PREFIX = "refresh_token:";
+    private static final String USER_TOKENS_INDEX_PREFIX = "refresh_token:user:";
     private static final long REFRESH_TOKEN_EXPIRY_DAYS = 7;
+    // Sliding idle window: each successful validation pushes the cache TTL this far out
+    private static final Duration CACHE_IDLE_TTL = Duration.ofDays(1);
+    // Counter tagged with result=hit|miss|expired|fallback for every cache lookup
+    private static final String CACHE_LOOKUP_METRIC = "auth.refresh_token.cache";
+    
+    /**
+     * Store a token entry and add it to the owner's index in one round trip
+     * KEYS: token key, user index. ARGV: value, entry ttl, index ttl, index member
+     * The member is encoded with redisTemplate's value serializer, which reads the index back
+     */
+    private static final RedisScript<Long> CACHE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
     
     /**
      * Create a new refresh token for a user
      * Refresh tokens expire in 7 days and are cached in Redis
+     * In write-behind mode only Redis is written; Postgres catches up asynchronously
      */
-    @Transactional
     public RefreshToken createRefreshToken(User user, String ipAddress, String userAgent) {
-        // Delete any existing refresh tokens for this user (both DB and cache)
-        deleteAllUserTokens(user);
-        
         RefreshToken refreshToken = new RefreshToken();
         refreshToken.setToken(UUID.randomUUID().toString());
         refreshToken.setUser(user);
@@ -44,15 +77,32 @@ public class RefreshTokenService {
         refreshToken.setIpAddress(ipAddress);
         refreshToken.setUserAgent(userAgent);
         
-        // Save to database
-        RefreshToken savedToken = refreshTokenRepository.save(refreshToken);
-        
-        // Cache in Redis with 7-day expiration
-        cacheRefreshToken(savedToken);
+        RefreshTokenWriteBehindStore store = writeBehindStore.getIfAvailable();
+        if (store != null) {
+            // Revokes the old tokens and stores the new one in a single atomic step
+            log.debug("Rotated refresh token in write-behind store for user: {}", user.getEmail());
+            return store.rotate(refreshToken);
+        }
         
-        log.debug("Created and cached refresh token for user: {}", user.getEmail());
+        // Read outside the transaction: inside it the template holds a MULTI connection and
+        // every read borrows a second one, which deadlocks the pool under concurrent logins
+        List<String> staleCacheKeys = indexedCacheKeys(user);
         
-        return savedToken;
+        return transactionTemplate.execute(status -> {
+            // Delete any existing refresh tokens for this user (both DB and cache)
+            unlinkCacheKeys(staleCacheKeys);
+            refreshTokenRepository.deleteByUser(user);
+            
+            // Save to database
+            RefreshToken savedToken = refreshTokenRepository.save(refreshToken);
+            
+            // Cache in Redis with 7-day expiration
+            cacheRefreshToken(savedToken);
+            
+            log.debug("Created and cached refresh token for user: {}", user.getEmail());
+            
+            return savedToken;
+        });
     }
     
     /**
@@ -60,29 +110,38 @@ public class RefreshTokenService {
      * Checks Redis cache first, falls back to database
      */
     public Optional<RefreshToken> validateRefreshToken(String token) {
+        RefreshTokenWriteBehindStore store = writeBehindStore.getIfAvailable();
+        if (store != null) {
+            Optional<RefreshToken> stored = validateFromStore(store, token);
+            if (stored != null) {
+                return stored;
+            }
+        }
+        
         String cacheKey = REFRESH_TOKEN_CACHE_PREFIX + token;
         
-        // Try cache first
+        // Try cache first - GETEX reads the entry and slides its TTL in one round trip
         try {
-            RefreshToken cachedToken = (RefreshToken) redisTemplate.opsForValue().get(cacheKey);
+            CachedRefreshToken cachedToken = refreshTokenRedisTemplate.opsForValue()
+                    .getAndExpire(cacheKey, CACHE_IDLE_TTL);
             
             if (cachedToken != null) {
                 // Verify token is not expired
                 if (!cachedToken.isExpired()) {
+                    recordCacheLookup("hit");
                     log.debug("Refresh token found in cache: {}", token.substring(0, 8) + "...");
-                    
-                    // Update cache expiration on successful validation
-                    updateCacheExpiration(cachedToken);
-                    
-                    return Optional.of(cachedToken);
+                    return toRefreshToken(cachedToken);
                 } else {
                     // Token expired, remove from cache and DB
+                    recordCacheLookup("expired");
                     log.debug("Cached refresh token expired: {}", token.substring(0, 8) + "...");
                     deleteRefreshToken(token);
                     return Optional.empty();
                 }
             }
+            recordCacheLookup("miss");
         } catch (Exception e) {
+            recordCacheLookup("fallback");
             log.warn("Redis cache read failed, falling back to database: {}", e.getMessage());
         }
         
@@ -104,7 +163,14 @@ public class RefreshTokenService {
         }
         
         // Cache the token for future requests
-        cacheRefreshToken(refreshToken);
+        if (store != null) {
+            if (!store.cache(refreshToken)) {
+                // Revoked in Redis while recovery runs; the queued delete has not reached Postgres
+                return Optional.empty();
+            }
+        } else {
+            cacheRefreshToken(refreshToken);
+        }
         log.debug("Token retrieved from DB and cached: {}", token.substring(0, 8) + "...");
         
         return Optional.of(refreshToken);
@@ -114,70 +180,152 @@ public class RefreshTokenService {
      * Delete refresh token (logout from specific device)
      * Removes from both cache and database
      */
-    @Transactional
     public void deleteRefreshToken(String token) {
-        String cacheKey = REFRESH_TOKEN_CACHE_PREFIX + token;
-        
-        // Remove from cache
-        try {
-            redisTemplate.delete(cacheKey);
-            log.debug("Deleted refresh token from cache: {}", token.substring(0, 8) + "...");
-        } catch (Exception e) {
-            log.warn("Failed to delete token from cache: {}", e.getMessage());
+        RefreshTokenWriteBehindStore store = writeBehindStore.getIfAvailable();
+        if (store != null) {
+            store.revoke(token);
+            log.debug("Revoked refresh token in write-behind store: {}", token.substring(0, 8) + "...");
+            return;
         }
         
-        // Remove from database
-        refreshTokenRepository.deleteByToken(token);
-        log.debug("Deleted refresh token from database: {}", token.substring(0, 8) + "...");
+        transactionTemplate.executeWithoutResult(status -> {
+            String cacheKey = REFRESH_TOKEN_CACHE_PREFIX + token;
+            
+            // Remove from cache
+            try {
+                redisTemplate.delete(cacheKey);
+                log.debug("Deleted refresh token from cache: {}", token.substring(0, 8) + "...");
+            } catch (Exception e) {
+                log.warn("Failed to delete token from cache: {}", e.getMessage());
+            }
+            
+            // Remove from database
+            refreshTokenRepository.deleteByToken(token);
+            log.debug("Deleted refresh token from database: {}", token.substring(0, 8) + "...");
+        });
     }
     
     /**
      * Delete all refresh tokens for a user (logout from all devices)
      * Clears both cache and database entries
+     * Cache keys come from the per-user index, so no database read is needed
      */
-    @Transactional
     public void deleteAllUserTokens(User user) {
-        // Get all tokens from database to remove from cache
-        var tokens = refreshTokenRepository.findByUser(user);
-        
-        // Remove each token from cache
-        tokens.forEach(token -> {
-            try {
-                String cacheKey = REFRESH_TOKEN_CACHE_PREFIX + token.getToken();
-                redisTemplate.delete(cacheKey);
-            } catch (Exception e) {
-                log.warn("Failed to delete token from cache: {}", e.getMessage());
-            }
-        });
+        RefreshTokenWriteBehindStore store = writeBehindStore.getIfAvailable();
+        if (store != null) {
+            store.revokeAll(user);
+            log.info("Revoked all refresh tokens for user: {}", user.getEmail());
+            return;
+        }
         
-        // Remove all from database
-        refreshTokenRepository.deleteByUser(user);
+        List<String> cacheKeys = indexedCacheKeys(user);
         
-        log.info("Deleted all refresh tokens for user: {}", user.getEmail());
+        transactionTemplate.executeWithoutResult(status -> {
+            unlinkCacheKeys(cacheKeys);
+            
+            // Remove all from database
+            refreshTokenRepository.deleteByUser(user);
+            
+            log.info("Deleted all refresh tokens for user: {}", user.getEmail());
+        });
+    }
+    
+    /**
+     * The user's token index plus every cache key it lists
+     * Must be called outside a transaction (see createRefreshToken)
+     */
+    private List<String> indexedCacheKeys(User user) {
+        String indexKey = USER_TOKENS_INDEX_PREFIX + user.getId();
+        List<String> keys = new ArrayList<>();
+        keys.add(indexKey);
+        try {
+            Set<Object> cacheKeys = redisTemplate.opsForSet().members(indexKey);
+            if (cacheKeys != null) {
+                cacheKeys.forEach(key -> keys.add((String) key));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read token index from cache: {}", e.getMessage());
+        }
+        return keys;
+    }
+    
+    /**
+     * Remove every indexed token plus the index itself with a single UNLINK
+     */
+    private void unlinkCacheKeys(List<String> keys) {
+        try {
+            redisTemplate.unlink(keys);
+        } catch (Exception e) {
+            log.warn("Failed to delete tokens from cache: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Validate against the write-behind store
+     * Returns null when the store cannot answer and the database must be consulted:
+     * Redis is unreachable, or a miss happened before cold-start recovery finished
+     */
+    private Optional<RefreshToken> validateFromStore(RefreshTokenWriteBehindStore store, String token) {
+        try {
+            Optional<CachedRefreshToken> cachedToken = store.find(token);
+            if (cachedToken.isPresent()) {
+                if (cachedToken.get().isExpired()) {
+                    recordCacheLookup("expired");
+                    store.revoke(token);
+                    return Optional.empty();
+                }
+                recordCacheLookup("hit");
+                return toRefreshToken(cachedToken.get());
+            }
+            // Redis is the primary store: a miss is final once recovery is done
+            if (store.isAuthoritative()) {
+                recordCacheLookup("miss");
+                return Optional.empty();
+            }
+            recordCacheLookup("fallback");
+            return null;
+        } catch (Exception e) {
+            recordCacheLookup("fallback");
+            log.warn("Write-behind store read failed, falling back to database: {}", e.getMessage());
+            return null;
+        }
     }
     
     /**
      * Cache refresh token in Redis with expiration
+     * Also records the cache key in the owner's token index
      */
     private void cacheRefreshToken(RefreshToken token) {
         try {
             String cacheKey = REFRESH_TOKEN_CACHE_PREFIX + token.getToken();
+            String indexKey = USER_TOKENS_INDEX_PREFIX + token.getUser().getId();
             
             // Calculate remaining time until expiration
-            long secondsUntilExpiry = java.time.Duration.between(
+            long secondsUntilExpiry = Duration.between(
                 LocalDateTime.now(), 
                 token.getExpirationDate()
             ).getSeconds();
             
             // Only cache if token has more than 1 minute remaining
             if (secondsUntilExpiry > 60) {
-                redisTemplate.opsForValue().set(
-                    cacheKey, 
-                    token, 
-                    secondsUntilExpiry, 
-                    TimeUnit.SECONDS
+                long cacheSeconds = Math.min(secondsUntilExpiry, CACHE_IDLE_TTL.getSeconds());
+                @SuppressWarnings("unchecked")
+                RedisSerializer<CachedRefreshToken> valueSerializer =
+                    (RedisSerializer<CachedRefreshToken>) refreshTokenRedisTemplate.getValueSerializer();
+                @SuppressWarnings("unchecked")
+                RedisSerializer<Object> indexMemberSerializer =
+                    (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+                refreshTokenRedisTemplate.execute(
+                    CACHE_SCRIPT,
+                    RedisSerializer.byteArray(),
+                    null,
+                    List.of(cacheKey, indexKey),
+                    valueSerializer.serialize(new CachedRefreshToken(token)),
+                    utf8(Long.toString(cacheSeconds)),
+                    utf8(Long.toString(secondsUntilExpiry)),
+                    indexMemberSerializer.serialize(cacheKey)
                 );
-                log.debug("Cached refresh token with {} seconds expiry", secondsUntilExpiry);
+                log.debug("Cached refresh token with {} seconds expiry", cacheSeconds);
             }
         } catch (Exception e) {
             log.error("Failed to cache refresh token: {}", e.getMessage());
@@ -185,27 +333,27 @@ public class RefreshTokenService {
         }
     }
     
+    private void recordCacheLookup(String result) {
+        meterRegistry.counter(CACHE_LOOKUP_METRIC, "result", result).increment();
+    }
+    
     /**
-     * Update cache expiration time when token is validated/rotated
-     * This implements a sliding window for frequently used tokens
+     * Rebuild a RefreshToken from its cache entry
+     * The owner is loaded by primary key; a deleted user invalidates the token
      */
-    private void updateCacheExpiration(RefreshToken token) {
-        try {
-            String cacheKey = REFRESH_TOKEN_CACHE_PREFIX + token.getToken();
-            
-            // Calculate remaining time
-            long secondsUntilExpiry = java.time.Duration.between(
-                LocalDateTime.now(), 
-                token.getExpirationDate()
-            ).getSeconds();
-            
-            // Update expiration
-            if (secondsUntilExpiry > 60) {
-                redisTemplate.expire(cacheKey, secondsUntilExpiry, TimeUnit.SECONDS);
-                log.debug("Updated cache expiration for token");
-            }
-        } catch (Exception e) {
-            log.warn("Failed to update cache expiration: {}", e.getMessage());
-        }
+    private Optional<RefreshToken> toRefreshToken(CachedRefreshToken cachedToken) {
+        return userRepository.findById(cachedToken.userId()).map(user -> {
+            RefreshToken refreshToken = new RefreshToken();
+            refreshToken.setToken(cachedToken.token());
+            refreshToken.setUser(user);
+            refreshToken.setExpirationDate(cachedToken.expirationDate());
+            refreshToken.setIpAddress(cachedToken.ipAddress());
+            refreshToken.setUserAgent(cachedToken.userAgent());
+            return refreshToken;
+        });
+    }
+    
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 }
@@ -0,0 +1,490 @@
+package com.example.taskmanagerapi.modules.auth.services;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.taskmanagerapi.config.CachedRefreshTokenSerializer;
+import com.example.taskmanagerapi.config.RefreshTokenWriteOpSerializer;
+import com.example.taskmanagerapi.modules.auth.domain.CachedRefreshToken;
+import com.example.taskmanagerapi.modules.auth.domain.RefreshToken;
+import com.example.taskmanagerapi.modules.auth.domain.RefreshTokenWriteOp;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.RefreshTokenRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RefreshTokenWriteBehindStore - Redis-primary storage for active refresh tokens
+ *
+ * Enabled with app.auth.refresh-token.write-behind.enabled=true. Token writes go to
+ * Redis only: every mutation runs as one Lua script that updates the token keys and
+ * appends the matching RefreshTokenWriteOp to a durable Redis list in the same step.
+ * A scheduled flusher drains that list into Postgres in batches, and on startup the
+ * active tokens are reloaded from Postgres if Redis lost its data.
+ *
+ * While recovery is pending, revocations also leave a tombstone (token, or user with
+ * the revocation time). Tokens are only loaded back into Redis if no tombstone covers
+ * them, so a page read from Postgres before a revoke cannot bring the token back.
+ *
+ * The scripts touch token keys read from the index set, which is fine for a
+ * standalone Redis but would need hash tags under Redis Cluster.
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.refresh-token.write-behind.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenWriteBehindStore {
+
+    private static final String TOKEN_KEY_PREFIX = "refresh_token:";
+    private static final String USER_INDEX_PREFIX = "refresh_token:wb:user:";
+    private static final String QUEUE_KEY = "refresh_token:wb:queue";
+    private static final String FLUSH_LOCK_KEY = "refresh_token:wb:flush-lock";
+    private static final String RECOVERED_KEY = "refresh_token:wb:recovered";
+    private static final String RECOVERY_LOCK_KEY = "refresh_token:wb:recovery-lock";
+    private static final String TOMBSTONES_KEY = "refresh_token:wb:tombstones";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+    private static final Duration RECOVERY_LOCK_TTL = Duration.ofMinutes(1);
+    private static final int RECOVERY_PAGE_SIZE = 1000;
+
+    /**
+     * Revoke every token of a user, store the new one and queue both writes
+     * KEYS: user index, new token key, queue, recovered marker, tombstones
+     * ARGV: value, ttl, delete-user op, save op, user tombstone, revoked-at millis
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local old = redis.call('SMEMBERS', KEYS[1])
+            for i = 1, #old do redis.call('UNLINK', old[i]) end
+            redis.call('DEL', KEYS[1])
+            redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[2])
+            redis.call('SADD', KEYS[1], KEYS[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('RPUSH', KEYS[3], ARGV[3], ARGV[4])
+            if redis.call('EXISTS', KEYS[4]) == 0 then redis.call('HSET', KEYS[5], ARGV[5], ARGV[6]) end
+            return #old
+            """, Long.class);
+
+    /**
+     * Revoke every token of a user and queue the delete
+     * KEYS: user index, queue, recovered marker, tombstones
+     * ARGV: delete-user op, user tombstone, revoked-at millis
+     */
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local old = redis.call('SMEMBERS', KEYS[1])
+            for i = 1, #old do redis.call('UNLINK', old[i]) end
+            redis.call('DEL', KEYS[1])
+            redis.call('RPUSH', KEYS[2], ARGV[1])
+            if redis.call('EXISTS', KEYS[3]) == 0 then redis.call('HSET', KEYS[4], ARGV[2], ARGV[3]) end
+            return #old
+            """, Long.class);
+
+    /**
+     * Revoke a single token and queue the delete
+     * KEYS: token key, queue, recovered marker, tombstones
+     * ARGV: delete op, token tombstone, revoked-at millis
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            local removed = redis.call('UNLINK', KEYS[1])
+            redis.call('RPUSH', KEYS[2], ARGV[1])
+            if redis.call('EXISTS', KEYS[3]) == 0 then redis.call('HSET', KEYS[4], ARGV[2], ARGV[3]) end
+            return removed
+            """, Long.class);
+
+    /**
+     * Load tokens read from Postgres unless a tombstone covers them
+     * KEYS: tombstones, then token key and user index per token
+     * ARGV per token: value, ttl, token tombstone, user tombstone, created-at millis
+     */
+    private static final RedisScript<Long> CACHE_SCRIPT = new DefaultRedisScript<>("""
+            local cached = 0
+            for i = 2, #KEYS, 2 do
+                local a = (i - 2) / 2 * 5
+                local userRevokedAt = redis.call('HGET', KEYS[1], ARGV[a + 4])
+                if redis.call('HEXISTS', KEYS[1], ARGV[a + 3]) == 0
+                        and (not userRevokedAt or tonumber(userRevokedAt) < tonumber(ARGV[a + 5])) then
+                    redis.call('SET', KEYS[i], ARGV[a + 1], 'EX', ARGV[a + 2])
+                    redis.call('SADD', KEYS[i + 1], KEYS[i])
+                    redis.call('EXPIRE', KEYS[i + 1], ARGV[a + 2])
+                    cached = cached + 1
+                end
+            end
+            return cached
+            """, Long.class);
+
+    /**
+     * Mark recovery done and drop the tombstones it no longer needs, only while this recovery still holds its lock
+     * KEYS: recovered marker, tombstones, recovery lock. ARGV: marker value, fencing token
+     */
+    private static final RedisScript<Long> FINISH_RECOVERY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[3]) ~= ARGV[2] then return 0 end
+            redis.call('SET', KEYS[1], ARGV[1])
+            redis.call('DEL', KEYS[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * Extend a lock, only while this holder still has it
+     * KEYS: lock. ARGV: fencing token, lock ttl millis
+     */
+    private static final RedisScript<Long> EXTEND_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            """, Long.class);
+
+    /**
+     * Trim the applied entries and extend the flush lock, only while this flush still holds it
+     * KEYS: queue, flush lock. ARGV: fencing token, applied count, lock ttl millis
+     */
+    private static final RedisScript<Long> TRIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end
+            redis.call('LTRIM', KEYS[1], ARGV[2], -1)
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * Release a lock only if this node still holds it
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, CachedRefreshToken> refreshTokenRedisTemplate;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final AsyncTaskExecutor refreshTokenRecoveryExecutor;
+
+    private final CachedRefreshTokenSerializer tokenSerializer = new CachedRefreshTokenSerializer();
+    private final RefreshTokenWriteOpSerializer opSerializer = new RefreshTokenWriteOpSerializer();
+    private final AtomicBoolean recovering = new AtomicBoolean();
+
+    @Value("${app.auth.refresh-token.write-behind.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Atomically replace all tokens of a user with a new one
+     */
+    public RefreshToken rotate(RefreshToken refreshToken) {
+        CachedRefreshToken cached = new CachedRefreshToken(refreshToken);
+        long ttlSeconds = Duration.between(LocalDateTime.now(), refreshToken.getExpirationDate()).getSeconds();
+
+        stringRedisTemplate.execute(
+            ROTATE_SCRIPT,
+            RedisSerializer.byteArray(),
+            null,
+            List.of(USER_INDEX_PREFIX + cached.userId(), TOKEN_KEY_PREFIX + cached.token(), QUEUE_KEY,
+                RECOVERED_KEY, TOMBSTONES_KEY),
+            tokenSerializer.serialize(cached),
+            utf8(Long.toString(ttlSeconds)),
+            opSerializer.serialize(RefreshTokenWriteOp.deleteUser(cached.userId())),
+            opSerializer.serialize(RefreshTokenWriteOp.save(cached, refreshToken.getCreatedAt())),
+            utf8(userTombstone(cached.userId())),
+            utf8(Long.toString(System.currentTimeMillis()))
+        );
+        return refreshToken;
+    }
+
+    /**
+     * Look a token up in Redis only
+     */
+    public Optional<CachedRefreshToken> find(String token) {
+        return Optional.ofNullable(refreshTokenRedisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + token));
+    }
+
+    /**
+     * Whether a Redis miss can be trusted as "no such token"
+     * False until the active tokens have been loaded from Postgres
+     */
+    public boolean isAuthoritative() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(RECOVERED_KEY))) {
+            return true;
+        }
+        // Redis lost its data (or recovery is still running): reload in the background
+        if (!recovering.get()) {
+            try {
+                refreshTokenRecoveryExecutor.execute(this::recover);
+            } catch (TaskRejectedException e) {
+                // The single recovery thread is already busy
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Re-populate Redis with a token read from Postgres during recovery
+     * Returns false if the token was revoked in Redis and Postgres has not caught up
+     */
+    public boolean cache(RefreshToken refreshToken) {
+        return cacheAll(List.of(refreshToken)) > 0;
+    }
+
+    public void revoke(String token) {
+        stringRedisTemplate.execute(
+            REVOKE_SCRIPT,
+            RedisSerializer.byteArray(),
+            null,
+            List.of(TOKEN_KEY_PREFIX + token, QUEUE_KEY, RECOVERED_KEY, TOMBSTONES_KEY),
+            opSerializer.serialize(RefreshTokenWriteOp.delete(token)),
+            utf8(tokenTombstone(token)),
+            utf8(Long.toString(System.currentTimeMillis()))
+        );
+    }
+
+    public void revokeAll(User user) {
+        stringRedisTemplate.execute(
+            REVOKE_ALL_SCRIPT,
+            RedisSerializer.byteArray(),
+            null,
+            List.of(USER_INDEX_PREFIX + user.getId(), QUEUE_KEY, RECOVERED_KEY, TOMBSTONES_KEY),
+            opSerializer.serialize(RefreshTokenWriteOp.deleteUser(user.getId())),
+            utf8(userTombstone(user.getId())),
+            utf8(Long.toString(System.currentTimeMillis()))
+        );
+    }
+
+    /**
+     * Drain queued writes into Postgres
+     * A short Redis lock keeps a single node flushing. Each flush holds it under its own
+     * fencing token: a batch is trimmed, and the lock extended, only if the token still
+     * matches, so a flush that outlived its lock stops instead of dropping entries that
+     * the new holder has not applied. Replaying a batch is harmless (see insertMissing).
+     */
+    @Scheduled(fixedDelayString = "${app.auth.refresh-token.write-behind.flush-interval:1000}")
+    public void flush() {
+        String fence = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, fence, FLUSH_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            List<RefreshTokenWriteOp> batch;
+            do {
+                batch = readBatch();
+                if (batch.isEmpty()) {
+                    break;
+                }
+                applyBatch(batch);
+                Long trimmed = stringRedisTemplate.execute(TRIM_SCRIPT, List.of(QUEUE_KEY, FLUSH_LOCK_KEY),
+                    fence, Integer.toString(batch.size()), Long.toString(FLUSH_LOCK_TTL.toMillis()));
+                if (trimmed == null || trimmed == 0) {
+                    log.warn("Refresh token flush lost its lock; leaving {} applied writes queued", batch.size());
+                    return;
+                }
+                log.debug("Flushed {} refresh token writes to database", batch.size());
+            } while (batch.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Refresh token write-behind flush failed: {}", e.getMessage());
+        } finally {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), fence);
+        }
+    }
+
+    /**
+     * Reload active tokens from Postgres when Redis starts empty
+     * Fenced like flush(): the recovery lock is held under this run's own token and extended
+     * after every page while the token still matches, so a recovery that stalled past its
+     * lock stops, and never marks Redis recovered on behalf of the node that took over.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        if (!recovering.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(RECOVERED_KEY))) {
+                return;
+            }
+            String fence = UUID.randomUUID().toString();
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(RECOVERY_LOCK_KEY, fence, RECOVERY_LOCK_TTL);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+
+            try {
+                long loaded = 0;
+                Slice<RefreshToken> page;
+                int pageNumber = 0;
+                do {
+                    page = refreshTokenRepository.findByExpirationDateAfter(
+                        LocalDateTime.now(), PageRequest.of(pageNumber++, RECOVERY_PAGE_SIZE));
+                    cacheAll(page.getContent());
+                    loaded += page.getNumberOfElements();
+                    Long extended = stringRedisTemplate.execute(EXTEND_LOCK_SCRIPT, List.of(RECOVERY_LOCK_KEY),
+                        fence, Long.toString(RECOVERY_LOCK_TTL.toMillis()));
+                    if (extended == null || extended == 0) {
+                        log.warn("Refresh token recovery lost its lock after {} tokens; leaving it to the new holder",
+                            loaded);
+                        return;
+                    }
+                } while (page.hasNext());
+
+                Long finished = stringRedisTemplate.execute(FINISH_RECOVERY_SCRIPT,
+                    List.of(RECOVERED_KEY, TOMBSTONES_KEY, RECOVERY_LOCK_KEY), LocalDateTime.now().toString(), fence);
+                if (finished == null || finished == 0) {
+                    log.warn("Refresh token recovery lost its lock before finishing; leaving it to the new holder");
+                    return;
+                }
+                log.info("Recovered {} active refresh tokens from database into Redis", loaded);
+            } finally {
+                stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(RECOVERY_LOCK_KEY), fence);
+            }
+        } catch (Exception e) {
+            log.error("Refresh token recovery failed: {}", e.getMessage());
+        } finally {
+            recovering.set(false);
+        }
+    }
+
+    private List<RefreshTokenWriteOp> readBatch() {
+        List<byte[]> raw = stringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+            connection.listCommands().lRange(utf8(QUEUE_KEY), 0, batchSize - 1));
+        if (raw == null) {
+            return List.of();
+        }
+        return raw.stream().map(opSerializer::deserialize).toList();
+    }
+
+    /**
+     * Apply a batch in one transaction; if that fails, apply op by op and drop the
+     * ones that cannot succeed (e.g. the user was deleted) so the queue keeps moving
+     */
+    private void applyBatch(List<RefreshTokenWriteOp> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyInOrder(batch));
+        } catch (Exception batchFailure) {
+            log.warn("Write-behind batch failed, retrying op by op: {}", batchFailure.getMessage());
+            for (RefreshTokenWriteOp op : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> applyInOrder(List.of(op)));
+                } catch (Exception e) {
+                    log.error("Dropping refresh token write {} for {}: {}", op.type(), op.key(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Consecutive ops of the same type are applied together, preserving queue order
+     */
+    private void applyInOrder(List<RefreshTokenWriteOp> ops) {
+        int start = 0;
+        while (start < ops.size()) {
+            RefreshTokenWriteOp.Type type = ops.get(start).type();
+            int end = start;
+            while (end < ops.size() && ops.get(end).type() == type) {
+                end++;
+            }
+            List<RefreshTokenWriteOp> run = ops.subList(start, end);
+            switch (type) {
+                case SAVE -> insertMissing(run);
+                case DELETE -> refreshTokenRepository.deleteAllByIdInBatch(
+                    run.stream().map(RefreshTokenWriteOp::key).toList());
+                case DELETE_USER -> refreshTokenRepository.deleteByUserIdIn(
+                    run.stream().map(RefreshTokenWriteOp::key).collect(Collectors.toSet()));
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Insert tokens not yet in the database; a replayed batch skips rows already written
+     */
+    private void insertMissing(List<RefreshTokenWriteOp> saves) {
+        Set<String> existing = refreshTokenRepository.findAllById(
+                saves.stream().map(RefreshTokenWriteOp::key).toList())
+            .stream()
+            .map(RefreshToken::getToken)
+            .collect(Collectors.toSet());
+
+        for (RefreshTokenWriteOp op : saves) {
+            if (existing.contains(op.key())) {
+                continue;
+            }
+            CachedRefreshToken cached = op.token();
+            RefreshToken refreshToken = new RefreshToken();
+            refreshToken.setToken(cached.token());
+            refreshToken.setUser(entityManager.getReference(User.class, cached.userId()));
+            refreshToken.setExpirationDate(cached.expirationDate());
+            refreshToken.setCreatedAt(op.occurredAt());
+            refreshToken.setIpAddress(cached.ipAddress());
+            refreshToken.setUserAgent(cached.userAgent());
+            entityManager.persist(refreshToken);
+        }
+    }
+
+    /**
+     * Load tokens into Redis in one script call, skipping expired and tombstoned ones
+     * Returns the number of tokens written
+     */
+    private long cacheAll(List<RefreshToken> tokens) {
+        List<String> keys = new ArrayList<>();
+        List<byte[]> args = new ArrayList<>();
+        keys.add(TOMBSTONES_KEY);
+        for (RefreshToken refreshToken : tokens) {
+            long ttlSeconds = Duration.between(LocalDateTime.now(), refreshToken.getExpirationDate()).getSeconds();
+            if (ttlSeconds <= 0) {
+                continue;
+            }
+            String userId = refreshToken.getUser().getId();
+            keys.add(TOKEN_KEY_PREFIX + refreshToken.getToken());
+            keys.add(USER_INDEX_PREFIX + userId);
+            args.add(tokenSerializer.serialize(new CachedRefreshToken(refreshToken)));
+            args.add(utf8(Long.toString(ttlSeconds)));
+            args.add(utf8(tokenTombstone(refreshToken.getToken())));
+            args.add(utf8(userTombstone(userId)));
+            args.add(utf8(Long.toString(
+                refreshToken.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())));
+        }
+        if (args.isEmpty()) {
+            return 0;
+        }
+        Long cached = stringRedisTemplate.execute(
+            CACHE_SCRIPT, RedisSerializer.byteArray(), null, keys, args.toArray());
+        return cached == null ? 0 : cached;
+    }
+
+    private static String tokenTombstone(String token) {
+        return "token:" + token;
+    }
+
+    private static String userTombstone(String userId) {
+        return "user:" + userId;
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.taskmanagerapi.modules.batch.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.batch.dto.BatchOperationDTO;
+import com.example.taskmanagerapi.modules.batch.dto.BatchRequestDTO;
+import com.example.taskmanagerapi.modules.batch.dto.BatchResponseDTO;
+import com.example.taskmanagerapi.modules.batch.dto.BatchResultDTO;
+import com.example.taskmanagerapi.modules.batch.services.BatchService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * BatchController - Several board, list and card operations in one request and one transaction
+ */
+@RestController
+@RequestMapping("/batch")
+@RequiredArgsConstructor
+@Tag(name = "Batch", description = "Run several board, list and card operations atomically")
+@SecurityRequirement(name = "Bearer Authentication")
+public class BatchController {
+
+    private final BatchService batchService;
+
+    @Value("${app.batch.max-operations:100}")
+    private int maxOperations;
+
+    @Operation(summary = "Run Batch", description = "Run board, list and card operations (CREATE, UPDATE, MOVE, "
+        + "DELETE) in order in one transaction. Each operation takes the body of the matching single endpoint as "
+        + "data; IDs written as \"$ref\" refer to entities created earlier in the batch. If any operation fails "
+        + "nothing is committed and the response has that operation's status.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "All operations committed",
+                content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid batch or operation"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - An operation targets another user's board"),
+        @ApiResponse(responseCode = "404", description = "An operation targets a missing entity"),
+        @ApiResponse(responseCode = "409", description = "Concurrent modification persisted after retries"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token")
+    })
+    @PostMapping
+    public ResponseEntity<Object> execute(
+            @RequestBody BatchRequestDTO body,
+            @AuthenticationPrincipal User user) {
+
+        List<BatchOperationDTO> operations = body.operations();
+        if (operations == null || operations.isEmpty()) {
+            return ResponseEntity.badRequest().body("At least one operation is required");
+        }
+        if (operations.size() > maxOperations) {
+            return ResponseEntity.badRequest().body("At most " + maxOperations + " operations per batch");
+        }
+
+        BatchResponseDTO response = batchService.execute(operations, user);
+        if (response.committed()) {
+            return ResponseEntity.ok(response);
+        }
+        BatchResultDTO failed = response.results().get(response.results().size() - 1);
+        return ResponseEntity.status(HttpStatus.valueOf(failed.status())).body(response);
+    }
+}
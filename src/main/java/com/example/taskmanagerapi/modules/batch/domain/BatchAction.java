@@ -0,0 +1,12 @@
+package com.example.taskmanagerapi.modules.batch.domain;
+
+/**
+ * What a batch operation does to its target
+ * MOVE applies to cards (another list and/or position) and lists (position)
+ */
+public enum BatchAction {
+    CREATE,
+    UPDATE,
+    MOVE,
+    DELETE
+}
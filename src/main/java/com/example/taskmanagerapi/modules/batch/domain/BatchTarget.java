@@ -0,0 +1,10 @@
+package com.example.taskmanagerapi.modules.batch.domain;
+
+/**
+ * Kind of entity a batch operation works on
+ */
+public enum BatchTarget {
+    BOARD,
+    LIST,
+    CARD
+}
@@ -0,0 +1,36 @@
+package com.example.taskmanagerapi.modules.batch.dto;
+
+import com.example.taskmanagerapi.modules.batch.domain.BatchAction;
+import com.example.taskmanagerapi.modules.batch.domain.BatchTarget;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * BatchOperationDTO - One operation of a batch
+ * IDs may be "$name" to use the ID created by an earlier operation with ref "name"
+ */
+@Schema(description = "One operation of a batch. Any ID may be \"$ref\" to use the entity created by an earlier "
+    + "operation in the same batch with that ref.")
+public record BatchOperationDTO(
+    @Schema(description = "What to do", example = "MOVE", requiredMode = Schema.RequiredMode.REQUIRED)
+    BatchAction action,
+
+    @Schema(description = "What to do it to", example = "CARD", requiredMode = Schema.RequiredMode.REQUIRED)
+    BatchTarget target,
+
+    @Schema(description = "Board, list or card to update, move or delete", example = "uuid-of-card")
+    String id,
+
+    @Schema(description = "Where to create: workspace ID for a board, board ID for a list, list ID for a card",
+        example = "$todo")
+    String parentId,
+
+    @Schema(description = "Name under which later operations can refer to the created entity", example = "todo")
+    String ref,
+
+    @Schema(description = "Request body of the matching single endpoint (e.g. CreateCardDTO, MoveCardDTO)",
+        example = "{\"targetListId\": \"$todo\", \"position\": 0}")
+    JsonNode data
+) {
+}
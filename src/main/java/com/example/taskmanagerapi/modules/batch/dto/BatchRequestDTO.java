@@ -0,0 +1,15 @@
+package com.example.taskmanagerapi.modules.batch.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * BatchRequestDTO - Operations to run in order in one transaction
+ */
+@Schema(description = "Request body for running several board, list and card operations in one transaction")
+public record BatchRequestDTO(
+    @Schema(description = "Operations, run in order", requiredMode = Schema.RequiredMode.REQUIRED)
+    List<BatchOperationDTO> operations
+) {
+}
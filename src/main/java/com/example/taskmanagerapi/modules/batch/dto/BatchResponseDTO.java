@@ -0,0 +1,19 @@
+package com.example.taskmanagerapi.modules.batch.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * BatchResponseDTO - Per-operation results of a batch
+ */
+@Schema(description = "Per-operation results. When an operation fails nothing is committed: the results stop "
+    + "at the failed operation, which carries the error.")
+public record BatchResponseDTO(
+    @Schema(description = "Whether the operations were committed")
+    boolean committed,
+
+    @Schema(description = "Results in request order")
+    List<BatchResultDTO> results
+) {
+}
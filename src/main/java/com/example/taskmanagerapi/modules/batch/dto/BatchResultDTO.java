@@ -0,0 +1,19 @@
+package com.example.taskmanagerapi.modules.batch.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * BatchResultDTO - Outcome of one batch operation
+ */
+@Schema(description = "Outcome of one batch operation")
+public record BatchResultDTO(
+    @Schema(description = "Index of the operation in the request", example = "0")
+    int index,
+
+    @Schema(description = "HTTP status the single endpoint would have returned", example = "201")
+    int status,
+
+    @Schema(description = "Response body the single endpoint would have returned, or the error")
+    Object data
+) {
+}
@@ -0,0 +1,314 @@
+package com.example.taskmanagerapi.modules.batch.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.orm.ObjectRetrievalFailureException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Service;
+
+import com.example.taskmanagerapi.infra.concurrency.OptimisticRetry;
+import com.example.taskmanagerapi.infra.exception.GlobalExceptionHandler.ErrorResponse;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.batch.domain.BatchAction;
+import com.example.taskmanagerapi.modules.batch.dto.BatchOperationDTO;
+import com.example.taskmanagerapi.modules.batch.dto.BatchResponseDTO;
+import com.example.taskmanagerapi.modules.batch.dto.BatchResultDTO;
+import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.boards.dto.BoardResponseDTO;
+import com.example.taskmanagerapi.modules.boards.dto.CreateBoardDTO;
+import com.example.taskmanagerapi.modules.boards.dto.UpdateBoardDTO;
+import com.example.taskmanagerapi.modules.boards.services.BoardService;
+import com.example.taskmanagerapi.modules.cards.domain.Card;
+import com.example.taskmanagerapi.modules.cards.dto.CardResponseDTO;
+import com.example.taskmanagerapi.modules.cards.dto.CreateCardDTO;
+import com.example.taskmanagerapi.modules.cards.dto.MoveCardDTO;
+import com.example.taskmanagerapi.modules.cards.dto.UpdateCardDTO;
+import com.example.taskmanagerapi.modules.cards.services.CardService;
+import com.example.taskmanagerapi.modules.lists.domain.BoardList;
+import com.example.taskmanagerapi.modules.lists.dto.CreateListDTO;
+import com.example.taskmanagerapi.modules.lists.dto.ListResponseDTO;
+import com.example.taskmanagerapi.modules.lists.dto.UpdateListDTO;
+import com.example.taskmanagerapi.modules.lists.services.BoardListService;
+import com.example.taskmanagerapi.modules.workspaces.domain.Workspace;
+import com.example.taskmanagerapi.modules.workspaces.services.WorkspaceService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * BatchService - Runs an ordered list of board, list and card operations in one transaction
+ *
+ * Each operation goes through the same service method as its single endpoint,
+ * with the same checks (its data is validated like the endpoint's @Valid body),
+ * but ownership is verified once per board and cached for the rest of the
+ * batch. Each operation is flushed before the next, so a constraint it breaks
+ * is reported against its index. The first failing operation rolls everything
+ * back. The transaction comes from OptimisticRetry, so a version conflict
+ * re-runs the whole batch against the current rows.
+ */
+@Service
+@Timed("service.method")
+@RequiredArgsConstructor
+public class BatchService {
+
+    private static final String REF_PREFIX = "$";
+
+    private final WorkspaceService workspaceService;
+    private final BoardService boardService;
+    private final BoardListService listService;
+    private final CardService cardService;
+    private final OptimisticRetry optimisticRetry;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    /**
+     * Run the operations in order; committed only if all of them succeed
+     */
+    public BatchResponseDTO execute(@NonNull List<BatchOperationDTO> operations, @NonNull User user) {
+        try {
+            List<BatchResultDTO> results = optimisticRetry.execute("batch", () -> new Run(user).execute(operations));
+            return new BatchResponseDTO(true, results);
+        } catch (OperationFailedException e) {
+            List<BatchResultDTO> results = new ArrayList<>(e.completed);
+            results.add(new BatchResultDTO(e.index, e.status.value(),
+                new ErrorResponse(e.status.name(), e.getMessage(), e.status.value())));
+            return new BatchResponseDTO(false, results);
+        }
+    }
+
+    /**
+     * State of one attempt: boards already checked and IDs created under a ref
+     */
+    private class Run {
+
+        private final User user;
+        private final Set<String> ownedBoards = new HashSet<>();
+        private final Map<String, String> refs = new HashMap<>();
+        private final List<BatchResultDTO> results = new ArrayList<>();
+        private int index;
+
+        Run(User user) {
+            this.user = user;
+        }
+
+        List<BatchResultDTO> execute(List<BatchOperationDTO> operations) {
+            for (BatchOperationDTO operation : operations) {
+                if (operation == null || operation.action() == null || operation.target() == null) {
+                    throw fail(HttpStatus.BAD_REQUEST, "action and target are required");
+                }
+                results.add(run(operation));
+                index++;
+            }
+            return results;
+        }
+
+        /**
+         * One operation, flushed so what it writes fails here rather than at commit
+         * Version conflicts are left to OptimisticRetry, which re-runs the batch
+         */
+        private BatchResultDTO run(BatchOperationDTO operation) {
+            try {
+                BatchResultDTO result = switch (operation.target()) {
+                    case BOARD -> board(operation);
+                    case LIST -> list(operation);
+                    case CARD -> card(operation);
+                };
+                flush();
+                return result;
+            } catch (ObjectRetrievalFailureException e) {
+                throw fail(HttpStatus.NOT_FOUND, "The resource no longer exists.");
+            } catch (DataIntegrityViolationException e) {
+                throw fail(HttpStatus.UNPROCESSABLE_ENTITY, "The operation violates a data constraint.");
+            }
+        }
+
+        private void flush() {
+            try {
+                entityManager.flush();
+            } catch (RuntimeException e) {
+                DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+                throw translated != null ? translated : e;
+            }
+        }
+
+        private BatchResultDTO board(BatchOperationDTO operation) {
+            if (operation.action() == BatchAction.CREATE) {
+                Workspace workspace = workspaceService.getWorkspaceById(resolve(operation.parentId(), "parentId"))
+                    .orElseThrow(() -> fail(HttpStatus.NOT_FOUND, "Workspace not found"));
+                if (!workspaceService.isWorkspaceOwner(workspace, user)) {
+                    throw fail(HttpStatus.FORBIDDEN, "You don't have permission to create boards in this workspace");
+                }
+                BoardResponseDTO created = boardService.createBoard(data(operation, CreateBoardDTO.class), user,
+                    workspace);
+                ownedBoards.add(created.id());
+                return created(operation, created.id(), created);
+            }
+            Board board = boardService.getBoardById(resolve(operation.id(), "id"))
+                .orElseThrow(() -> fail(HttpStatus.NOT_FOUND, "Board not found"));
+            requireOwner(board);
+            return switch (operation.action()) {
+                case UPDATE -> ok(boardService.updateBoard(board, data(operation, UpdateBoardDTO.class)));
+                case DELETE -> {
+                    boardService.deleteBoard(board.getId());
+                    yield noContent();
+                }
+                default -> throw fail(HttpStatus.BAD_REQUEST, operation.action() + " is not supported for boards");
+            };
+        }
+
+        private BatchResultDTO list(BatchOperationDTO operation) {
+            if (operation.action() == BatchAction.CREATE) {
+                Board board = boardService.getBoardById(resolve(operation.parentId(), "parentId"))
+                    .orElseThrow(() -> fail(HttpStatus.NOT_FOUND, "Board not found"));
+                requireOwner(board);
+                ListResponseDTO created = listService.createList(data(operation, CreateListDTO.class), board);
+                return created(operation, created.id(), created);
+            }
+            BoardList list = listService.getListById(resolve(operation.id(), "id"))
+                .orElseThrow(() -> fail(HttpStatus.NOT_FOUND, "List not found"));
+            requireOwner(list.getBoard());
+            return switch (operation.action()) {
+                case UPDATE, MOVE -> ok(listService.updateList(list, data(operation, UpdateListDTO.class)));
+                case DELETE -> {
+                    listService.deleteList(list.getId());
+                    yield noContent();
+                }
+                default -> throw fail(HttpStatus.BAD_REQUEST, operation.action() + " is not supported for lists");
+            };
+        }
+
+        private BatchResultDTO card(BatchOperationDTO operation) {
+            if (operation.action() == BatchAction.CREATE) {
+                BoardList list = listService.getListById(resolve(operation.parentId(), "parentId"))
+                    .orElseThrow(() -> fail(HttpStatus.NOT_FOUND, "List not found"));
+                requireOwner(list.getBoard());
+                CardResponseDTO created = cardService.createCard(data(operation, CreateCardDTO.class), list);
+                return created(operation, created.id(), created);
+            }
+            Card card = cardService.getCardById(resolve(operation.id(), "id"))
+                .orElseThrow(() -> fail(HttpStatus.NOT_FOUND, "Card not found"));
+            Board board = card.getList().getBoard();
+            requireOwner(board);
+            return switch (operation.action()) {
+                case UPDATE -> ok(cardService.updateCard(card, data(operation, UpdateCardDTO.class)));
+                case MOVE -> {
+                    MoveCardDTO move = data(operation, MoveCardDTO.class);
+                    BoardList target = listService.getListById(resolve(move.targetListId(), "targetListId"))
+                        .orElseThrow(() -> fail(HttpStatus.NOT_FOUND, "Target list not found"));
+                    if (!target.getBoard().getId().equals(board.getId())) {
+                        throw fail(HttpStatus.BAD_REQUEST, "Target list does not belong to this board");
+                    }
+                    yield ok(cardService.moveCard(card, target, move));
+                }
+                case DELETE -> {
+                    cardService.deleteCard(card.getId());
+                    yield noContent();
+                }
+                default -> throw fail(HttpStatus.BAD_REQUEST, operation.action() + " is not supported for cards");
+            };
+        }
+
+        /**
+         * Ownership walk done once per board; later operations on the same board skip it
+         */
+        private void requireOwner(Board board) {
+            if (ownedBoards.contains(board.getId())) {
+                return;
+            }
+            if (!board.getOwner().getId().equals(user.getId())) {
+                throw fail(HttpStatus.FORBIDDEN, "You don't have permission to modify this board");
+            }
+            ownedBoards.add(board.getId());
+        }
+
+        @NonNull
+        private String resolve(String id, String field) {
+            if (id == null || id.isBlank()) {
+                throw fail(HttpStatus.BAD_REQUEST, field + " is required");
+            }
+            if (!id.startsWith(REF_PREFIX)) {
+                return id;
+            }
+            String resolved = refs.get(id.substring(REF_PREFIX.length()));
+            if (resolved == null) {
+                throw fail(HttpStatus.BAD_REQUEST, "Unknown ref " + id + " (refs must be created earlier in the batch)");
+            }
+            return resolved;
+        }
+
+        @NonNull
+        private <T> T data(BatchOperationDTO operation, Class<T> type) {
+            JsonNode data = operation.data();
+            if (data == null || !data.isObject()) {
+                throw fail(HttpStatus.BAD_REQUEST, "data is required");
+            }
+            T value;
+            try {
+                value = objectMapper.treeToValue(data, type);
+            } catch (JsonProcessingException e) {
+                throw fail(HttpStatus.BAD_REQUEST, "Invalid data: " + e.getOriginalMessage());
+            }
+            Set<ConstraintViolation<T>> violations = validator.validate(value);
+            if (!violations.isEmpty()) {
+                throw fail(HttpStatus.BAD_REQUEST, "Invalid data: " + violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            }
+            return value;
+        }
+
+        private BatchResultDTO created(BatchOperationDTO operation, String id, Object body) {
+            if (operation.ref() != null && !operation.ref().isBlank()) {
+                refs.put(operation.ref(), id);
+            }
+            return new BatchResultDTO(index, HttpStatus.CREATED.value(), body);
+        }
+
+        private BatchResultDTO ok(Object body) {
+            return new BatchResultDTO(index, HttpStatus.OK.value(), body);
+        }
+
+        private BatchResultDTO noContent() {
+            return new BatchResultDTO(index, HttpStatus.NO_CONTENT.value(), null);
+        }
+
+        private OperationFailedException fail(HttpStatus status, String message) {
+            return new OperationFailedException(index, status, message, List.copyOf(results));
+        }
+    }
+
+    /**
+     * Aborts the batch; being unchecked, it also rolls back the transaction
+     */
+    private static class OperationFailedException extends RuntimeException {
+
+        private final int index;
+        private final HttpStatus status;
+        private final List<BatchResultDTO> completed;
+
+        OperationFailedException(int index, HttpStatus status, String message, List<BatchResultDTO> completed) {
+            super(message);
+            this.index = index;
+            this.status = status;
+            this.completed = completed;
+        }
+    }
+}
@@ -20,10 +20,12 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.taskmanagerapi.modules.auth.domain.User;
 import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.boards.dto.BoardChangesDTO;
 import com.example.taskmanagerapi.modules.boards.dto.BoardDetailDTO;
 import com.example.taskmanagerapi.modules.boards.dto.BoardResponseDTO;
 import com.example.taskmanagerapi.modules.boards.dto.CreateBoardDTO;
 import com.example.taskmanagerapi.modules.boards.dto.UpdateBoardDTO;
+import com.example.taskmanagerapi.modules.boards.services.BoardChangeLog;
 import com.example.taskmanagerapi.modules.boards.services.BoardService;
 import com.example.taskmanagerapi.modules.workspaces.domain.Workspace;
 import com.example.taskmanagerapi.modules.workspaces.services.WorkspaceService;
@@ -48,6 +50,7 @@ public class BoardController {
     
     private final BoardService boardService;
     private final WorkspaceService workspaceService;
+    private final BoardChangeLog boardChangeLog;
 
     @Operation(summary = "Create Board", description = "Create a new board within a workspace")
     @ApiResponses(value = {
@@ -97,7 +100,7 @@ public class BoardController {
     @Operation(summary = "Get All Boards", description = "Retrieve all boards for a workspace")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Boards retrieved successfully"),
-        @ApiResponse(responseCode = "400", description = "Workspace not found"),
+        @ApiResponse(responseCode = "400", description = "Workspace not found or unknown field in fields"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
         @ApiResponse(responseCode = "403", description = "Forbidden - Workspace belongs to another user")
     })
@@ -105,6 +108,8 @@ public class BoardController {
     public ResponseEntity<Object> getAllBoards(
             @Parameter(description = "Workspace ID", required = true) 
             @RequestParam("workspaceId") String workspaceId,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,name,listsCount; all fields if omitted")
+            @RequestParam(required = false) String fields,
             @AuthenticationPrincipal User user) {
         
         if (user == null) {
@@ -129,6 +134,10 @@ public class BoardController {
                     .body("You don't have permission to view boards in this workspace");
         }
         
+        if (fields != null) {
+            return ResponseEntity.ok(boardService.getBoardsByWorkspace(workspace, fields));
+        }
+        
         List<BoardResponseDTO> response = boardService.getBoardsByWorkspace(
             Objects.requireNonNull(workspace, "Workspace cannot be null")
         );
@@ -163,7 +172,42 @@ public class BoardController {
                     .body("You don't have permission to access this board");
         }
         
-        return ResponseEntity.ok(new BoardDetailDTO(board));
+        return ResponseEntity.ok(boardService.getBoardDetail(board));
+    }
+
+    @Operation(summary = "Get Board Changes",
+            description = "Cards and lists changed or deleted since a version; a full snapshot when since is "
+                + "missing or the client is too far behind")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changes since the version, or a snapshot",
+                content = @Content(schema = @Schema(implementation = BoardChangesDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Board not found"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Board belongs to another user"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token")
+    })
+    @GetMapping("/{id}/changes")
+    public ResponseEntity<Object> getBoardChanges(
+            @Parameter(description = "Board ID", required = true) @PathVariable @NonNull String id,
+            @Parameter(description = "Version returned by the previous call") 
+            @RequestParam(value = "since", required = false) Long since,
+            @AuthenticationPrincipal User user) {
+        
+        Optional<Board> boardOpt = boardService.getBoardById(id);
+        
+        if (boardOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body("Board not found");
+        }
+        
+        Board board = boardOpt.get();
+        
+        // Check if board belongs to the authenticated user
+        if (!board.getOwner().getId().equals(user.getId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("You don't have permission to access this board");
+        }
+        
+        return ResponseEntity.ok(boardChangeLog.getChanges(board, since));
     }
 
     @Operation(summary = "Update Board", description = "Update an existing board")
@@ -0,0 +1,74 @@
+package com.example.taskmanagerapi.modules.boards.controllers;
+
+import java.util.Optional;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.boards.services.BoardEventBroadcaster;
+import com.example.taskmanagerapi.modules.boards.services.BoardService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/boards")
+@RequiredArgsConstructor
+@Tag(name = "Boards", description = "Endpoints for managing boards within workspaces")
+@SecurityRequirement(name = "Bearer Authentication")
+public class BoardEventController {
+
+    private final BoardService boardService;
+    private final BoardEventBroadcaster broadcaster;
+
+    @Operation(summary = "Stream Board Events",
+        description = "Server-Sent Events stream of card and list changes on a board (card.created, card.updated, "
+            + "card.moved, card.deleted, list.created, list.updated, list.moved, list.deleted), sent after each "
+            + "change commits on any node. Each event's id is the board version it committed under; a client that "
+            + "reconnects, or falls too far behind and is disconnected, catches up with GET /boards/{id}/changes "
+            + "?since=<last id>. Idle streams receive a heartbeat comment. Deleting the board sends board.deleted "
+            + "and closes the stream.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened"),
+        @ApiResponse(responseCode = "404", description = "Board not found"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Board belongs to another user"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "503", description = "Too many open streams")
+    })
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamBoardEvents(
+            @Parameter(description = "Board ID", required = true) @PathVariable @NonNull String id,
+            @AuthenticationPrincipal User user) {
+
+        Optional<Board> boardOpt = boardService.getBoardById(id);
+
+        if (boardOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        if (!boardOpt.get().getOwner().getId().equals(user.getId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        SseEmitter emitter = broadcaster.subscribe(id);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
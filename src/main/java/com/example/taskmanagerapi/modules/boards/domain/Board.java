@@ -8,6 +8,11 @@ import com.example.taskmanagerapi.modules.auth.domain.User;
 import com.example.taskmanagerapi.modules.lists.domain.BoardList;
 import com.example.taskmanagerapi.modules.workspaces.domain.Workspace;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -34,6 +39,8 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "boards")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "boards")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -63,6 +70,8 @@ public class Board {
     private Workspace workspace;
     
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "boards.lists")
     private List<BoardList> lists = new ArrayList<>();
     
     @Column(name = "created_at", nullable = false)
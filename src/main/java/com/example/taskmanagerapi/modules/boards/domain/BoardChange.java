@@ -0,0 +1,11 @@
+package com.example.taskmanagerapi.modules.boards.domain;
+
+/**
+ * BoardChange - Latest change of one card or list in a board's change log
+ */
+public record BoardChange(String entityId, EntityType type, long version, boolean deleted) {
+
+    public enum EntityType {
+        CARD, LIST
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagerapi.modules.boards.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * BoardEvent - A committed change to a board's cards or lists, or its deletion
+ *
+ * Published inside the service transaction and delivered to stream subscribers
+ * only after it commits. data is the response DTO of the changed card or list,
+ * or a Removed marker for deletions (for the board itself, its own id).
+ */
+public record BoardEvent(String boardId, BoardEventType type, Object data) {
+
+    /**
+     * Payload of a delete: the removed card or list id, and the card's list
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Removed(String id, String listId) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.taskmanagerapi.modules.boards.domain;
+
+/**
+ * BoardEventType - Changes pushed on a board's event stream
+ * board.deleted is the last event of a stream: the server closes it right after
+ * The event name is what SSE clients subscribe to (addEventListener("card.moved", ...))
+ */
+public enum BoardEventType {
+    CARD_CREATED("card.created"),
+    CARD_UPDATED("card.updated"),
+    CARD_MOVED("card.moved"),
+    CARD_DELETED("card.deleted"),
+    LIST_CREATED("list.created"),
+    LIST_UPDATED("list.updated"),
+    LIST_MOVED("list.moved"),
+    LIST_DELETED("list.deleted"),
+    BOARD_DELETED("board.deleted");
+
+    private final String eventName;
+
+    BoardEventType(String eventName) {
+        this.eventName = eventName;
+    }
+
+    public String eventName() {
+        return eventName;
+    }
+}
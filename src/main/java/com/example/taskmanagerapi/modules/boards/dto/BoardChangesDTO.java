@@ -0,0 +1,33 @@
+package com.example.taskmanagerapi.modules.boards.dto;
+
+import java.util.List;
+
+import com.example.taskmanagerapi.modules.cards.dto.CardResponseDTO;
+import com.example.taskmanagerapi.modules.lists.dto.ListResponseDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * BoardChangesDTO - Cards and lists changed since a client's version
+ */
+@Schema(description = "Changes to a board since a version, or a full snapshot")
+public record BoardChangesDTO(
+    @Schema(description = "Version to pass as since on the next call", example = "42")
+    long version,
+
+    @Schema(description = "True when lists and cards are the whole board and local state must be replaced")
+    boolean snapshot,
+
+    @Schema(description = "Created or updated lists")
+    List<ListResponseDTO> lists,
+
+    @Schema(description = "Created, updated or moved cards")
+    List<CardResponseDTO> cards,
+
+    @Schema(description = "IDs of deleted lists; their cards are gone too")
+    List<String> deletedListIds,
+
+    @Schema(description = "IDs of deleted cards, or cards moved to another board")
+    List<String> deletedCardIds
+) {
+}
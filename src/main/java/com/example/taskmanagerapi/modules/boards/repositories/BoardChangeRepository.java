@@ -0,0 +1,136 @@
+package com.example.taskmanagerapi.modules.boards.repositories;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskmanagerapi.modules.boards.domain.BoardChange;
+import com.example.taskmanagerapi.modules.boards.domain.BoardChange.EntityType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * BoardChangeRepository - JDBC access to the board_changes log and the board version columns
+ *
+ * Plain JDBC rather than JPA: the version columns live on the cached boards row but
+ * are not part of the Board entity, and a Hibernate native update would evict the
+ * whole second-level cache. The table comes from the V4 migration.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardChangeRepository {
+
+    private static final String BUMP_VERSION_SQL = "UPDATE boards SET change_version = change_version + 1 WHERE id = ?";
+
+    private static final String FIND_VERSIONS_SQL = "SELECT change_version, change_floor FROM boards WHERE id = ?";
+
+    private static final String UPDATE_CHANGE_SQL = """
+            UPDATE board_changes SET entity_type = ?, version = ?, deleted = ?, changed_at = ?
+            WHERE board_id = ? AND entity_id = ?
+            """;
+
+    private static final String INSERT_CHANGE_SQL = """
+            INSERT INTO board_changes (entity_type, version, deleted, changed_at, board_id, entity_id)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String FIND_SINCE_SQL = """
+            SELECT entity_id, entity_type, version, deleted
+            FROM board_changes
+            WHERE board_id = ? AND version > ? AND version <= ?
+            ORDER BY version
+            LIMIT ?
+            """;
+
+    private static final String DELETE_ORPHAN_CARDS_SQL = """
+            DELETE FROM board_changes
+            WHERE entity_type = 'CARD' AND deleted = FALSE
+            AND NOT EXISTS (SELECT 1 FROM cards c WHERE c.id = board_changes.entity_id)
+            """;
+
+    private static final String RAISE_FLOORS_SQL = """
+            UPDATE boards SET change_floor = (
+                SELECT MAX(c.version) FROM board_changes c
+                WHERE c.board_id = boards.id AND c.deleted = TRUE AND c.changed_at < ?)
+            WHERE id IN (SELECT board_id FROM board_changes WHERE deleted = TRUE AND changed_at < ?)
+            """;
+
+    private static final String DELETE_TOMBSTONES_SQL =
+            "DELETE FROM board_changes WHERE deleted = TRUE AND changed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Current version and prune floor of a board, in that order
+     */
+    public long[] findVersions(String boardId) {
+        List<long[]> rows = jdbcTemplate.query(FIND_VERSIONS_SQL,
+            (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) }, boardId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * Increment a board's version; the row lock is held until the transaction ends
+     */
+    public long nextVersion(String boardId) {
+        jdbcTemplate.update(BUMP_VERSION_SQL, boardId);
+        long[] versions = findVersions(boardId);
+        if (versions == null) {
+            throw new IllegalStateException("Board not found: " + boardId);
+        }
+        return versions[0];
+    }
+
+    /**
+     * Record the first change of a newly created card or list
+     */
+    public void insert(String boardId, String entityId, EntityType type, long version) {
+        jdbcTemplate.update(INSERT_CHANGE_SQL, type.name(), version, false, now(), boardId, entityId);
+    }
+
+    /**
+     * Record the latest change of a card or list, replacing its previous entry
+     */
+    public void save(String boardId, String entityId, EntityType type, long version, boolean deleted) {
+        Object[] args = { type.name(), version, deleted, now(), boardId, entityId };
+        if (jdbcTemplate.update(UPDATE_CHANGE_SQL, args) == 0) {
+            jdbcTemplate.update(INSERT_CHANGE_SQL, args);
+        }
+    }
+
+    /**
+     * Changes with since < version <= upTo, oldest first, at most limit rows
+     */
+    public List<BoardChange> findSince(String boardId, long since, long upTo, int limit) {
+        return jdbcTemplate.query(FIND_SINCE_SQL, (rs, rowNum) -> new BoardChange(
+            rs.getString("entity_id"),
+            EntityType.valueOf(rs.getString("entity_type")),
+            rs.getLong("version"),
+            rs.getBoolean("deleted")
+        ), boardId, since, upTo, limit);
+    }
+
+    /**
+     * Drop entries of cards removed without their own change (deleted with their list)
+     */
+    public int deleteOrphanCards() {
+        return jdbcTemplate.update(DELETE_ORPHAN_CARDS_SQL);
+    }
+
+    /**
+     * Delete tombstones older than the cutoff, raising each affected board's floor first
+     * Returns the number of deleted tombstones
+     */
+    public int pruneTombstones(LocalDateTime cutoff) {
+        Timestamp before = Timestamp.valueOf(cutoff);
+        jdbcTemplate.update(RAISE_FLOORS_SQL, before, before);
+        return jdbcTemplate.update(DELETE_TOMBSTONES_SQL, before);
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
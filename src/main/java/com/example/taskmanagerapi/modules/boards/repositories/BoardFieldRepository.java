@@ -0,0 +1,51 @@
+package com.example.taskmanagerapi.modules.boards.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskmanagerapi.infra.fields.FieldCatalog;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * BoardFieldRepository - Sparse reads of boards, selecting only the BoardResponseDTO fields asked for
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardFieldRepository {
+
+    public static final FieldCatalog FIELDS = new FieldCatalog("boards b")
+        .field("id", "b.id", String.class)
+        .field("name", "b.name", String.class)
+        .field("type", "b.type", String.class)
+        .field("description", "b.description", String.class)
+        .field("ownerId", "b.owner_id", String.class)
+        .field("ownerName", "(SELECT u.name FROM users u WHERE u.id = b.owner_id)", String.class)
+        .field("listsCount", "(SELECT COUNT(*) FROM board_lists l WHERE l.board_id = b.id)", Integer.class)
+        .field("createdAt", "b.created_at", LocalDateTime.class)
+        .field("updatedAt", "b.updated_at", LocalDateTime.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Boards of a workspace, newest first, with only the requested fields
+     */
+    public List<Map<String, Object>> findByWorkspace(String workspaceId, String fields) {
+        return FIELDS.select(fields).query(jdbcTemplate, "WHERE b.workspace_id = ? ORDER BY b.created_at DESC",
+            workspaceId);
+    }
+
+    /**
+     * Boards of many workspaces, grouped by workspace id, newest first; at most perWorkspace each
+     */
+    public Map<String, List<Map<String, Object>>> findByWorkspaces(Collection<String> workspaceIds, String fields,
+            int perWorkspace, int maxRows) {
+        return FIELDS.select(fields).queryByParents(jdbcTemplate, "b.workspace_id", workspaceIds,
+            "b.created_at DESC", perWorkspace, maxRows);
+    }
+}
@@ -0,0 +1,298 @@
+package com.example.taskmanagerapi.modules.boards.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.NonNull;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.taskmanagerapi.infra.datasource.ReplicaRoutingDataSource;
+import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.boards.domain.BoardChange;
+import com.example.taskmanagerapi.modules.boards.domain.BoardChange.EntityType;
+import com.example.taskmanagerapi.modules.boards.domain.BoardEvent;
+import com.example.taskmanagerapi.modules.boards.dto.BoardChangesDTO;
+import com.example.taskmanagerapi.modules.boards.repositories.BoardChangeRepository;
+import com.example.taskmanagerapi.modules.cards.domain.Card;
+import com.example.taskmanagerapi.modules.cards.dto.CardResponseDTO;
+import com.example.taskmanagerapi.modules.cards.repositories.CardRepository;
+import com.example.taskmanagerapi.modules.lists.domain.BoardList;
+import com.example.taskmanagerapi.modules.lists.dto.ListResponseDTO;
+import com.example.taskmanagerapi.modules.lists.repositories.BoardListRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BoardChangeLog - Per-board change log behind delta sync
+ *
+ * Every BoardEvent is collected inside the transaction of the card or list
+ * mutation that published it and written just before that transaction commits:
+ * the board's version is bumped once per transaction and each changed entity's
+ * single log row is replaced with that version. The bump takes the board row
+ * lock, which keeps versions committing in order; taking it as the last step
+ * holds it only for the commit, not for the whole mutation. A client passes the
+ * last version it saw and gets back only what changed since, read from the live
+ * rows on the primary, since a lagging replica would hand out older versions.
+ *
+ * A full snapshot is returned instead when the client has no version, is ahead of
+ * the board, is behind the prune floor (its tombstones are gone), or is more than
+ * max-changes entries behind. Deletion tombstones are pruned after
+ * tombstone-retention, together with the entries of cards deleted with their list
+ * (the list's tombstone, or the raised floor, already covers them).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardChangeLog {
+
+    private static final Object PENDING_KEY = new Object();
+
+    private final BoardChangeRepository changeRepository;
+    private final BoardListRepository listRepository;
+    private final CardRepository cardRepository;
+    private final MeterRegistry meterRegistry;
+    private final EntityManager entityManager;
+
+    @Value("${app.board-changes.max-changes:500}")
+    private int maxChanges;
+
+    @Value("${app.board-changes.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    @EventListener
+    public void onBoardEvent(BoardEvent event) {
+        String boardId = event.boardId();
+        switch (event.type()) {
+            case CARD_CREATED -> record(boardId, ((CardResponseDTO) event.data()).id(), EntityType.CARD, true, false);
+            case CARD_UPDATED, CARD_MOVED -> {
+                CardResponseDTO card = (CardResponseDTO) event.data();
+                // A card moved to another board is gone from this one
+                boolean left = listRepository.findById(card.listId())
+                    .map(list -> !list.getBoard().getId().equals(boardId))
+                    .orElse(true);
+                record(boardId, card.id(), EntityType.CARD, false, left);
+            }
+            case CARD_DELETED ->
+                record(boardId, ((BoardEvent.Removed) event.data()).id(), EntityType.CARD, false, true);
+            case LIST_CREATED -> record(boardId, ((ListResponseDTO) event.data()).id(), EntityType.LIST, true, false);
+            case LIST_UPDATED, LIST_MOVED ->
+                record(boardId, ((ListResponseDTO) event.data()).id(), EntityType.LIST, false, false);
+            // Cards deleted with their list get no entry; clients drop them with the list
+            case LIST_DELETED ->
+                record(boardId, ((BoardEvent.Removed) event.data()).id(), EntityType.LIST, false, true);
+            // The board's log rows are deleted with it
+            case BOARD_DELETED -> {
+            }
+        }
+    }
+
+    /**
+     * Cards and lists changed since the given version, or a snapshot (see class comment)
+     */
+    @Transactional(readOnly = true)
+    public BoardChangesDTO getChanges(@NonNull Board board, Long since) {
+        ReplicaRoutingDataSource.requirePrimary();
+        long[] versions = changeRepository.findVersions(board.getId());
+        long version = versions != null ? versions[0] : 0;
+        long floor = versions != null ? versions[1] : 0;
+        if (since == null || since < floor || since > version) {
+            return snapshot(board, version);
+        }
+
+        List<BoardChange> changes = changeRepository.findSince(board.getId(), since, version, maxChanges + 1);
+        if (changes.size() > maxChanges) {
+            return snapshot(board, version);
+        }
+
+        List<String> deletedListIds = new ArrayList<>();
+        List<String> deletedCardIds = new ArrayList<>();
+        List<String> listIds = new ArrayList<>();
+        List<String> cardIds = new ArrayList<>();
+        for (BoardChange change : changes) {
+            List<String> target = change.type() == EntityType.LIST
+                ? (change.deleted() ? deletedListIds : listIds)
+                : (change.deleted() ? deletedCardIds : cardIds);
+            target.add(change.entityId());
+        }
+
+        // Entries outlive bulk deletes and moves; anything no longer on the board counts as deleted
+        Map<String, BoardList> lists = listIds.isEmpty() ? Map.of() : listRepository.findAllById(listIds).stream()
+            .filter(list -> list.getBoard().getId().equals(board.getId()))
+            .collect(Collectors.toMap(BoardList::getId, Function.identity()));
+        Map<String, Card> cards = cardIds.isEmpty() ? Map.of() : cardRepository.findWithListByIdIn(cardIds).stream()
+            .filter(card -> card.getList().getBoard().getId().equals(board.getId()))
+            .collect(Collectors.toMap(Card::getId, Function.identity()));
+        Map<String, Integer> cardIndexes = cards.isEmpty() ? Map.of()
+            : cardRepository.findIndexesByIdIn(cards.keySet());
+        listIds.stream().filter(id -> !lists.containsKey(id)).forEach(deletedListIds::add);
+        cardIds.stream().filter(id -> !cards.containsKey(id)).forEach(deletedCardIds::add);
+
+        meterRegistry.counter("board.changes.requests", "result", "delta").increment();
+        return new BoardChangesDTO(
+            version,
+            false,
+            lists.values().stream()
+                .sorted(Comparator.comparing(BoardList::getPosition, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(ListResponseDTO::new)
+                .toList(),
+            cards.values().stream()
+                .sorted(Comparator.comparing(Card::getPosition, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(card -> new CardResponseDTO(card, cardIndexes.get(card.getId())))
+                .toList(),
+            deletedListIds,
+            deletedCardIds
+        );
+    }
+
+    /**
+     * The version the current transaction's changes to a board were written under
+     * Set just before commit and readable until the transaction completes, i.e. from
+     * after-commit listeners ordered ahead of LOWEST_PRECEDENCE; null if the transaction
+     * changed nothing on the board
+     */
+    public static Long committedVersion(String boardId) {
+        return TransactionSynchronizationManager.getResource(PENDING_KEY) instanceof Pending pending
+            ? pending.versions().get(boardId) : null;
+    }
+
+    @Scheduled(cron = "${app.board-changes.prune-cron:0 30 * * * *}")
+    @Transactional
+    public void pruneTombstones() {
+        int pruned = changeRepository.pruneTombstones(LocalDateTime.now().minus(tombstoneRetention));
+        int orphans = changeRepository.deleteOrphanCards();
+        if (pruned + orphans > 0) {
+            log.info("Pruned {} board change tombstones and {} entries of deleted lists' cards", pruned, orphans);
+        }
+    }
+
+    /**
+     * Queue a change for the current transaction's pre-commit write
+     * Outside a transaction it is written, under a version of its own, right away
+     */
+    private void record(String boardId, String entityId, EntityType type, boolean created, boolean deleted) {
+        PendingChange change = new PendingChange(entityId, type, created, deleted);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(boardId, change, changeRepository.nextVersion(boardId));
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Pending bound = new Pending();
+            pending = bound;
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    flushPending(bound);
+                }
+
+                /**
+                 * Last, so after-commit event listeners (which run on completion) still see the versions
+                 */
+                @Override
+                public int getOrder() {
+                    return Ordered.LOWEST_PRECEDENCE;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+        }
+        pending.changes().computeIfAbsent(boardId, id -> new LinkedHashMap<>())
+            .merge(entityId, change, PendingChange::then);
+    }
+
+    /**
+     * Bump each touched board once and write its changes: the last statements before commit
+     * Entity changes are flushed first so the board row lock is not held across them;
+     * boards are bumped in id order so two transactions never wait on each other's locks
+     */
+    private void flushPending(Pending pending) {
+        try {
+            entityManager.flush();
+        } catch (RuntimeException e) {
+            // Translated as a commit-time flush would be, so version conflicts are still retried
+            DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+            throw translated != null ? translated : e;
+        }
+        pending.changes().forEach((boardId, changes) -> {
+            long version = changeRepository.nextVersion(boardId);
+            pending.versions().put(boardId, version);
+            changes.values().forEach(change -> write(boardId, change, version));
+        });
+    }
+
+    private void write(String boardId, PendingChange change, long version) {
+        if (!change.created()) {
+            changeRepository.save(boardId, change.entityId(), change.type(), version, change.deleted());
+        } else if (!change.deleted()) {
+            changeRepository.insert(boardId, change.entityId(), change.type(), version);
+        }
+        // Created and deleted in the same transaction: no client has seen it
+    }
+
+    private BoardChangesDTO snapshot(Board board, long version) {
+        meterRegistry.counter("board.changes.requests", "result", "snapshot").increment();
+        return new BoardChangesDTO(
+            version,
+            true,
+            listRepository.findByBoardOrderByPositionAsc(board).stream().map(ListResponseDTO::new).toList(),
+            indexed(cardRepository.findByBoard(board)),
+            List.of(),
+            List.of()
+        );
+    }
+
+    /**
+     * Responses for cards read in list then position order, each with its index in its list
+     */
+    private static List<CardResponseDTO> indexed(List<Card> cards) {
+        Map<String, Integer> next = new HashMap<>();
+        return cards.stream()
+            .map(card -> new CardResponseDTO(card, next.merge(card.getList().getId(), 1, Integer::sum) - 1))
+            .toList();
+    }
+
+    private record PendingChange(String entityId, EntityType type, boolean created, boolean deleted) {
+
+        /**
+         * This change followed by a later one to the same entity in the same transaction
+         */
+        PendingChange then(PendingChange later) {
+            return new PendingChange(entityId, later.type(), created || later.created(), later.deleted());
+        }
+    }
+
+    /**
+     * A transaction's changes by board (in board id order) and, once written, the versions they got
+     */
+    private record Pending(Map<String, Map<String, PendingChange>> changes, Map<String, Long> versions) {
+
+        Pending() {
+            this(new TreeMap<>(), new HashMap<>());
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.taskmanagerapi.modules.boards.services;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jctools.queues.MpscArrayQueue;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.taskmanagerapi.modules.boards.domain.BoardEvent;
+import com.example.taskmanagerapi.modules.boards.domain.BoardEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BoardEventBroadcaster - Fans committed board changes out to SSE subscribers
+ *
+ * Publishing never blocks the committing thread: each event is serialized once and
+ * offered to every subscriber's bounded queue. A subscriber's queue is written to
+ * its socket by at most one task at a time on boardEventExecutor. A subscriber
+ * whose queue is full is too slow to keep up and is disconnected (the browser's
+ * EventSource reconnects and reloads the board). Heartbeat comments keep idle
+ * streams open through proxies and detect dead clients.
+ *
+ * Each event's id is the board's change version it committed under, so a client
+ * that reconnects can catch up through /boards/{id}/changes?since=<last id>.
+ * Events are also handed to BoardEventRelay, when enabled, which delivers them to
+ * subscribers connected to other nodes. A board's deletion is sent as a final
+ * board.deleted event, after which its streams are closed on every node.
+ */
+@Component
+@Slf4j
+public class BoardEventBroadcaster {
+
+    private static final Frame HEARTBEAT = new Frame(null, null, null);
+    private static final Frame CLOSE = new Frame(null, null, null);
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AsyncTaskExecutor executor;
+    private final ObjectProvider<BoardEventRelay> relay;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final Counter sent;
+    private final Counter evicted;
+
+    public BoardEventBroadcaster(
+            @Qualifier("boardEventExecutor") AsyncTaskExecutor executor,
+            ObjectMapper objectMapper,
+            @Value("${app.board-events.buffer-size:256}") int bufferSize,
+            @Value("${app.board-events.max-subscribers:10000}") int maxSubscribers,
+            @Value("${app.board-events.timeout:30m}") Duration timeout,
+            ObjectProvider<BoardEventRelay> relay,
+            MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.relay = relay;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.sent = meterRegistry.counter("board.events.sent");
+        this.evicted = meterRegistry.counter("board.events.evicted");
+        Gauge.builder("board.events.subscribers", subscriberCount, AtomicInteger::get)
+            .description("Open board event streams")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Open a stream for a board; null when the subscriber limit is reached
+     */
+    public SseEmitter subscribe(String boardId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(boardId, emitter, new MpscArrayQueue<>(bufferSize));
+        subscribers.compute(boardId, (id, boardSubscribers) -> {
+            Set<Subscriber> set = boardSubscribers != null ? boardSubscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        // Commits the response so the client sees the stream open right away; sent rather than queued
+        // so the headers are written on the request thread, not by a sender racing it out of the filters
+        try {
+            emitter.send(event(HEARTBEAT));
+        } catch (IOException e) {
+            remove(subscriber);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * Ordered ahead of BoardChangeLog's completion callback, which drops the committed versions
+     */
+    @TransactionalEventListener
+    @Order(0)
+    public void onBoardEvent(BoardEvent event) {
+        BoardEventRelay boardEventRelay = relay.getIfAvailable();
+        Set<Subscriber> boardSubscribers = subscribers.get(event.boardId());
+        if (boardEventRelay == null && (boardSubscribers == null || boardSubscribers.isEmpty())) {
+            return;
+        }
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event.data());
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize {} for board {}", event.type(), event.boardId(), e);
+            return;
+        }
+        Long version = BoardChangeLog.committedVersion(event.boardId());
+        Frame frame = new Frame(event.type().eventName(), version != null ? version.toString() : null, data);
+        deliver(event.boardId(), frame);
+        if (boardEventRelay != null) {
+            boardEventRelay.publish(event.boardId(), frame);
+        }
+    }
+
+    /**
+     * Queue a frame for this node's subscribers of a board, closing their streams after board.deleted
+     */
+    void deliver(String boardId, Frame frame) {
+        Set<Subscriber> boardSubscribers = subscribers.get(boardId);
+        if (boardSubscribers == null) {
+            return;
+        }
+        boolean last = BoardEventType.BOARD_DELETED.eventName().equals(frame.name());
+        for (Subscriber subscriber : boardSubscribers) {
+            enqueue(subscriber, frame);
+            if (last) {
+                enqueue(subscriber, CLOSE);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.board-events.heartbeat-interval:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(boardSubscribers ->
+            boardSubscribers.forEach(subscriber -> enqueue(subscriber, HEARTBEAT)));
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        subscribers.values().forEach(boardSubscribers ->
+            boardSubscribers.forEach(subscriber -> subscriber.emitter().complete()));
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void enqueue(Subscriber subscriber, Frame frame) {
+        if (!subscriber.queue().offer(frame)) {
+            evicted.increment();
+            log.debug("Disconnecting slow subscriber of board {}", subscriber.boardId());
+            remove(subscriber);
+            subscriber.emitter().complete();
+            return;
+        }
+        if (subscriber.scheduled().compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Write queued frames until the queue is empty; only one drain runs per subscriber
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                Frame frame;
+                while ((frame = subscriber.queue().poll()) != null) {
+                    if (frame == CLOSE) {
+                        remove(subscriber);
+                        subscriber.emitter().complete();
+                        return;
+                    }
+                    subscriber.emitter().send(event(frame));
+                    if (frame != HEARTBEAT) {
+                        sent.increment();
+                    }
+                }
+                subscriber.scheduled().set(false);
+            } while (!subscriber.queue().isEmpty() && subscriber.scheduled().compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+        }
+    }
+
+    /**
+     * Idempotent; runs under the board's map entry lock so a concurrent subscribe
+     * never adds to a set that is being dropped
+     */
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.boardId(), (id, set) -> {
+            if (set.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static SseEmitter.SseEventBuilder event(Frame frame) {
+        if (frame == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(frame.name());
+        return (frame.id() != null ? event.id(frame.id()) : event).data(frame.data());
+    }
+
+    /**
+     * A serialized event; id is null for events that changed no board version (board.deleted)
+     */
+    record Frame(String name, String id, String data) {
+    }
+
+    private record Subscriber(String boardId, SseEmitter emitter, MpscArrayQueue<Frame> queue,
+            AtomicBoolean scheduled) {
+
+        Subscriber(String boardId, SseEmitter emitter, MpscArrayQueue<Frame> queue) {
+            this(boardId, emitter, queue, new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.taskmanagerapi.modules.boards.services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.taskmanagerapi.modules.boards.services.BoardEventBroadcaster.Frame;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BoardEventRelay - Carries board event frames between nodes over Redis pub/sub
+ *
+ * A subscriber's stream is held by whichever node it connected to, while the
+ * change may commit on any node. The committing node serializes the event once,
+ * delivers it to its own subscribers and hands the frame to this relay, which
+ * publishes it on a single thread so a transaction's events keep their order.
+ * Every other node delivers it to its subscribers of that board; a node ignores
+ * its own frames. Pub/sub is fire and forget: frames published while Redis is
+ * unreachable are counted and dropped, and clients catch up through
+ * /boards/{id}/changes with the last event id they saw.
+ */
+@Component
+@ConditionalOnProperty(name = "app.board-events.relay.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class BoardEventRelay implements MessageListener {
+
+    public static final String CHANNEL = "board:events";
+
+    private static final String NO_ID = "-";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final BoardEventBroadcaster broadcaster;
+    private final TaskExecutor executor;
+    private final Counter published;
+    private final Counter failures;
+    private final Counter received;
+
+    public BoardEventRelay(
+            StringRedisTemplate redisTemplate,
+            BoardEventBroadcaster broadcaster,
+            @Qualifier("boardEventRelayExecutor") TaskExecutor executor,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.broadcaster = broadcaster;
+        this.executor = executor;
+        this.published = meterRegistry.counter("board.events.relay.published");
+        this.failures = meterRegistry.counter("board.events.relay.failures");
+        this.received = meterRegistry.counter("board.events.relay.received");
+    }
+
+    /**
+     * Queue a frame for the other nodes: "<origin node> <board id> <event name> <id or -> <data>"
+     */
+    void publish(String boardId, Frame frame) {
+        String message = String.join(" ", nodeId, boardId, frame.name(),
+            frame.id() != null ? frame.id() : NO_ID, frame.data());
+        try {
+            executor.execute(() -> send(message));
+        } catch (TaskRejectedException e) {
+            failures.increment();
+            log.warn("Board event relay queue is full, dropping a {} event for board {}", frame.name(), boardId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(" ", 5);
+        if (parts.length < 5 || nodeId.equals(parts[0])) {
+            return;
+        }
+        received.increment();
+        broadcaster.deliver(parts[1], new Frame(parts[2], NO_ID.equals(parts[3]) ? null : parts[3], parts[4]));
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    private void send(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+            published.increment();
+        } catch (DataAccessException e) {
+            failures.increment();
+            log.warn("Could not relay a board event: {}", e.getMessage());
+        }
+    }
+}
@@ -2,35 +2,49 @@ package com.example.taskmanagerapi.modules.boards.services;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.NonNull;
+import org.springframework.orm.ObjectRetrievalFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.taskmanagerapi.modules.auth.domain.User;
 import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.boards.domain.BoardEvent;
+import com.example.taskmanagerapi.modules.boards.domain.BoardEventType;
 import com.example.taskmanagerapi.modules.boards.domain.BoardType;
+import com.example.taskmanagerapi.modules.boards.dto.BoardDetailDTO;
 import com.example.taskmanagerapi.modules.boards.dto.BoardResponseDTO;
 import com.example.taskmanagerapi.modules.boards.dto.CreateBoardDTO;
 import com.example.taskmanagerapi.modules.boards.dto.UpdateBoardDTO;
+import com.example.taskmanagerapi.modules.boards.repositories.BoardFieldRepository;
 import com.example.taskmanagerapi.modules.boards.repositories.BoardRepository;
 import com.example.taskmanagerapi.modules.lists.services.BoardListService;
 import com.example.taskmanagerapi.modules.workspaces.domain.Workspace;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 
 /**
  * BoardService - Business logic for board operations
  */
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 public class BoardService {
     
     private final BoardRepository boardRepository;
+    private final BoardFieldRepository boardFieldRepository;
     private final BoardListService listService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new board for a user within a workspace
@@ -51,6 +65,7 @@ public class BoardService {
     /**
      * Get all boards for a workspace, ordered by creation date
      */
+    @Transactional(readOnly = true)
     public List<BoardResponseDTO> getBoardsByWorkspace(@NonNull Workspace workspace) {
         return boardRepository.findByWorkspaceOrderByCreatedAtDesc(workspace)
                 .stream()
@@ -58,9 +73,18 @@ public class BoardService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the boards of a workspace with only the requested fields (see BoardFieldRepository)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getBoardsByWorkspace(@NonNull Workspace workspace, @NonNull String fields) {
+        return boardFieldRepository.findByWorkspace(workspace.getId(), fields);
+    }
+
     /**
      * Get boards by workspace and type
      */
+    @Transactional(readOnly = true)
     public List<BoardResponseDTO> getBoardsByWorkspaceAndType(@NonNull Workspace workspace, @NonNull BoardType type) {
         return boardRepository.findByWorkspaceAndType(workspace, type)
                 .stream()
@@ -71,15 +95,31 @@ public class BoardService {
     /**
      * Find a board by ID
      */
+    @Transactional(readOnly = true)
     public Optional<Board> getBoardById(@NonNull String id) {
         return boardRepository.findById(id);
     }
 
+    /**
+     * Board with its lists, assembled inside the read-only transaction
+     */
+    @Transactional(readOnly = true)
+    public BoardDetailDTO getBoardDetail(@NonNull Board board) {
+        return new BoardDetailDTO(board);
+    }
+
     /**
      * Update an existing board
+     * The caller's copy may have come from the replica or the cache, and Board has no
+     * version to catch a stale write, so the row is re-read and locked on the primary
      */
     @Transactional
-    public BoardResponseDTO updateBoard(@NonNull Board board, @NonNull UpdateBoardDTO dto) {
+    public BoardResponseDTO updateBoard(@NonNull Board caller, @NonNull UpdateBoardDTO dto) {
+        Board board = boardRepository.findById(caller.getId())
+            .orElseThrow(() -> new ObjectRetrievalFailureException(Board.class, caller.getId()));
+        // Flushed first so a refresh inside a batch keeps the batch's earlier changes
+        entityManager.flush();
+        entityManager.refresh(board, LockModeType.PESSIMISTIC_WRITE);
         if (dto.name() != null && !dto.name().isBlank()) {
             board.setName(dto.name());
         }
@@ -96,6 +136,7 @@ public class BoardService {
 
     /**
      * Delete a board by ID â€” cascades to all lists and cards
+     * Open event streams of the board are closed once the deletion commits
      */
     @Transactional
     public void deleteBoard(@NonNull String id) {
@@ -104,6 +145,7 @@ public class BoardService {
             Board board = Objects.requireNonNull(boardOpt.get());
             listService.deleteAllByBoard(board);
             boardRepository.deleteById(id);
+            eventPublisher.publishEvent(new BoardEvent(id, BoardEventType.BOARD_DELETED, new BoardEvent.Removed(id, null)));
         }
     }
 
@@ -117,6 +159,7 @@ public class BoardService {
     /**
      * Count boards in a workspace
      */
+    @Transactional(readOnly = true)
     public long countWorkspaceBoards(@NonNull Workspace workspace) {
         return boardRepository.countByWorkspace(workspace);
     }
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.taskmanagerapi.modules.auth.domain.User;
@@ -95,6 +96,7 @@ public class CardController {
     @Operation(summary = "Get All Cards", description = "Retrieve all cards from a list ordered by position")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Cards retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown field in fields"),
         @ApiResponse(responseCode = "404", description = "List not found"),
         @ApiResponse(responseCode = "403", description = "Forbidden - Board belongs to another user"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token")
@@ -103,6 +105,8 @@ public class CardController {
     public ResponseEntity<Object> getAllCards(
             @Parameter(description = "Board ID", required = true) @PathVariable @NonNull String boardId,
             @Parameter(description = "List ID", required = true) @PathVariable @NonNull String listId,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,name,position; all fields if omitted")
+            @RequestParam(required = false) String fields,
             @AuthenticationPrincipal User user) {
         
         Optional<BoardList> listOpt = listService.getListById(listId);
@@ -122,6 +126,10 @@ public class CardController {
                     .body("You don't have permission to view cards from this list");
         }
         
+        if (fields != null) {
+            return ResponseEntity.ok(cardService.getCardsByList(list, fields));
+        }
+        
         List<CardResponseDTO> response = cardService.getCardsByList(list);
         return ResponseEntity.ok(response);
     }
@@ -163,7 +171,7 @@ public class CardController {
                     .body("You don't have permission to view this card");
         }
         
-        return ResponseEntity.ok(new CardResponseDTO(card));
+        return ResponseEntity.ok(cardService.toResponse(card));
     }
 
     @Operation(summary = "Update Card", description = "Update an existing card's name, description, status or position within the same list")
@@ -16,13 +16,17 @@ public record CardResponseDTO(
     LocalDateTime createdAt,
     LocalDateTime updatedAt
 ) {
-    public CardResponseDTO(Card card) {
+    /**
+     * The position is the card's 0-based index in its list, as clients send it;
+     * the sparse sort key stored on the card stays internal
+     */
+    public CardResponseDTO(Card card, Integer index) {
         this(
             card.getId(),
             card.getName(),
             card.getDescription(),
             card.getStatus(),
-            card.getPosition(),
+            index,
             card.getList().getId(),
             card.getList().getName(),
             card.getCreatedAt(),
@@ -0,0 +1,56 @@
+package com.example.taskmanagerapi.modules.cards.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskmanagerapi.infra.fields.FieldCatalog;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * CardFieldRepository - Sparse reads of cards, selecting only the CardResponseDTO fields asked for
+ */
+@Repository
+@RequiredArgsConstructor
+public class CardFieldRepository {
+
+    /**
+     * position is the card's index in its list, not the stored sort key; every query
+     * here reads whole lists, so the window sees all of a card's siblings
+     */
+    public static final FieldCatalog FIELDS = new FieldCatalog("cards c")
+        .field("id", "c.id", String.class)
+        .field("name", "c.name", String.class)
+        .field("description", "c.description", String.class)
+        .field("status", "c.status", String.class)
+        .field("position", "CAST(ROW_NUMBER() OVER (PARTITION BY c.list_id ORDER BY c.card_position, c.id) - 1 AS INTEGER)",
+            Integer.class)
+        .field("listId", "c.list_id", String.class)
+        .field("listName", "(SELECT l.name FROM board_lists l WHERE l.id = c.list_id)", String.class)
+        .field("createdAt", "c.created_at", LocalDateTime.class)
+        .field("updatedAt", "c.updated_at", LocalDateTime.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Cards of a list ordered by position, with only the requested fields
+     */
+    public List<Map<String, Object>> findByList(String listId, String fields) {
+        return FIELDS.select(fields).query(jdbcTemplate, "WHERE c.list_id = ? ORDER BY c.card_position, c.id",
+            listId);
+    }
+
+    /**
+     * Cards of many lists, grouped by list id, ordered by position; at most perList each
+     */
+    public Map<String, List<Map<String, Object>>> findByLists(Collection<String> listIds, String fields,
+            int perList, int maxRows) {
+        return FIELDS.select(fields).queryByParents(jdbcTemplate, "c.list_id", listIds, "c.card_position, c.id",
+            perList, maxRows);
+    }
+}
@@ -1,17 +1,22 @@
 package com.example.taskmanagerapi.modules.cards.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.example.taskmanagerapi.modules.boards.domain.Board;
 import com.example.taskmanagerapi.modules.cards.domain.Card;
 import com.example.taskmanagerapi.modules.lists.domain.BoardList;
 
 public interface CardRepository extends JpaRepository<Card, String> {
     List<Card> findByList(BoardList list);
     List<Card> findByListOrderByPositionAsc(BoardList list);
+    List<Card> findByListOrderByPositionAscIdAsc(BoardList list);
     void deleteByList(BoardList list);
 
     /**
@@ -20,4 +25,34 @@ public interface CardRepository extends JpaRepository<Card, String> {
      */
     @Query("SELECT MAX(c.position) FROM Card c WHERE c.list = :list")
     Integer findMaxPositionByList(@Param("list") BoardList list);
+
+    /**
+     * All cards of a board with their lists, ordered by list then card position
+     */
+    @Query("SELECT c FROM Card c JOIN FETCH c.list l WHERE l.board = :board ORDER BY l.position, l.id, c.position, c.id")
+    List<Card> findByBoard(@Param("board") Board board);
+
+    /**
+     * Cards by id with their lists, in one query
+     */
+    @Query("SELECT c FROM Card c JOIN FETCH c.list WHERE c.id IN :ids")
+    List<Card> findWithListByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Card id and the number of cards sorted ahead of it in its list, for each given card
+     */
+    @Query("""
+        SELECT c.id, (SELECT COUNT(o) FROM Card o WHERE o.list = c.list
+            AND (o.position < c.position OR (o.position = c.position AND o.id < c.id)))
+        FROM Card c WHERE c.id IN :ids
+        """)
+    List<Object[]> findIndexRowsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * 0-based index of each given card in its list, by card id, in one query
+     */
+    default Map<String, Integer> findIndexesByIdIn(Collection<String> ids) {
+        return findIndexRowsByIdIn(ids).stream()
+            .collect(Collectors.toMap(row -> (String) row[0], row -> ((Number) row[1]).intValue()));
+    }
 }
@@ -2,69 +2,107 @@ package com.example.taskmanagerapi.modules.cards.services;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectRetrievalFailureException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.taskmanagerapi.infra.concurrency.OptimisticRetry;
+import com.example.taskmanagerapi.modules.boards.domain.BoardEvent;
+import com.example.taskmanagerapi.modules.boards.domain.BoardEventType;
 import com.example.taskmanagerapi.modules.cards.domain.Card;
 import com.example.taskmanagerapi.modules.cards.domain.CardStatus;
 import com.example.taskmanagerapi.modules.cards.dto.CardResponseDTO;
 import com.example.taskmanagerapi.modules.cards.dto.CreateCardDTO;
 import com.example.taskmanagerapi.modules.cards.dto.MoveCardDTO;
 import com.example.taskmanagerapi.modules.cards.dto.UpdateCardDTO;
+import com.example.taskmanagerapi.modules.cards.repositories.CardFieldRepository;
 import com.example.taskmanagerapi.modules.cards.repositories.CardRepository;
 import com.example.taskmanagerapi.modules.lists.domain.BoardList;
+import com.example.taskmanagerapi.modules.lists.repositories.BoardListRepository;
+import com.example.taskmanagerapi.modules.lists.repositories.ListPlacementRepository;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 
 /**
  * CardService - Business logic for card operations
  * Single Responsibility: Handle all card-related business logic
+ * Changes are published as BoardEvents, delivered to board streams after commit
+ * Writes use optimistic versions and are retried on conflict (see OptimisticRetry);
+ * positions are sparse sort keys, and placing a card bumps the version of the card next to
+ * its gap, so only concurrent drops into the same gap conflict and are re-resolved.
+ * The keys stay internal: clients send and receive a card's 0-based index in its list
  */
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 public class CardService {
+
+    static final int POSITION_GAP = 65536;
     
     private final CardRepository cardRepository;
+    private final CardFieldRepository cardFieldRepository;
+    private final BoardListRepository listRepository;
+    private final ListPlacementRepository placementRepository;
+    private final OptimisticRetry optimisticRetry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
     
     /**
      * Create a new card in a list
+     * An explicit position is an index into the list; otherwise the card is appended
      */
-    @Transactional
     public CardResponseDTO createCard(CreateCardDTO dto, BoardList list) {
-        Card card = new Card();
-        card.setName(dto.name());
-        card.setDescription(dto.description());
-        card.setStatus(dto.status() != null ? dto.status() : CardStatus.ACTIVE);
-        card.setList(list);
-        card.setCreatedAt(LocalDateTime.now());
-
-        // Auto-append at end if no position given
-        if (dto.position() != null) {
-            card.setPosition(dto.position());
-        } else {
-            Integer maxPosition = cardRepository.findMaxPositionByList(list);
-            card.setPosition(maxPosition == null ? 0 : maxPosition + 1);
-        }
-        
-        Card savedCard = cardRepository.save(card);
-        return new CardResponseDTO(savedCard);
+        return optimisticRetry.execute("card.create", () -> {
+            BoardList targetList = loadList(list.getId());
+            Card card = new Card();
+            card.setName(dto.name());
+            card.setDescription(dto.description());
+            card.setStatus(dto.status() != null ? dto.status() : CardStatus.ACTIVE);
+            card.setList(targetList);
+            card.setCreatedAt(LocalDateTime.now());
+            card.setPosition(place(card, targetList, dto.position()));
+
+            Card savedCard = cardRepository.save(card);
+            CardResponseDTO response = toResponse(savedCard);
+            publish(targetList, BoardEventType.CARD_CREATED, response);
+            return response;
+        });
     }
     
     /**
      * Get all cards from a list
      */
+    @Transactional(readOnly = true)
     public List<CardResponseDTO> getCardsByList(BoardList list) {
-        List<Card> cards = cardRepository.findByListOrderByPositionAsc(list);
-        return cards.stream()
-                .map(CardResponseDTO::new)
+        List<Card> cards = cardRepository.findByListOrderByPositionAscIdAsc(list);
+        return IntStream.range(0, cards.size())
+                .mapToObj(i -> new CardResponseDTO(cards.get(i), i))
                 .toList();
     }
+
+    /**
+     * Get the cards of a list with only the requested fields (see CardFieldRepository)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getCardsByList(BoardList list, String fields) {
+        return cardFieldRepository.findByList(list.getId(), fields);
+    }
     
     /**
      * Get card by ID
      */
+    @Transactional(readOnly = true)
     public Optional<Card> getCardById(String id) {
         if (id == null || id.isBlank()) {
             return Optional.empty();
@@ -74,53 +112,76 @@ public class CardService {
     
     /**
      * Update a card's fields (name, description, status, position within same list)
+     * Retried on a version conflict with the fields applied to the current card
      */
-    @Transactional
     public CardResponseDTO updateCard(Card card, UpdateCardDTO dto) {
-        if (dto.name() != null) {
-            card.setName(dto.name());
-        }
-        if (dto.description() != null) {
-            card.setDescription(dto.description());
-        }
-        if (dto.status() != null) {
-            card.setStatus(dto.status());
-        }
-        if (dto.position() != null) {
-            card.setPosition(dto.position());
-        }
-        card.setUpdatedAt(LocalDateTime.now());
-        
-        Card updatedCard = cardRepository.save(card);
-        return new CardResponseDTO(updatedCard);
+        return optimisticRetry.execute("card.update", () -> {
+            Card current = reload(card.getId());
+            if (dto.name() != null) {
+                current.setName(dto.name());
+            }
+            if (dto.description() != null) {
+                current.setDescription(dto.description());
+            }
+            if (dto.status() != null) {
+                current.setStatus(dto.status());
+            }
+            if (dto.position() != null) {
+                current.setPosition(place(current, loadList(current.getList().getId()), dto.position()));
+            }
+            current.setUpdatedAt(LocalDateTime.now());
+
+            Card updatedCard = cardRepository.save(current);
+            CardResponseDTO response = toResponse(updatedCard);
+            publish(updatedCard.getList(), BoardEventType.CARD_UPDATED, response);
+            return response;
+        });
     }
 
     /**
      * Move a card to a different list (or reposition within the same list)
+     * Retried on a version conflict, re-resolving the position against the current list
      */
-    @Transactional
     public CardResponseDTO moveCard(Card card, BoardList targetList, MoveCardDTO dto) {
-        card.setList(targetList);
+        return optimisticRetry.execute("card.move", () -> {
+            Card current = reload(card.getId());
+            BoardList sourceList = current.getList();
+            BoardList target = loadList(targetList.getId());
+            int position = place(current, target, dto.position());
+            current.setList(target);
+            current.setPosition(position);
+            current.setUpdatedAt(LocalDateTime.now());
 
-        if (dto.position() != null) {
-            card.setPosition(dto.position());
-        } else {
-            Integer maxPosition = cardRepository.findMaxPositionByList(targetList);
-            card.setPosition(maxPosition == null ? 0 : maxPosition + 1);
-        }
-
-        card.setUpdatedAt(LocalDateTime.now());
-        Card movedCard = cardRepository.save(card);
-        return new CardResponseDTO(movedCard);
+            Card movedCard = cardRepository.save(current);
+            CardResponseDTO response = toResponse(movedCard);
+            publish(target, BoardEventType.CARD_MOVED, response);
+            if (!sourceList.getBoard().getId().equals(target.getBoard().getId())) {
+                publish(sourceList, BoardEventType.CARD_MOVED, response);
+            }
+            return response;
+        });
     }
     
+    /**
+     * The response for a card, with its index in the list as position
+     */
+    public CardResponseDTO toResponse(Card card) {
+        return new CardResponseDTO(card, cardRepository.findIndexesByIdIn(List.of(card.getId())).get(card.getId()));
+    }
+
     /**
      * Delete a card
      */
-    @Transactional
     public void deleteCard(String id) {
         if (id != null && !id.isBlank()) {
-            cardRepository.deleteById(id);
+            optimisticRetry.execute("card.delete", () -> {
+                cardRepository.findById(id).ifPresent(card -> {
+                    cardRepository.delete(card);
+                    publish(card.getList(), BoardEventType.CARD_DELETED,
+                        new BoardEvent.Removed(card.getId(), card.getList().getId()));
+                });
+                return null;
+            });
         }
     }
     
@@ -132,4 +193,160 @@ public class CardService {
     public void deleteAllByList(BoardList list) {
         cardRepository.deleteByList(list);
     }
+
+    private Card reload(String id) {
+        return cardRepository.findById(id).orElseThrow(() -> new ObjectRetrievalFailureException(Card.class, id));
+    }
+
+    private BoardList loadList(String listId) {
+        return listRepository.findById(listId)
+            .orElseThrow(() -> new ObjectRetrievalFailureException(BoardList.class, listId));
+    }
+
+    /**
+     * Sort key for a card placed at an index of a list (the end when none is requested)
+     *
+     * Keys are sparse: appends go POSITION_GAP after the last card and drops take the
+     * midpoint of their gap, so a placement writes only the placed card. Instead of locking
+     * the list, the version of the card below the gap (above it, at the top) is
+     * force-incremented: every placement into the same gap anchors on that card, so only
+     * those conflict and retry. A card already in the requested gap keeps its key. Only a
+     * gap that has run out is repaired, by respacing the whole list; an empty list has no
+     * card to anchor on and advances its placement version instead.
+     */
+    private int place(Card card, BoardList list, Integer index) {
+        List<Card> around = index == null ? List.of() : cardsAround(card, list, index);
+        Card below;
+        Card above;
+        if (index == null || (index > 0 && around.isEmpty())) {
+            below = lastCard(card, list);
+            above = null;
+        } else if (index == 0) {
+            below = null;
+            above = around.isEmpty() ? null : around.get(0);
+        } else {
+            below = around.get(0);
+            above = around.size() > 1 ? around.get(1) : null;
+        }
+
+        if (isBetween(card, list, below, above)) {
+            return card.getPosition();
+        }
+        Integer position = keyBetween(below, above);
+        if (position == null) {
+            return respace(card, list, index);
+        }
+        if (below == null && above == null) {
+            advancePlacement(card, list);
+        } else {
+            anchor(below != null ? below : above);
+        }
+        return position;
+    }
+
+    private List<Card> cardsAround(Card card, BoardList list, int index) {
+        return entityManager.createQuery(
+                "SELECT c FROM Card c WHERE c.list = :list AND c.id <> :id ORDER BY c.position, c.id", Card.class)
+            .setParameter("list", list)
+            .setParameter("id", idOrBlank(card))
+            .setFirstResult(Math.max(0, index - 1))
+            .setMaxResults(index == 0 ? 1 : 2)
+            .getResultList();
+    }
+
+    private Card lastCard(Card card, BoardList list) {
+        return entityManager.createQuery(
+                "SELECT c FROM Card c WHERE c.list = :list AND c.id <> :id ORDER BY c.position DESC, c.id DESC",
+                Card.class)
+            .setParameter("list", list)
+            .setParameter("id", idOrBlank(card))
+            .setMaxResults(1)
+            .getResultStream()
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * A card being created has no id yet and excludes nothing
+     */
+    private static String idOrBlank(Card card) {
+        return card.getId() != null ? card.getId() : "";
+    }
+
+    private boolean isBetween(Card card, BoardList list, Card below, Card above) {
+        Integer position = card.getPosition();
+        if (position == null || card.getList() == null || !card.getList().getId().equals(list.getId())) {
+            return false;
+        }
+        return (below == null || (below.getPosition() != null && below.getPosition() < position))
+            && (above == null || (above.getPosition() != null && position < above.getPosition()));
+    }
+
+    /**
+     * Midpoint of the gap, or null when the gap has run out (or a key is missing)
+     */
+    private static Integer keyBetween(Card below, Card above) {
+        Integer low = below == null ? 0 : below.getPosition();
+        Integer high = above == null ? null : above.getPosition();
+        if (low == null || (above != null && high == null)) {
+            return null;
+        }
+        if (high == null) {
+            return low <= Integer.MAX_VALUE - POSITION_GAP ? low + POSITION_GAP : null;
+        }
+        return high - low >= 2 ? low + (high - low) / 2 : null;
+    }
+
+    /**
+     * Repair: renumber the list POSITION_GAP apart (less for very long lists) with the requested slot left free
+     * Renumbering moves no card's index, so nothing is published for it; every card is
+     * anchored, so any placement racing the repair conflicts and retries
+     */
+    private int respace(Card card, BoardList list, Integer index) {
+        List<Card> others = cardRepository.findByListOrderByPositionAscIdAsc(list).stream()
+            .filter(other -> !other.getId().equals(card.getId()))
+            .toList();
+        int gap = (int) Math.min(POSITION_GAP, Integer.MAX_VALUE / (others.size() + 2L));
+        int slot = index == null ? others.size() : Math.min(index, others.size());
+        for (int i = 0; i < others.size(); i++) {
+            Card other = others.get(i);
+            int position = (i < slot ? i + 1 : i + 2) * gap;
+            if (Integer.valueOf(position).equals(other.getPosition())) {
+                anchor(other);
+            } else {
+                other.setPosition(position);
+            }
+        }
+        return (slot + 1) * gap;
+    }
+
+    private void advancePlacement(Card card, BoardList list) {
+        Long placementVersion = placementRepository.findVersion(list.getId());
+        if (placementVersion == null) {
+            throw new ObjectRetrievalFailureException(BoardList.class, list.getId());
+        }
+        // The list was seen empty before its version was read, so a card committed in between
+        // would go unnoticed; the row is locked now, so checking again closes that window
+        if (!placementRepository.advance(list.getId(), placementVersion) || lastCard(card, list) != null) {
+            throw new OptimisticLockingFailureException("Concurrent card placement in list " + list.getId());
+        }
+    }
+
+    /**
+     * Bump the card's version now (failing if it already moved on) rather than at commit, so card
+     * rows are always locked before the board row the change log bumps while committing
+     */
+    private void anchor(Card card) {
+        try {
+            entityManager.lock(card, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+        } catch (RuntimeException e) {
+            // Translated as a repository call would be, so a conflict is retried
+            DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+            throw translated != null ? translated : e;
+        }
+    }
+
+    private void publish(BoardList list, BoardEventType type, Object data) {
+        eventPublisher.publishEvent(new BoardEvent(list.getBoard().getId(), type, data));
+    }
 }
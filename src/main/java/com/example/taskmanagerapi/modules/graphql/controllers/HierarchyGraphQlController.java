@@ -0,0 +1,71 @@
+package com.example.taskmanagerapi.modules.graphql.controllers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.GraphQlExceptionHandler;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+
+import com.example.taskmanagerapi.infra.fields.RowLimitExceededException;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.boards.repositories.BoardFieldRepository;
+import com.example.taskmanagerapi.modules.cards.repositories.CardFieldRepository;
+import com.example.taskmanagerapi.modules.graphql.services.HierarchyLoaders;
+import com.example.taskmanagerapi.modules.lists.repositories.ListFieldRepository;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceFieldRepository;
+
+import graphql.GraphQLError;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HierarchyGraphQlController - POST /graphql, read-only: workspaces → boards → lists → cards
+ *
+ * Ownership is checked once, at the root: only the caller's workspaces are read,
+ * and everything below is reached through them. Each level below is resolved by a
+ * HierarchyLoaders batch loader, so a document costs one query per level it selects.
+ * Every collection is capped by its first argument; documents asking for too much
+ * get a BAD_REQUEST error for that field.
+ */
+@Controller
+@RequiredArgsConstructor
+public class HierarchyGraphQlController {
+
+    private final WorkspaceFieldRepository workspaceFieldRepository;
+    private final HierarchyLoaders hierarchyLoaders;
+
+    @QueryMapping
+    public List<Map<String, Object>> workspaces(@AuthenticationPrincipal User user, @Argument Integer first,
+            DataFetchingFieldSelectionSet selection) {
+        List<String> fields = HierarchyLoaders.fields(WorkspaceFieldRepository.FIELDS, selection);
+        return workspaceFieldRepository.findByOwner(user.getId(), String.join(",", fields),
+            hierarchyLoaders.first(first));
+    }
+
+    @SchemaMapping(typeName = "Workspace")
+    public CompletableFuture<List<Map<String, Object>>> boards(DataFetchingEnvironment environment) {
+        return hierarchyLoaders.load(environment, HierarchyLoaders.BOARDS, BoardFieldRepository.FIELDS);
+    }
+
+    @SchemaMapping(typeName = "Board")
+    public CompletableFuture<List<Map<String, Object>>> lists(DataFetchingEnvironment environment) {
+        return hierarchyLoaders.load(environment, HierarchyLoaders.LISTS, ListFieldRepository.FIELDS);
+    }
+
+    @SchemaMapping(typeName = "BoardList")
+    public CompletableFuture<List<Map<String, Object>>> cards(DataFetchingEnvironment environment) {
+        return hierarchyLoaders.load(environment, HierarchyLoaders.CARDS, CardFieldRepository.FIELDS);
+    }
+
+    @GraphQlExceptionHandler
+    public GraphQLError rowLimitExceeded(RowLimitExceededException ex) {
+        return GraphQLError.newError().errorType(ErrorType.BAD_REQUEST).message(ex.getMessage()).build();
+    }
+}
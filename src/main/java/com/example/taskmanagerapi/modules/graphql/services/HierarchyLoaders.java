@@ -0,0 +1,131 @@
+package com.example.taskmanagerapi.modules.graphql.services;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.dataloader.DataLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Component;
+
+import com.example.taskmanagerapi.infra.fields.FieldCatalog;
+import com.example.taskmanagerapi.infra.fields.RowLimitExceededException;
+import com.example.taskmanagerapi.modules.boards.repositories.BoardFieldRepository;
+import com.example.taskmanagerapi.modules.cards.repositories.CardFieldRepository;
+import com.example.taskmanagerapi.modules.lists.repositories.ListFieldRepository;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import reactor.core.publisher.Mono;
+
+/**
+ * HierarchyLoaders - Batch loaders for the boards, lists and cards levels of the GraphQL hierarchy
+ *
+ * Each level is one query for every parent the document reached, whatever the
+ * fan-out: a loader collects the parent ids of a level and reads their children
+ * through the module's FieldCatalog, selecting only the columns some query asked for.
+ * Loaders are created per request, so nothing is cached across requests.
+ *
+ * Every collection takes first: at most that many children per parent, max-first
+ * when omitted and never more. A level that still reads more than
+ * max-rows-per-level rows in total fails with an error instead of growing the response.
+ */
+@Component
+public class HierarchyLoaders {
+
+    public static final String BOARDS = "boards";
+    public static final String LISTS = "lists";
+    public static final String CARDS = "cards";
+
+    /**
+     * A parent, the child fields selected under it and how many children it asked for;
+     * aliases selecting different fields or counts get their own key
+     */
+    record LevelKey(String parentId, List<String> fields, int first) {}
+
+    /**
+     * One level's read: children of the parents, at most perParent each, failing past maxRows in all
+     */
+    private interface LevelQuery {
+        Map<String, List<Map<String, Object>>> find(Set<String> parentIds, String fields, int perParent, int maxRows);
+    }
+
+    private final int maxFirst;
+    private final int maxRowsPerLevel;
+
+    public HierarchyLoaders(BatchLoaderRegistry registry, BoardFieldRepository boardFieldRepository,
+            ListFieldRepository listFieldRepository, CardFieldRepository cardFieldRepository,
+            @Value("${app.graphql.max-first:100}") int maxFirst,
+            @Value("${app.graphql.max-rows-per-level:10000}") int maxRowsPerLevel) {
+        this.maxFirst = maxFirst;
+        this.maxRowsPerLevel = maxRowsPerLevel;
+        register(registry, BOARDS, boardFieldRepository::findByWorkspaces);
+        register(registry, LISTS, listFieldRepository::findByBoards);
+        register(registry, CARDS, cardFieldRepository::findByLists);
+    }
+
+    /**
+     * Children of the source object (a row map with an id) through the named loader
+     */
+    public CompletableFuture<List<Map<String, Object>>> load(DataFetchingEnvironment environment,
+            String loaderName, FieldCatalog catalog) {
+        Map<String, Object> parent = environment.getSource();
+        DataLoader<LevelKey, List<Map<String, Object>>> loader = environment.getDataLoader(loaderName);
+        return loader.load(new LevelKey((String) parent.get("id"), fields(catalog, environment.getSelectionSet()),
+            first(environment.getArgument("first"))));
+    }
+
+    /**
+     * The first argument of a collection, max-first when omitted
+     *
+     * @throws RowLimitExceededException if it is not between 1 and max-first
+     */
+    public int first(Integer requested) {
+        if (requested == null) {
+            return maxFirst;
+        }
+        if (requested < 1 || requested > maxFirst) {
+            throw new RowLimitExceededException("first must be between 1 and " + maxFirst);
+        }
+        return requested;
+    }
+
+    /**
+     * Catalog fields selected directly under a GraphQL field, in catalog order; id is always read for the next level
+     */
+    public static List<String> fields(FieldCatalog catalog, DataFetchingFieldSelectionSet selection) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (SelectedField field : selection.getImmediateFields()) {
+            selected.add(field.getName());
+        }
+        return catalog.names().stream().filter(selected::contains).toList();
+    }
+
+    private void register(BatchLoaderRegistry registry, String name, LevelQuery query) {
+        registry.<LevelKey, List<Map<String, Object>>>forName(name)
+            .registerMappedBatchLoader((keys, environment) -> Mono.fromCallable(() -> {
+                Set<String> parentIds = new LinkedHashSet<>();
+                Set<String> fields = new LinkedHashSet<>();
+                int perParent = 0;
+                for (LevelKey key : keys) {
+                    parentIds.add(key.parentId());
+                    fields.addAll(key.fields());
+                    perParent = Math.max(perParent, key.first());
+                }
+                Map<String, List<Map<String, Object>>> children =
+                    query.find(parentIds, String.join(",", fields), perParent, maxRowsPerLevel);
+                Map<LevelKey, List<Map<String, Object>>> result = new HashMap<>();
+                for (LevelKey key : keys) {
+                    List<Map<String, Object>> rows = children.getOrDefault(key.parentId(), List.of());
+                    result.put(key, rows.subList(0, Math.min(key.first(), rows.size())));
+                }
+                return result;
+            }));
+    }
+}
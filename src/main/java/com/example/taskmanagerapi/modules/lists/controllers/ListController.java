@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.taskmanagerapi.modules.auth.domain.User;
@@ -87,6 +88,7 @@ public class ListController {
     @Operation(summary = "Get All Lists", description = "Retrieve all lists from a board ordered by position")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lists retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown field in fields"),
         @ApiResponse(responseCode = "404", description = "Board not found"),
         @ApiResponse(responseCode = "403", description = "Forbidden - Board belongs to another user"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token")
@@ -94,6 +96,8 @@ public class ListController {
     @GetMapping
     public ResponseEntity<Object> getAllLists(
             @Parameter(description = "Board ID", required = true) @PathVariable @NonNull String boardId,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,name,position; all fields if omitted")
+            @RequestParam(required = false) String fields,
             @AuthenticationPrincipal User user) {
         
         Optional<Board> boardOpt = boardService.getBoardById(boardId);
@@ -108,6 +112,10 @@ public class ListController {
                     .body("You don't have permission to view lists from this board");
         }
         
+        if (fields != null) {
+            return ResponseEntity.ok(listService.getListsByBoard(board, fields));
+        }
+        
         List<ListResponseDTO> response = listService.getListsByBoard(board);
         return ResponseEntity.ok(response);
     }
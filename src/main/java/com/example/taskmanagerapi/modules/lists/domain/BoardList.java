@@ -7,6 +7,11 @@ import java.util.List;
 import com.example.taskmanagerapi.modules.boards.domain.Board;
 import com.example.taskmanagerapi.modules.cards.domain.Card;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -18,6 +23,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,6 +35,8 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "board_lists")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board-lists")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -50,6 +58,7 @@ public class BoardList {
     private Board board;
     
     @OneToMany(mappedBy = "list", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<Card> cards = new ArrayList<>();
     
     @Column(name = "created_at", nullable = false)
@@ -57,6 +66,9 @@ public class BoardList {
     
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
     
     // Helper method to add card
     public void addCard(Card card) {
@@ -0,0 +1,44 @@
+package com.example.taskmanagerapi.modules.lists.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskmanagerapi.infra.fields.FieldCatalog;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ListFieldRepository - Sparse reads of lists, selecting only the ListResponseDTO fields asked for
+ */
+@Repository
+@RequiredArgsConstructor
+public class ListFieldRepository {
+
+    public static final FieldCatalog FIELDS = new FieldCatalog("board_lists l")
+        .field("id", "l.id", String.class)
+        .field("name", "l.name", String.class)
+        .field("position", "l.list_position", Integer.class)
+        .field("boardId", "l.board_id", String.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Lists of a board ordered by position, with only the requested fields
+     */
+    public List<Map<String, Object>> findByBoard(String boardId, String fields) {
+        return FIELDS.select(fields).query(jdbcTemplate, "WHERE l.board_id = ? ORDER BY l.list_position", boardId);
+    }
+
+    /**
+     * Lists of many boards, grouped by board id, ordered by position; at most perBoard each
+     */
+    public Map<String, List<Map<String, Object>>> findByBoards(Collection<String> boardIds, String fields,
+            int perBoard, int maxRows) {
+        return FIELDS.select(fields).queryByParents(jdbcTemplate, "l.board_id", boardIds, "l.list_position",
+            perBoard, maxRows);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.taskmanagerapi.modules.lists.repositories;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ListPlacementRepository - JDBC access to board_lists.placement_version
+ *
+ * The version a card placed into an empty list checks and advances; placements next
+ * to other cards anchor on those cards' versions instead. Plain JDBC for the
+ * same reason as the board change version: the column is not part of the cached
+ * BoardList entity, so bumping it leaves the list in the second-level cache.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ListPlacementRepository {
+
+    private static final String FIND_VERSION_SQL = "SELECT placement_version FROM board_lists WHERE id = ?";
+
+    private static final String ADVANCE_VERSION_SQL =
+            "UPDATE board_lists SET placement_version = placement_version + 1 WHERE id = ? AND placement_version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Current placement version of a list, or null if the list is gone
+     */
+    public Long findVersion(String listId) {
+        List<Long> versions = jdbcTemplate.queryForList(FIND_VERSION_SQL, Long.class, listId);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    /**
+     * Advance the version if it is still the expected one; false if another placement got there first
+     * The row stays locked until the transaction ends
+     */
+    public boolean advance(String listId, long expected) {
+        return jdbcTemplate.update(ADVANCE_VERSION_SQL, listId, expected) == 1;
+    }
+}
@@ -1,21 +1,30 @@
 package com.example.taskmanagerapi.modules.lists.services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.lang.NonNull;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectRetrievalFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.taskmanagerapi.infra.concurrency.OptimisticRetry;
 import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.boards.domain.BoardEvent;
+import com.example.taskmanagerapi.modules.boards.domain.BoardEventType;
 import com.example.taskmanagerapi.modules.cards.services.CardService;
 import com.example.taskmanagerapi.modules.lists.domain.BoardList;
 import com.example.taskmanagerapi.modules.lists.dto.CreateListDTO;
 import com.example.taskmanagerapi.modules.lists.dto.ListResponseDTO;
 import com.example.taskmanagerapi.modules.lists.dto.UpdateListDTO;
 import com.example.taskmanagerapi.modules.lists.repositories.BoardListRepository;
+import com.example.taskmanagerapi.modules.lists.repositories.ListFieldRepository;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -24,11 +33,16 @@ import lombok.RequiredArgsConstructor;
  * Communicates with CardService for cascade operations
  */
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 public class BoardListService {
     
     private final BoardListRepository listRepository;
+    private final ListFieldRepository listFieldRepository;
     private final CardService cardService;
+    private final OptimisticRetry optimisticRetry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     /**
      * Create a new list within a board
@@ -45,13 +59,17 @@ public class BoardListService {
         list.setBoard(board);
         list.setPosition(newPosition);
         
-        BoardList savedList = listRepository.save(list);
-        return new ListResponseDTO(savedList);
+        // Flushed so cards placed in it later in the same transaction find its placement version
+        BoardList savedList = listRepository.saveAndFlush(list);
+        ListResponseDTO response = new ListResponseDTO(savedList);
+        publish(board, BoardEventType.LIST_CREATED, response);
+        return response;
     }
 
     /**
      * Get all lists from a board ordered by position
      */
+    @Transactional(readOnly = true)
     public List<ListResponseDTO> getListsByBoard(@NonNull Board board) {
         return listRepository.findByBoardOrderByPositionAsc(board)
                 .stream()
@@ -59,29 +77,51 @@ public class BoardListService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the lists of a board with only the requested fields (see ListFieldRepository)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getListsByBoard(@NonNull Board board, @NonNull String fields) {
+        return listFieldRepository.findByBoard(board.getId(), fields);
+    }
+
     /**
      * Find a list by ID
      */
+    @Transactional(readOnly = true)
     public Optional<BoardList> getListById(@NonNull String id) {
         return listRepository.findById(id);
     }
 
     /**
      * Update an existing list
-     * Allows updating name and position
+     * Allows updating name and position; a new position pushes down the lists in the way
+     * Retried on a version conflict with the changes applied to the current lists
+     * The list is re-read from the primary, not taken from the caller's (possibly replica) copy
      */
-    @Transactional
     public ListResponseDTO updateList(@NonNull BoardList list, @NonNull UpdateListDTO dto) {
-        if (dto.name() != null && !dto.name().isBlank()) {
-            list.setName(dto.name());
-        }
-        
-        if (dto.position() != null && dto.position() >= 0) {
-            list.setPosition(dto.position());
-        }
-        
-        BoardList updatedList = listRepository.save(list);
-        return new ListResponseDTO(updatedList);
+        return optimisticRetry.execute("list.update", () -> {
+            BoardList current = listRepository.findById(list.getId())
+                .orElseThrow(() -> new ObjectRetrievalFailureException(BoardList.class, list.getId()));
+            // The open-in-view session may still hold the caller's replica-loaded copy;
+            // flushed first so a refresh inside a batch keeps the batch's earlier changes
+            entityManager.flush();
+            entityManager.refresh(current);
+            if (dto.name() != null && !dto.name().isBlank()) {
+                current.setName(dto.name());
+            }
+
+            boolean moved = false;
+            if (dto.position() != null && dto.position() >= 0 && !dto.position().equals(current.getPosition())) {
+                moved = true;
+                current.setPosition(place(current, dto.position()));
+            }
+
+            BoardList updatedList = listRepository.save(current);
+            ListResponseDTO response = new ListResponseDTO(updatedList);
+            publish(updatedList.getBoard(), moved ? BoardEventType.LIST_MOVED : BoardEventType.LIST_UPDATED, response);
+            return response;
+        });
     }
 
     /**
@@ -97,6 +137,7 @@ public class BoardListService {
             cardService.deleteAllByList(list);
             // Then delete the list
             listRepository.deleteById(id);
+            publish(list.getBoard(), BoardEventType.LIST_DELETED, new BoardEvent.Removed(id, null));
         }
     }
 
@@ -114,4 +155,27 @@ public class BoardListService {
         // Delete all lists
         listRepository.deleteByBoard(board);
     }
+
+    /**
+     * Push down the lists at and after the requested position, up to the next gap
+     * Each pushed list is version-checked and published as moved
+     */
+    private int place(BoardList list, int requested) {
+        int next = requested + 1;
+        for (BoardList other : listRepository.findByBoardOrderByPositionAsc(list.getBoard())) {
+            if (other.getId().equals(list.getId()) || other.getPosition() == null || other.getPosition() < requested) {
+                continue;
+            }
+            if (other.getPosition() >= next) {
+                break;
+            }
+            other.setPosition(next++);
+            publish(other.getBoard(), BoardEventType.LIST_MOVED, new ListResponseDTO(other));
+        }
+        return requested;
+    }
+
+    private void publish(Board board, BoardEventType type, Object data) {
+        eventPublisher.publishEvent(new BoardEvent(board.getId(), type, data));
+    }
 }
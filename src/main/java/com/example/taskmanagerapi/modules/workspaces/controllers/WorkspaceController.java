@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.taskmanagerapi.modules.auth.domain.User;
@@ -74,15 +75,23 @@ public class WorkspaceController {
     @Operation(summary = "Get All Workspaces", description = "Retrieve all workspaces for the authenticated user")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Workspaces retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown field in fields"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token")
     })
     @GetMapping
-    public ResponseEntity<Object> getAllWorkspaces(@AuthenticationPrincipal User user) {
+    public ResponseEntity<Object> getAllWorkspaces(
+            @Parameter(description = "Comma-separated fields to return, e.g. id,name; all fields if omitted")
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal User user) {
         
         if (user == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
         }
         
+        if (fields != null) {
+            return ResponseEntity.ok(workspaceService.getWorkspacesByUser(user, fields));
+        }
+        
         List<WorkspaceResponseDTO> response = workspaceService.getWorkspacesByUser(user);
         return ResponseEntity.ok(response);
     }
@@ -7,6 +7,11 @@ import java.util.List;
 import com.example.taskmanagerapi.modules.auth.domain.User;
 import com.example.taskmanagerapi.modules.boards.domain.Board;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -29,6 +34,8 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "workspaces")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "workspaces")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -47,6 +54,8 @@ public class Workspace {
     private User owner;
     
     @OneToMany(mappedBy = "workspace", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "workspaces.boards")
     private List<Board> boards = new ArrayList<>();
     
     @Column(name = "created_at", nullable = false)
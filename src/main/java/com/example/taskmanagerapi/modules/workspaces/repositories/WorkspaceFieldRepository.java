@@ -0,0 +1,44 @@
+package com.example.taskmanagerapi.modules.workspaces.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.taskmanagerapi.infra.fields.FieldCatalog;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WorkspaceFieldRepository - Sparse reads of workspaces, selecting only the WorkspaceResponseDTO fields asked for
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkspaceFieldRepository {
+
+    public static final FieldCatalog FIELDS = new FieldCatalog("workspaces w")
+        .field("id", "w.id", String.class)
+        .field("name", "w.name", String.class)
+        .field("boardCount", "(SELECT COUNT(*) FROM boards b WHERE b.workspace_id = w.id)", Integer.class)
+        .field("createdAt", "w.created_at", LocalDateTime.class)
+        .field("updatedAt", "w.updated_at", LocalDateTime.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Workspaces of a user, newest first, with only the requested fields
+     */
+    public List<Map<String, Object>> findByOwner(String ownerId, String fields) {
+        return FIELDS.select(fields).query(jdbcTemplate, "WHERE w.owner_id = ? ORDER BY w.created_at DESC", ownerId);
+    }
+
+    /**
+     * The newest limit workspaces of a user, with only the requested fields
+     */
+    public List<Map<String, Object>> findByOwner(String ownerId, String fields, int limit) {
+        return FIELDS.select(fields).query(jdbcTemplate, "WHERE w.owner_id = ? ORDER BY w.created_at DESC LIMIT ?",
+            ownerId, limit);
+    }
+}
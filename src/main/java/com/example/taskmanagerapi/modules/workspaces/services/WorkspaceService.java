@@ -2,6 +2,7 @@ package com.example.taskmanagerapi.modules.workspaces.services;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -15,8 +16,10 @@ import com.example.taskmanagerapi.modules.workspaces.domain.Workspace;
 import com.example.taskmanagerapi.modules.workspaces.dto.CreateWorkspaceDTO;
 import com.example.taskmanagerapi.modules.workspaces.dto.UpdateWorkspaceDTO;
 import com.example.taskmanagerapi.modules.workspaces.dto.WorkspaceResponseDTO;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceFieldRepository;
 import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -24,10 +27,12 @@ import lombok.RequiredArgsConstructor;
  * Single Responsibility: Handle business rules for workspaces
  */
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 public class WorkspaceService {
     
     private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceFieldRepository workspaceFieldRepository;
 
     /**
      * Create a new workspace for a user
@@ -50,6 +55,7 @@ public class WorkspaceService {
     /**
      * Get all workspaces for a user, ordered by creation date
      */
+    @Transactional(readOnly = true)
     public List<WorkspaceResponseDTO> getWorkspacesByUser(@NonNull User user) {
         return workspaceRepository.findByOwnerOrderByCreatedAtDesc(user)
                 .stream()
@@ -57,9 +63,18 @@ public class WorkspaceService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get a user's workspaces with only the requested fields (see WorkspaceFieldRepository)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getWorkspacesByUser(@NonNull User user, @NonNull String fields) {
+        return workspaceFieldRepository.findByOwner(user.getId(), fields);
+    }
+
     /**
      * Find a workspace by ID
      */
+    @Transactional(readOnly = true)
     public Optional<Workspace> getWorkspaceById(@NonNull String id) {
         return workspaceRepository.findById(id);
     }
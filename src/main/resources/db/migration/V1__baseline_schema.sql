@@ -0,0 +1,90 @@
+-- Baseline: the schema Hibernate generated with ddl-auto=update before migrations existed.
+-- Databases created that way are baselined at version 1 (spring.flyway.baseline-on-migrate)
+-- and only receive the later versions.
+
+create table users (
+    id varchar(255) not null,
+    name varchar(255),
+    username varchar(255) not null,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    email_verified boolean not null,
+    primary key (id),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+);
+
+create table workspaces (
+    id varchar(255) not null,
+    name varchar(255) not null,
+    owner_id varchar(255) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint fk_workspaces_owner foreign key (owner_id) references users (id)
+);
+
+create table boards (
+    id varchar(255) not null,
+    name varchar(255) not null,
+    type varchar(255) not null check (type in ('BOARD')),
+    description varchar(500),
+    owner_id varchar(255) not null,
+    workspace_id varchar(255) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint fk_boards_owner foreign key (owner_id) references users (id),
+    constraint fk_boards_workspace foreign key (workspace_id) references workspaces (id)
+);
+
+create table board_lists (
+    id varchar(255) not null,
+    name varchar(255) not null,
+    list_position integer,
+    board_id varchar(255) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint fk_board_lists_board foreign key (board_id) references boards (id)
+);
+
+create table cards (
+    id varchar(255) not null,
+    name varchar(255) not null,
+    description varchar(1000),
+    status varchar(255) not null check (status in ('ACTIVE', 'ARCHIVED', 'COMPLETED')),
+    card_position integer,
+    list_id varchar(255) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint fk_cards_list foreign key (list_id) references board_lists (id)
+);
+
+create table refresh_tokens (
+    token varchar(255) not null,
+    user_id varchar(255) not null,
+    expiration_date timestamp(6) not null,
+    created_at timestamp(6) not null,
+    ip_address varchar(255),
+    user_agent varchar(255),
+    primary key (token),
+    constraint fk_refresh_tokens_user foreign key (user_id) references users (id)
+);
+
+create table email_verification_tokens (
+    id varchar(255) not null,
+    token varchar(255),
+    email varchar(255),
+    expiration_date timestamp(6),
+    primary key (id)
+);
+
+create table password_reset_tokens (
+    id varchar(255) not null,
+    token varchar(255),
+    email varchar(255),
+    expiration_date timestamp(6),
+    primary key (id)
+);
@@ -0,0 +1,31 @@
+-- Secondary indexes for every repository lookup. IF NOT EXISTS keeps this safe on
+-- baselined databases where Hibernate already created some of them under these names.
+-- Composite indexes match the filter + ORDER BY of the derived queries, so lists are
+-- read in index order without a sort.
+
+-- CardRepository.findByListOrderByPositionAsc, findMaxPositionByList, deleteByList
+create index if not exists idx_cards_list_position on cards (list_id, card_position);
+
+-- BoardListRepository.findByBoardOrderByPositionAsc, findMaxPositionByBoard, deleteByBoard
+create index if not exists idx_board_lists_board_position on board_lists (board_id, list_position);
+
+-- BoardRepository.findByWorkspaceOrderByCreatedAtDesc, countByWorkspace, findByWorkspaceAndType
+create index if not exists idx_boards_workspace_created on boards (workspace_id, created_at);
+
+-- Foreign key lookups when a user is deleted
+create index if not exists idx_boards_owner on boards (owner_id);
+
+-- WorkspaceRepository.findByOwnerOrderByCreatedAtDesc, countByOwner, existsByOwnerAndName
+create index if not exists idx_workspaces_owner_created on workspaces (owner_id, created_at);
+
+-- RefreshTokenRepository.findByUser, deleteByUser, deleteByUserIdIn; expiry purge
+create index if not exists idx_refresh_tokens_user_id on refresh_tokens (user_id);
+create index if not exists idx_refresh_tokens_expiration_date on refresh_tokens (expiration_date);
+
+-- Verification and reset tokens: lookup by token, cleanup by email, expiry purge
+create unique index if not exists idx_email_verification_tokens_token on email_verification_tokens (token);
+create index if not exists idx_email_verification_tokens_email on email_verification_tokens (email);
+create index if not exists idx_email_verification_tokens_expiration_date on email_verification_tokens (expiration_date);
+create unique index if not exists idx_password_reset_tokens_token on password_reset_tokens (token);
+create index if not exists idx_password_reset_tokens_email on password_reset_tokens (email);
+create index if not exists idx_password_reset_tokens_expiration_date on password_reset_tokens (expiration_date);
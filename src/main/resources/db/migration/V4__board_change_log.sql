@@ -0,0 +1,20 @@
+-- Per-board change log for delta sync (GET /boards/{id}/changes?since=).
+-- change_version is bumped under the board row lock by every card/list mutation, so versions
+-- commit in order; change_floor is the highest version whose tombstones have been pruned.
+alter table boards add column change_version bigint default 0 not null;
+alter table boards add column change_floor bigint default 0 not null;
+
+-- One row per card or list: the version of its latest change and whether it was deleted
+create table board_changes (
+    board_id varchar(255) not null,
+    entity_id varchar(255) not null,
+    entity_type varchar(8) not null,
+    version bigint not null,
+    deleted boolean not null,
+    changed_at timestamp(6) not null,
+    primary key (board_id, entity_id),
+    constraint fk_board_changes_board foreign key (board_id) references boards (id) on delete cascade
+);
+
+create index idx_board_changes_board_version on board_changes (board_id, version);
+create index idx_board_changes_tombstones on board_changes (deleted, changed_at);
@@ -0,0 +1,6 @@
+-- Optimistic locking versions for concurrent card and list edits (@Version on Card and BoardList).
+-- placement_version is bumped by every card placed in the list; it lives outside the BoardList
+-- entity so placements do not evict the list from the second-level cache.
+alter table cards add column version bigint default 0 not null;
+alter table board_lists add column version bigint default 0 not null;
+alter table board_lists add column placement_version bigint default 0 not null;
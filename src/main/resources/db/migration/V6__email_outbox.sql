@@ -0,0 +1,19 @@
+-- Outbox for verification and password reset emails (OutboxEmail), sent by EmailOutboxDispatcher.
+-- Added after the baseline, so databases baselined at version 1 get it too. IF NOT EXISTS keeps
+-- this safe where ddl-auto already created the table.
+create table if not exists email_outbox (
+    id varchar(255) not null,
+    recipient varchar(255) not null,
+    recipient_domain varchar(255) not null,
+    subject varchar(255) not null,
+    body text not null,
+    status varchar(255) not null check (status in ('PENDING', 'FAILED')),
+    attempts integer not null,
+    next_attempt_at timestamp(6) not null,
+    last_error varchar(1000),
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+-- EmailOutboxDispatcher claim query
+create index if not exists idx_email_outbox_status_next_attempt on email_outbox (status, next_attempt_at);
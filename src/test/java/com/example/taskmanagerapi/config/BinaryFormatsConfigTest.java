@@ -0,0 +1,114 @@
+package com.example.taskmanagerapi.config;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BinaryFormatsConfigTest {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private String bearer;
+    private String boardId;
+
+    @BeforeEach
+    void seed() throws Exception {
+        String handle = "binary-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Binary");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+        bearer = "Bearer " + tokenService.generateToken(user);
+
+        String workspaceId = create(post("/workspaces"), "{\"name\":\"Work\"}");
+        boardId = create(post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Sprint\"}");
+        String listId = create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"To Do\"}");
+        create(post("/boards/{boardId}/lists/{listId}/cards", boardId, listId), "{\"name\":\"Card\"}");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workspaceRepository.deleteAll(workspaceRepository.findByOwnerOrderByCreatedAtDesc(user));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void binaryBodiesCarryTheSameTreeAsJson() throws Exception {
+        JsonNode json = objectMapper.readTree(body(MediaType.ALL));
+        JsonNode cbor = new CBORMapper().readTree(body(MediaType.APPLICATION_CBOR));
+        JsonNode smile = new SmileMapper().readTree(body(SMILE));
+
+        assertEquals(json, cbor);
+        assertEquals(json, smile);
+        assertTrue(json.get("createdAt").isTextual(), "dates are ISO strings in every format");
+    }
+
+    private byte[] body(MediaType accept) throws Exception {
+        MediaType expected = accept.equals(MediaType.ALL) ? MediaType.APPLICATION_JSON : accept;
+        return mockMvc.perform(authorized(get("/boards/{id}", boardId)).accept(accept))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(expected))
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+            .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private String create(MockHttpServletRequestBuilder request, String body) throws Exception {
+        String response = mockMvc.perform(authorized(request).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer).contentType(MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.taskmanagerapi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.example.taskmanagerapi.modules.auth.domain.CachedRefreshToken;
+import com.example.taskmanagerapi.modules.auth.domain.RefreshToken;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+
+class CachedRefreshTokenSerializerTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachedRefreshTokenSerializerTest.class);
+    private static final int ITERATIONS = 50_000;
+
+    private final CachedRefreshTokenSerializer serializer = new CachedRefreshTokenSerializer();
+
+    @Test
+    void roundTripsAllFields() {
+        CachedRefreshToken token = new CachedRefreshToken(
+            UUID.randomUUID().toString(),
+            UUID.randomUUID().toString(),
+            LocalDateTime.of(2026, 3, 6, 12, 0, 0),
+            "203.0.113.7",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 14_4) Gecko/20100101 Firefox/125.0 — ç"
+        );
+
+        assertThat(serializer.deserialize(serializer.serialize(token))).isEqualTo(token);
+    }
+
+    @Test
+    void roundTripsNullDeviceInfo() {
+        CachedRefreshToken token = new CachedRefreshToken("token", "user", LocalDateTime.of(2026, 1, 1, 0, 0), null, null);
+
+        assertThat(serializer.deserialize(serializer.serialize(token))).isEqualTo(token);
+        assertThat(serializer.serialize(null)).isNull();
+        assertThat(serializer.deserialize(null)).isNull();
+    }
+
+    @Test
+    void payloadIsSmallerThanJsonEntity() {
+        RefreshToken entity = sampleEntity();
+        CachedRefreshToken compact = new CachedRefreshToken(entity);
+        GenericJackson2JsonRedisSerializer json = RedisConfig.jsonRedisSerializer();
+
+        byte[] compactBytes = serializer.serialize(compact);
+        byte[] jsonBytes = json.serialize(entity);
+
+        // The JSON entity cannot be read back (the derived "expired" property is rejected),
+        // so only the write side is comparable
+        long compactWriteNanos = time(() -> serializer.serialize(compact));
+        long compactReadNanos = time(() -> serializer.deserialize(compactBytes));
+        long jsonWriteNanos = time(() -> json.serialize(entity));
+
+        logger.info("Refresh token cache payload: compact={} bytes, json={} bytes", compactBytes.length, jsonBytes.length);
+        logger.info("Refresh token cache serialize: compact={} ns/op, json={} ns/op; compact deserialize={} ns/op",
+            compactWriteNanos / ITERATIONS, jsonWriteNanos / ITERATIONS, compactReadNanos / ITERATIONS);
+
+        assertThat(compactBytes.length).isLessThan(jsonBytes.length / 2);
+    }
+
+    private static long time(Runnable roundTrip) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            roundTrip.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            roundTrip.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static RefreshToken sampleEntity() {
+        User user = new User();
+        user.setId(UUID.randomUUID().toString());
+        user.setName("Jane Doe");
+        user.setUsername("jane");
+        user.setEmail("jane@example.com");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z2jU8Jf0RzZ8eXs1x7Y6Qe1a");
+        user.setEmailVerified(true);
+
+        RefreshToken token = new RefreshToken();
+        token.setToken(UUID.randomUUID().toString());
+        token.setUser(user);
+        token.setExpirationDate(LocalDateTime.now().plusDays(7));
+        token.setCreatedAt(LocalDateTime.now());
+        token.setIpAddress("203.0.113.7");
+        token.setUserAgent("Mozilla/5.0 (Macintosh; Intel Mac OS X 14_4) Gecko/20100101 Firefox/125.0");
+        return token;
+    }
+}
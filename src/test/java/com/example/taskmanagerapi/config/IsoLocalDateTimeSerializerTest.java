@@ -0,0 +1,70 @@
+package com.example.taskmanagerapi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper fast = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .modulesToInstall(new SimpleModule().addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer()))
+        .build();
+
+    @Test
+    void matchesIsoLocalDateTime() throws Exception {
+        assertSameAsIso(LocalDateTime.of(2026, 3, 6, 12, 0));
+        assertSameAsIso(LocalDateTime.of(2026, 3, 6, 12, 0, 7));
+        assertSameAsIso(LocalDateTime.of(2026, 12, 31, 23, 59, 59, 100_000_000));
+        assertSameAsIso(LocalDateTime.of(2026, 1, 1, 0, 0, 0, 123_456_000));
+        assertSameAsIso(LocalDateTime.of(2026, 1, 1, 0, 0, 0, 1));
+        assertSameAsIso(LocalDateTime.of(1, 1, 1, 0, 0));
+        assertSameAsIso(LocalDateTime.of(12026, 1, 1, 0, 0));
+        assertSameAsIso(LocalDateTime.of(-5, 6, 7, 8, 9));
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 10_000; i++) {
+            assertSameAsIso(LocalDateTime.of(random.nextInt(1970, 2100), random.nextInt(1, 13), random.nextInt(1, 29),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000)));
+        }
+    }
+
+    @Test
+    void keepsNumericTimestampsWhenEnabled() throws Exception {
+        LocalDateTime value = LocalDateTime.of(2026, 3, 6, 12, 30, 15);
+        String timestamps = fast.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).writeValueAsString(value);
+
+        assertThat(timestamps).isEqualTo("[2026,3,6,12,30,15]");
+    }
+
+    @Test
+    void bootObjectMapperUsesItAlongsideBlackbird() {
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+            .withUserConfiguration(JacksonConfig.class)
+            .run(context -> {
+                ObjectMapper mapper = context.getBean(ObjectMapper.class);
+                assertThat(mapper.getSerializerProviderInstance().findValueSerializer(LocalDateTime.class))
+                    .isInstanceOf(IsoLocalDateTimeSerializer.class);
+                assertThat(mapper.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+            });
+    }
+
+    private void assertSameAsIso(LocalDateTime value) throws Exception {
+        assertThat(fast.writeValueAsString(value))
+            .isEqualTo("\"" + value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "\"");
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.taskmanagerapi.infra.compression;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
+import com.jayway.jsonpath.JsonPath;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CompressionFilterTest {
+
+    private static final int CARDS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private String bearer;
+    private String cardsPath;
+
+    @BeforeEach
+    void seed() throws Exception {
+        String handle = "gzip-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Compression");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+        bearer = "Bearer " + tokenService.generateToken(user);
+
+        String workspaceId = create(post("/workspaces"), "{\"name\":\"Work\"}");
+        String boardId = create(post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Sprint\"}");
+        String listId = create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"To Do\"}");
+        cardsPath = "/boards/" + boardId + "/lists/" + listId + "/cards";
+        for (int i = 0; i < CARDS; i++) {
+            create(post(cardsPath), "{\"name\":\"Card " + i + "\",\"description\":\"Steps to reproduce the issue\"}");
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workspaceRepository.deleteAll(workspaceRepository.findByOwnerOrderByCreatedAtDesc(user));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void largeJsonIsGzippedAndSavingsRecorded() throws Exception {
+        DistributionSummary saved = meterRegistry.get("http.compression.saved").summary();
+        long compressedBefore = saved.count();
+
+        MockHttpServletResponse response = mockMvc.perform(authorized(get(cardsPath))
+                .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+            .andReturn().getResponse();
+
+        byte[] compressed = response.getContentAsByteArray();
+        byte[] json;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            json = gzip.readAllBytes();
+        }
+        assertEquals(CARDS, (int) JsonPath.read(new String(json), "$.length()"));
+        assertEquals(compressedBefore + 1, saved.count());
+        assertTrue(compressed.length < json.length / 3, "gzip should shrink repetitive JSON well");
+    }
+
+    @Test
+    void smallResponsesAndClientsWithoutGzipGetPlainBodies() throws Exception {
+        mockMvc.perform(authorized(get("/users/me")).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)));
+        mockMvc.perform(authorized(get(cardsPath)).header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)));
+        mockMvc.perform(authorized(get(cardsPath)))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(header().stringValues(HttpHeaders.VARY,
+                hasItems(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)));
+    }
+
+    private String create(MockHttpServletRequestBuilder request, String body) throws Exception {
+        String response = mockMvc.perform(authorized(request).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer).contentType(MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.taskmanagerapi.infra.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.boards.dto.CreateBoardDTO;
+import com.example.taskmanagerapi.modules.boards.dto.UpdateBoardDTO;
+import com.example.taskmanagerapi.modules.boards.services.BoardChangeLog;
+import com.example.taskmanagerapi.modules.boards.services.BoardService;
+import com.example.taskmanagerapi.modules.lists.dto.CreateListDTO;
+import com.example.taskmanagerapi.modules.lists.services.BoardListService;
+import com.example.taskmanagerapi.modules.workspaces.domain.Workspace;
+import com.example.taskmanagerapi.modules.workspaces.dto.CreateWorkspaceDTO;
+import com.example.taskmanagerapi.modules.workspaces.dto.WorkspaceResponseDTO;
+import com.example.taskmanagerapi.modules.workspaces.services.WorkspaceService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica; the
+ * replica is migrated here and receives rows the primary never sees, so each
+ * read shows which database served it
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+    "app.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+    "app.datasource.replica.sticky-window=1m"
+})
+class ReplicaRoutingTest {
+
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardListService listService;
+
+    @Autowired
+    private BoardChangeLog boardChangeLog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+    private User user;
+
+    @BeforeEach
+    void seed() {
+        Flyway.configure()
+            .dataSource(replicaDataSource)
+            .locations("classpath:db/migration", "classpath:db/vendor/h2")
+            .load()
+            .migrate();
+        replica = new JdbcTemplate(replicaDataSource);
+
+        String handle = "replica-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Replica");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("not-used");
+        user = userRepository.save(user);
+
+        // The replica's copy: same user, plus a workspace only the replica has
+        replica.update("INSERT INTO users (id, name, username, email, password, email_verified) VALUES (?, ?, ?, ?, ?, ?)",
+            user.getId(), user.getName(), user.getUsername(), user.getEmail(), user.getPassword(), false);
+        replica.update("INSERT INTO workspaces (id, name, owner_id, created_at) VALUES (?, ?, ?, ?)",
+            UUID.randomUUID().toString(), "On replica", user.getId(), new Timestamp(System.currentTimeMillis()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("DELETE FROM board_lists WHERE board_id IN (SELECT id FROM boards WHERE owner_id = ?)",
+            user.getId());
+        jdbcTemplate.update("DELETE FROM boards WHERE owner_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM workspaces WHERE owner_id = ?", user.getId());
+        userRepository.delete(user);
+        replica.update("DELETE FROM boards WHERE owner_id = ?", user.getId());
+        replica.update("DELETE FROM workspaces WHERE owner_id = ?", user.getId());
+        replica.update("DELETE FROM users WHERE id = ?", user.getId());
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromTheReplica() {
+        assertEquals(List.of("On replica"), names(workspaceService.getWorkspacesByUser(user)));
+    }
+
+    @Test
+    void readsFollowTheUsersOwnWriteToThePrimary() {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        workspaceService.createWorkspace(new CreateWorkspaceDTO("On primary"), user);
+
+        assertEquals(List.of("On primary"), names(workspaceService.getWorkspacesByUser(user)));
+
+        // Another caller (here: no user at all) is not sticky and still reads the replica
+        SecurityContextHolder.clearContext();
+        assertEquals(List.of("On replica"), names(workspaceService.getWorkspacesByUser(user)));
+    }
+
+    @Test
+    void replicaReadsAreNotCachedForThePrimary() {
+        Workspace workspace = workspaceOnBothSides();
+        entityManagerFactory.getCache().evictAll();
+
+        assertEquals("Stale", workspaceService.getWorkspaceById(workspace.getId()).orElseThrow().getName());
+
+        assertFalse(entityManagerFactory.getCache().contains(Workspace.class, workspace.getId()));
+    }
+
+    @Test
+    void updatesApplyToThePrimaryRowNotTheReplicaCopy() {
+        Workspace workspace = workspaceOnBothSides();
+        String boardId = boardOnBothSides(workspace).getId();
+        entityManagerFactory.getCache().evictAll();
+
+        Board stale = boardService.getBoardById(boardId).orElseThrow();
+        assertEquals("Stale", stale.getName());
+        boardService.updateBoard(stale, new UpdateBoardDTO(null, null, "Edited"));
+
+        assertEquals(List.of("Current", "Edited"), jdbcTemplate.queryForList(
+            "SELECT name, description FROM boards WHERE id = ?", boardId).stream()
+            .flatMap(row -> row.values().stream()).map(String::valueOf).toList());
+    }
+
+    @Test
+    void changeVersionsAreReadFromThePrimary() {
+        Workspace workspace = workspaceOnBothSides();
+        Board board = boardOnBothSides(workspace);
+        listService.createList(new CreateListDTO("To Do"), board);
+
+        assertEquals(1, boardChangeLog.getChanges(board, null).version());
+    }
+
+    /**
+     * Workspace created on the primary, with a replica copy still carrying an older name
+     */
+    private Workspace workspaceOnBothSides() {
+        String id = workspaceService.createWorkspace(new CreateWorkspaceDTO("Current"), user).id();
+        replica.update("INSERT INTO workspaces (id, name, owner_id, created_at) VALUES (?, ?, ?, ?)",
+            id, "Stale", user.getId(), new Timestamp(System.currentTimeMillis()));
+        return workspaceService.getWorkspaceById(id).orElseThrow();
+    }
+
+    /**
+     * Board created on the primary, with a replica copy carrying an older name and description
+     */
+    private Board boardOnBothSides(Workspace workspace) {
+        String id = boardService.createBoard(new CreateBoardDTO("Current", null, "Current"), user, workspace).id();
+        replica.update("INSERT INTO boards (id, name, type, description, owner_id, workspace_id, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)", id, "Stale", "BOARD", "Stale", user.getId(), workspace.getId(),
+            new Timestamp(System.currentTimeMillis()));
+        return boardService.getBoardById(id).orElseThrow();
+    }
+
+    private static List<String> names(List<WorkspaceResponseDTO> workspaces) {
+        return workspaces.stream().map(WorkspaceResponseDTO::name).toList();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.taskmanagerapi.infra.fields;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.boards.dto.BoardResponseDTO;
+import com.example.taskmanagerapi.modules.boards.repositories.BoardFieldRepository;
+import com.example.taskmanagerapi.modules.cards.dto.CardResponseDTO;
+import com.example.taskmanagerapi.modules.cards.repositories.CardFieldRepository;
+import com.example.taskmanagerapi.modules.lists.dto.ListResponseDTO;
+import com.example.taskmanagerapi.modules.lists.repositories.ListFieldRepository;
+import com.example.taskmanagerapi.modules.workspaces.dto.WorkspaceResponseDTO;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceFieldRepository;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FieldCatalogTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private String bearer;
+    private String boardId;
+    private String listId;
+    private String cardsPath;
+
+    @BeforeEach
+    void seed() throws Exception {
+        String handle = "fields-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Fields");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+        bearer = "Bearer " + tokenService.generateToken(user);
+
+        String workspaceId = create(post("/workspaces"), "{\"name\":\"Work\"}");
+        boardId = create(post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Sprint\"}");
+        listId = create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"To Do\"}");
+        cardsPath = "/boards/" + boardId + "/lists/" + listId + "/cards";
+        create(post(cardsPath), "{\"name\":\"First\",\"description\":\"Long text\"}");
+        create(post(cardsPath), "{\"name\":\"Second\"}");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workspaceRepository.deleteAll(workspaceRepository.findByOwnerOrderByCreatedAtDesc(user));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void catalogsCoverExactlyTheResponseFields() {
+        assertEquals(componentNames(CardResponseDTO.class), List.copyOf(CardFieldRepository.FIELDS.names()));
+        assertEquals(componentNames(ListResponseDTO.class), List.copyOf(ListFieldRepository.FIELDS.names()));
+        assertEquals(componentNames(BoardResponseDTO.class), List.copyOf(BoardFieldRepository.FIELDS.names()));
+        assertEquals(componentNames(WorkspaceResponseDTO.class),
+            List.copyOf(WorkspaceFieldRepository.FIELDS.names()));
+    }
+
+    @Test
+    void returnsOnlyTheRequestedFieldsWithFullResponseValues() throws Exception {
+        mockMvc.perform(authorized(get(cardsPath).param("fields", "position, name,id")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].length()").value(3))
+            .andExpect(jsonPath("$[0].name").value("First"))
+            .andExpect(jsonPath("$[0].position").value(0))
+            .andExpect(jsonPath("$[1].name").value("Second"));
+
+        mockMvc.perform(authorized(get("/boards/{boardId}/lists", boardId).param("fields", "name,boardId")))
+            .andExpect(jsonPath("$[0].boardId").value(boardId));
+        mockMvc.perform(authorized(get("/workspaces").param("fields", "boardCount")))
+            .andExpect(jsonPath("$[0].boardCount").value(1));
+    }
+
+    @Test
+    void parentsAreReadInChunksWithRowCaps() {
+        List<String> listIds = new ArrayList<>();
+        for (int i = 0; i < FieldCatalog.MAX_PARENTS_PER_QUERY * 2; i++) {
+            listIds.add("missing-" + i);
+        }
+        listIds.add(listId);
+        FieldCatalog.Selection names = CardFieldRepository.FIELDS.select("name");
+
+        Map<String, List<Map<String, Object>>> firstOnly =
+            names.queryByParents(jdbcTemplate, "c.list_id", listIds, "c.card_position", 1, 10);
+        assertEquals(List.of(Map.of("name", "First")), firstOnly.get(listId));
+        assertEquals(1, firstOnly.size());
+
+        assertThrows(RowLimitExceededException.class,
+            () -> names.queryByParents(jdbcTemplate, "c.list_id", listIds, "c.card_position", 10, 1));
+    }
+
+    @Test
+    void unknownFieldIsRejected() throws Exception {
+        mockMvc.perform(authorized(get(cardsPath).param("fields", "id,secret")))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("INVALID_FIELDS"));
+    }
+
+    private static List<String> componentNames(Class<?> record) {
+        return Arrays.stream(record.getRecordComponents()).map(RecordComponent::getName).toList();
+    }
+
+    private String create(MockHttpServletRequestBuilder request, String body) throws Exception {
+        String response = mockMvc.perform(authorized(request).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer).contentType(MediaType.APPLICATION_JSON);
+    }
+}
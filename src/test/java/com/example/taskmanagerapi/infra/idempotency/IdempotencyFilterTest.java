@@ -0,0 +1,295 @@
+package com.example.taskmanagerapi.infra.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fppt.jedismock.RedisServer;
+import com.jayway.jsonpath.JsonPath;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyFilterTest {
+
+    private static final RedisServer REDIS = startRedis();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private IdempotencyFilter idempotencyFilter;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private String bearer;
+    private String cardsPath;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", REDIS::getBindPort);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        REDIS.stop();
+    }
+
+    @BeforeEach
+    void seed() throws Exception {
+        String handle = "idem-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Idempotency");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+        bearer = "Bearer " + tokenService.generateToken(user);
+
+        String workspaceId = create(post("/workspaces"), "{\"name\":\"Work\"}", null);
+        String boardId = create(post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Sprint\"}", null);
+        String listId = create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"To Do\"}", null);
+        cardsPath = "/boards/" + boardId + "/lists/" + listId + "/cards";
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workspaceRepository.deleteAll(workspaceRepository.findByOwnerOrderByCreatedAtDesc(user));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void retryIsAnsweredWithTheFirstResponse() throws Exception {
+        String first = create(post(cardsPath), "{\"name\":\"Once\"}", "retry-1");
+
+        mockMvc.perform(authorized(post(cardsPath), "{\"name\":\"Once\"}", "retry-1"))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(IdempotencyFilter.IDEMPOTENT_REPLAYED, "true"))
+            .andExpect(jsonPath("$.id").value(first));
+        mockMvc.perform(get(cardsPath).header(HttpHeaders.AUTHORIZATION, bearer))
+            .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void keyReusedForADifferentRequestIsRejected() throws Exception {
+        create(post(cardsPath), "{\"name\":\"First\"}", "reused");
+
+        mockMvc.perform(authorized(post(cardsPath), "{\"name\":\"Second\"}", "reused"))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    void bodyOverTheLimitIsRejectedBeforeItIsBuffered() throws Exception {
+        String body = "{\"name\":\"" + "x".repeat(1024 * 1024) + "\"}";
+
+        mockMvc.perform(authorized(post(cardsPath), body, "too-large"))
+            .andExpect(status().isPayloadTooLarge())
+            .andExpect(jsonPath("$.code").value("REQUEST_BODY_TOO_LARGE"));
+        assertFalse(redisTemplate.hasKey(redisKey("too-large")));
+    }
+
+    @Test
+    void retryAskingForAnotherFormatIsADifferentRequest() throws Exception {
+        create(post(cardsPath), "{\"name\":\"Json\"}", "format");
+
+        mockMvc.perform(authorized(post(cardsPath), "{\"name\":\"Json\"}", "format").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    void concurrentDuplicatesAreCoalesced() throws Exception {
+        int duplicates = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(duplicates);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < duplicates; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    MockHttpServletResponse response = completed(
+                        mockMvc.perform(authorized(post(cardsPath), "{\"name\":\"Flaky network\"}", "burst")));
+                    assertEquals(201, response.getStatus());
+                    return JsonPath.read(response.getContentAsString(), "$.id");
+                }));
+            }
+            start.countDown();
+            Set<String> ids = new HashSet<>();
+            for (Future<String> future : futures) {
+                ids.add(future.get(30, TimeUnit.SECONDS));
+            }
+            assertEquals(1, ids.size());
+        } finally {
+            executor.shutdownNow();
+        }
+        mockMvc.perform(get(cardsPath).header(HttpHeaders.AUTHORIZATION, bearer))
+            .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void duplicateWaitsOffTheRequestThreadForTheStoredResponse() throws Exception {
+        String body = "{\"name\":\"Slow\"}";
+        String fingerprint = IdempotencyFilter.fingerprint(new MockHttpServletRequest("POST", cardsPath),
+            body.getBytes(StandardCharsets.UTF_8));
+        redisTemplate.opsForValue().set(redisKey("slow"),
+            objectMapper.writeValueAsString(IdempotencyRecord.pending(fingerprint, "first-request")));
+
+        ResultActions duplicate = mockMvc.perform(authorized(post(cardsPath), body, "slow"))
+            .andExpect(request().asyncStarted());
+
+        redisTemplate.opsForValue().set(redisKey("slow"), objectMapper.writeValueAsString(new IdempotencyRecord(
+            fingerprint, null, 201, MediaType.APPLICATION_JSON_VALUE, null, "{\"id\":\"stored\"}".getBytes())));
+        MockHttpServletResponse response = completed(duplicate);
+        assertEquals(201, response.getStatus());
+        assertEquals("true", response.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+        assertEquals("{\"id\":\"stored\"}", response.getContentAsString());
+    }
+
+    @Test
+    void releaseLeavesAClaimTakenOverByAnotherRequest() {
+        String expired = "{\"fingerprint\":\"f\",\"owner\":\"expired\"}";
+        String current = "{\"fingerprint\":\"f\",\"owner\":\"current\"}";
+        redisTemplate.opsForValue().set(redisKey("taken-over"), current);
+
+        idempotencyFilter.release(redisKey("taken-over"), expired);
+        assertEquals(current, redisTemplate.opsForValue().get(redisKey("taken-over")));
+
+        idempotencyFilter.release(redisKey("taken-over"), current);
+        assertFalse(redisTemplate.hasKey(redisKey("taken-over")));
+    }
+
+    @Test
+    void bufferedBodyCanBeReadWithAReadListener() throws IOException {
+        ServletInputStream input = new IdempotencyFilter.BufferedBodyRequest(new MockHttpServletRequest(),
+            "{\"name\":\"Async\"}".getBytes(StandardCharsets.UTF_8)).getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> calls = new ArrayList<>();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add("available");
+                byte[] buffer = new byte[4];
+                while (input.isReady() && !input.isFinished()) {
+                    read.write(buffer, 0, input.read(buffer));
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+
+        assertEquals(List.of("available", "done"), calls);
+        assertEquals("{\"name\":\"Async\"}", read.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Response of a request, once a duplicate that went async has been answered
+     */
+    private static MockHttpServletResponse completed(ResultActions actions) throws InterruptedException {
+        MvcResult result = actions.andReturn();
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (result.getRequest().isAsyncStarted() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return result.getResponse();
+    }
+
+    private String redisKey(String idempotencyKey) {
+        return "idempotency:" + user.getId() + ":" + idempotencyKey;
+    }
+
+    private String create(MockHttpServletRequestBuilder request, String body, String idempotencyKey)
+            throws Exception {
+        String response = mockMvc.perform(authorized(request, body, idempotencyKey))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request, String body,
+            String idempotencyKey) {
+        request.header(HttpHeaders.AUTHORIZATION, bearer)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body);
+        return idempotencyKey != null ? request.header(IdempotencyFilter.IDEMPOTENCY_KEY, idempotencyKey) : request;
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            return RedisServer.newRedisServer().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start in-process Redis", e);
+        }
+    }
+}
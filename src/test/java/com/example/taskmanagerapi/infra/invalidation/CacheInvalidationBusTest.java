@@ -0,0 +1,166 @@
+package com.example.taskmanagerapi.infra.invalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.github.fppt.jedismock.RedisServer;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+    "app.cache.invalidation.enabled=true",
+    // Flushed by hand so each test sees exactly what it published
+    "app.cache.invalidation.coalesce-window=3600000"
+})
+class CacheInvalidationBusTest {
+
+    private static final RedisServer REDIS = startRedis();
+    private static final String OTHER_NODE = "other-node";
+
+    @Autowired
+    private CacheInvalidationBus bus;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Cache cache;
+    private User user;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", REDIS::getBindPort);
+    }
+
+    @BeforeEach
+    void createUser() throws InterruptedException {
+        cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+        String handle = "inval-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Invalidation");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("not-used");
+        user = userRepository.save(user);
+        // Subscription happens asynchronously after startup
+        awaitTrue(() -> bus.lastSeenId() != null);
+        bus.flush();
+    }
+
+    @AfterEach
+    void deleteUser() {
+        userRepository.delete(user);
+    }
+
+    @Test
+    void remoteInvalidationEvictsTheCachedEntity() throws InterruptedException {
+        userRepository.findById(user.getId());
+        assertTrue(cache.containsEntity(User.class, user.getId()));
+
+        RecordId id = appendRemote("u:" + user.getId());
+        redisTemplate.convertAndSend(CacheInvalidationBus.CHANNEL,
+            id.getValue() + " " + OTHER_NODE + " u:" + user.getId());
+
+        awaitTrue(() -> !cache.containsEntity(User.class, user.getId()));
+    }
+
+    @Test
+    void announcementsArrivingOutOfStreamOrderAreStillApplied() throws InterruptedException {
+        userRepository.findById(user.getId());
+        RecordId earlier = appendRemote("u:" + user.getId());
+        RecordId later = appendRemote("u:" + UUID.randomUUID());
+
+        // The later entry's announcement wins the race to the channel
+        redisTemplate.convertAndSend(CacheInvalidationBus.CHANNEL, later.getValue() + " " + OTHER_NODE + " u:other");
+        awaitTrue(() -> later.getValue().equals(bus.lastSeenId()));
+        assertTrue(cache.containsEntity(User.class, user.getId()));
+
+        redisTemplate.convertAndSend(CacheInvalidationBus.CHANNEL,
+            earlier.getValue() + " " + OTHER_NODE + " u:" + user.getId());
+
+        awaitTrue(() -> !cache.containsEntity(User.class, user.getId()));
+        assertEquals(later.getValue(), bus.lastSeenId());
+    }
+
+    @Test
+    void localChangesArePublishedOnceCoalesced() {
+        RecordId before = appendRemote("");
+        user.setName("Renamed");
+        user = userRepository.save(user);
+        user.setName("Renamed again");
+        user = userRepository.save(user);
+        bus.flush();
+
+        List<MapRecord<String, Object, Object>> own = redisTemplate.opsForStream()
+            .range(CacheInvalidationBus.STREAM, Range.rightUnbounded(Range.Bound.exclusive(before.getValue())));
+        assertEquals(1, own.size());
+        assertEquals(bus.nodeId(), own.get(0).getValue().get("origin"));
+        assertEquals("u:" + user.getId(), own.get(0).getValue().get("keys"));
+    }
+
+    @Test
+    void replayAppliesMessagesMissedWhileDisconnected() {
+        bus.replay();
+        userRepository.findById(user.getId());
+        assertTrue(cache.containsEntity(User.class, user.getId()));
+
+        // Appended to the log but never announced, as if pub/sub had dropped it
+        appendRemote("u:" + user.getId());
+        assertTrue(cache.containsEntity(User.class, user.getId()));
+
+        bus.replay();
+        assertFalse(cache.containsEntity(User.class, user.getId()));
+    }
+
+    private RecordId appendRemote(String keys) {
+        return redisTemplate.opsForStream().add(StreamRecords.string(Map.of("origin", OTHER_NODE, "keys", keys))
+            .withStreamKey(CacheInvalidationBus.STREAM));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            return RedisServer.newRedisServer().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start in-process Redis", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.taskmanagerapi.infra.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Migrations must produce a schema that matches the entities (ddl-auto=validate)
+ * and carries every expected index
+ */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+class IndexVerifierTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private IndexVerifier indexVerifier;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsApplyAndCreateTheExpectedIndexes() {
+        assertEquals("6", flyway.info().current().getVersion().getVersion());
+        indexVerifier.verify();
+    }
+
+    @Test
+    void databaseBaselinedAtTheOriginalSchemaMigratesToTheLatestVersion() {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+            "jdbc:h2:mem:baselined-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        // What ddl-auto=update left behind before migrations existed
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql"))
+            .execute(dataSource);
+
+        Flyway baselined = Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration", "classpath:db/vendor/h2")
+            .baselineOnMigrate(true)
+            .baselineVersion("1")
+            .load();
+        baselined.migrate();
+
+        assertEquals("6", baselined.info().current().getVersion().getVersion());
+        assertEquals(0, new JdbcTemplate(dataSource)
+            .queryForObject("SELECT COUNT(*) FROM email_outbox", Integer.class));
+    }
+
+    @Test
+    @DirtiesContext
+    void failsWhenAnIndexIsMissing() {
+        jdbcTemplate.execute("DROP INDEX idx_cards_list_position");
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, indexVerifier::verify);
+        assertTrue(error.getMessage().contains("cards (list_id, card_position)"), error.getMessage());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.taskmanagerapi.infra.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+
+/**
+ * The scrape endpoint is open on management.server.port and nowhere else
+ * Runs real listeners: with a separate port, actuator lives in a child context MockMvc cannot reach
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "management.endpoints.web.exposure.include=health,metrics,prometheus",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+    }
+)
+@AutoConfigureObservability(tracing = false)
+class PrometheusEndpointSecurityTest {
+
+    private static final int MANAGEMENT_PORT = freePort();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int apiPort;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void managementPort(DynamicPropertyRegistry registry) {
+        registry.add("management.server.port", () -> MANAGEMENT_PORT);
+    }
+
+    @Test
+    void scrapeOnTheManagementPortNeedsNoToken() throws Exception {
+        HttpResponse<String> scrape = get(MANAGEMENT_PORT, "/actuator/prometheus", null);
+
+        assertEquals(200, scrape.statusCode());
+        // hibernate-micrometer's binder plus the region meters MetricsConfig adds
+        assertTrue(scrape.body().contains("hibernate_sessions_open"));
+        assertTrue(scrape.body().contains("hibernate_cache_region_size{"));
+    }
+
+    @Test
+    void otherActuatorEndpointsStillNeedAToken() throws Exception {
+        assertEquals(403, get(MANAGEMENT_PORT, "/actuator/metrics", null).statusCode());
+    }
+
+    @Test
+    void scrapeIsNotServedOnTheApiPort() throws Exception {
+        assertEquals(403, get(apiPort, "/actuator/prometheus", null).statusCode());
+
+        String handle = "metrics-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setName("Metrics");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user = userRepository.save(user);
+        try {
+            assertEquals(404, get(apiPort, "/actuator/prometheus", tokenService.generateToken(user)).statusCode());
+        } finally {
+            userRepository.delete(user);
+        }
+    }
+
+    private HttpResponse<String> get(int port, String path, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.taskmanagerapi.infra.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = {
+    "app.timing.header-enabled=true",
+    "app.timing.header-internal-networks=10.0.0.0/8"
+})
+@AutoConfigureMockMvc
+class ServerTimingFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        String handle = "timing-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Timing");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword(passwordEncoder.encode("correct-password"));
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void deleteUser() {
+        userRepository.delete(user);
+    }
+
+    @Test
+    void anonymousCallersGetNoHeader() throws Exception {
+        mockMvc.perform(post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"emailOrUsername\":\"" + user.getEmail() + "\",\"password\":\"wrong-password\"}"))
+            .andExpect(status().isUnauthorized())
+            .andExpect(header().doesNotExist(ServerTimingFilter.SERVER_TIMING));
+    }
+
+    @Test
+    void internalCallersSeeLoginLayersExceptHashing() throws Exception {
+        mockMvc.perform(post("/auth/login")
+                .with(request -> {
+                    request.setRemoteAddr("10.1.2.3");
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"emailOrUsername\":\"" + user.getEmail() + "\",\"password\":\"wrong-password\"}"))
+            .andExpect(status().isUnauthorized())
+            .andExpect(header().string(ServerTimingFilter.SERVER_TIMING, allOf(
+                containsString("db;dur="),
+                not(containsString("bcrypt")),
+                containsString("ser;dur="),
+                containsString("app;dur="),
+                containsString("total;dur="))));
+    }
+
+    @Test
+    void reportsOnlyTheLayersARequestTouched() throws Exception {
+        mockMvc.perform(get("/users/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.generateToken(user)))
+            .andExpect(status().isOk())
+            .andExpect(header().string(ServerTimingFilter.SERVER_TIMING, allOf(
+                containsString("db;dur="),
+                containsString("desc=\"Database (1)\""),
+                not(containsString("bcrypt")),
+                containsString("total;dur="))));
+    }
+
+    @Test
+    void largeBodiesAreStreamedAfterTheHeaderIsWritten() throws Exception {
+        TimedJackson2HttpMessageConverter converter = new TimedJackson2HttpMessageConverter(new ObjectMapper());
+        List<String> small = List.of("a", "b");
+        List<String> large = Collections.nCopies(TimedJackson2HttpMessageConverter.BUFFER_LIMIT, "card");
+        try {
+            RequestTimings.start().setUserId(user.getId());
+            MockHttpOutputMessage smallMessage = new MockHttpOutputMessage();
+            converter.write(small, MediaType.APPLICATION_JSON, smallMessage);
+            assertThat(smallMessage.getHeaders().getFirst(ServerTimingFilter.SERVER_TIMING)).contains("ser;dur=");
+            assertThat(smallMessage.getBodyAsString()).isEqualTo("[\"a\",\"b\"]");
+
+            RequestTimings.start().setUserId(user.getId());
+            MockHttpOutputMessage largeMessage = new MockHttpOutputMessage();
+            converter.write(large, MediaType.APPLICATION_JSON, largeMessage);
+            assertThat(largeMessage.getHeaders().getFirst(ServerTimingFilter.SERVER_TIMING)).contains("total;dur=");
+            assertThat(new ObjectMapper().readValue(largeMessage.getBodyAsBytes(), List.class)).isEqualTo(large);
+        } finally {
+            RequestTimings.clear();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.taskmanagerapi.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.boards.domain.BoardType;
+import com.example.taskmanagerapi.modules.boards.repositories.BoardRepository;
+import com.example.taskmanagerapi.modules.cards.domain.Card;
+import com.example.taskmanagerapi.modules.cards.dto.CreateCardDTO;
+import com.example.taskmanagerapi.modules.cards.dto.UpdateCardDTO;
+import com.example.taskmanagerapi.modules.cards.repositories.CardRepository;
+import com.example.taskmanagerapi.modules.cards.services.CardService;
+import com.example.taskmanagerapi.modules.lists.domain.BoardList;
+import com.example.taskmanagerapi.modules.lists.repositories.BoardListRepository;
+import com.example.taskmanagerapi.modules.workspaces.domain.Workspace;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Contention benchmark: every thread drags random cards of one shared list to random
+ * positions, the worst case for optimistic placement. Calls CardService directly so the
+ * numbers isolate the retry loop from HTTP and security.
+ *
+ * Excluded from the normal build; run with
+ *   mvn -Ploadtest test -Dtest=DragContentionLoadTest -Dloadtest.users=32 -Dloadtest.cards=50
+ *
+ * Reports latency per drag plus how many attempts were retried or gave up (409), and
+ * checks that the list still has one card per position afterwards.
+ */
+@Tag("loadtest")
+@SpringBootTest(properties = {
+    "logging.level.com.example.taskmanagerapi=ERROR",
+    "app.mail.outbox.poll-interval=3600000"
+})
+class DragContentionLoadTest {
+
+    private static final String OPERATION = "card.update";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardListRepository listRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void dragsWithinOneList() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LatencyRecorder recorder = new LatencyRecorder();
+        BoardList list = seedList(settings.cardsPerList());
+        List<String> cardIds = cardRepository.findByListOrderByPositionAsc(list).stream()
+            .map(Card::getId)
+            .toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.users());
+        try {
+            runFor(executor, settings.users(), settings.warmup(), list, cardIds, recorder);
+            recorder.reset();
+            double retriesBefore = count("optimistic.retries");
+            double exhaustedBefore = count("optimistic.exhausted");
+
+            long start = System.nanoTime();
+            runFor(executor, settings.users(), settings.duration(), list, cardIds, recorder);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            System.out.printf("%nDrag contention: %d threads on one list of %d cards, %ds measured%n",
+                settings.users(), cardIds.size(), elapsed.toSeconds());
+            long conflicts = recorder.report(elapsed, settings.reportDir().resolve("contention"), System.out);
+            System.out.printf("Retried attempts: %.0f, exhausted (409): %d%n",
+                count("optimistic.retries") - retriesBefore, conflicts);
+            assertEquals(conflicts, (long) (count("optimistic.exhausted") - exhaustedBefore));
+
+            List<Integer> positions = cardRepository.findByListOrderByPositionAsc(list).stream()
+                .map(Card::getPosition)
+                .toList();
+            assertEquals(cardIds.size(), positions.stream().distinct().count(), "positions collided: " + positions);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runFor(ExecutorService executor, int threads, Duration duration, BoardList list,
+            List<String> cardIds, LatencyRecorder recorder) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    Card card = new Card();
+                    card.setId(cardIds.get(random.nextInt(cardIds.size())));
+                    card.setList(list);
+                    long begin = System.nanoTime();
+                    boolean success = true;
+                    try {
+                        cardService.updateCard(card, new UpdateCardDTO(null, null, null,
+                            random.nextInt(cardIds.size())));
+                    } catch (ConcurrencyFailureException e) {
+                        success = false;
+                    }
+                    recorder.record("drag", System.nanoTime() - begin, success);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.MINUTES);
+        }
+    }
+
+    private BoardList seedList(int cards) {
+        User owner = new User();
+        owner.setName("Contention");
+        owner.setUsername("contention");
+        owner.setEmail("contention@example.com");
+        owner.setPassword("unused");
+        owner.setEmailVerified(true);
+        owner = userRepository.save(owner);
+
+        Workspace workspace = new Workspace();
+        workspace.setName("Contention");
+        workspace.setOwner(owner);
+        workspace.setCreatedAt(LocalDateTime.now());
+        workspace = workspaceRepository.save(workspace);
+
+        Board board = new Board();
+        board.setName("Contention");
+        board.setType(BoardType.BOARD);
+        board.setWorkspace(workspace);
+        board.setOwner(owner);
+        board.setCreatedAt(LocalDateTime.now());
+        board = boardRepository.save(board);
+
+        BoardList list = new BoardList();
+        list.setName("Hot list");
+        list.setBoard(board);
+        list.setPosition(0);
+        list.setCreatedAt(LocalDateTime.now());
+        list = listRepository.save(list);
+
+        for (int i = 0; i < Math.max(2, cards); i++) {
+            cardService.createCard(new CreateCardDTO("Card " + i, null, null, null), list);
+        }
+        return list;
+    }
+
+    private double count(String name) {
+        Counter counter = meterRegistry.find(name).tag("operation", OPERATION).counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
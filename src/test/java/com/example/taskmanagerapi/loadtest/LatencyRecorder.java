@@ -0,0 +1,90 @@
+package com.example.taskmanagerapi.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Per-endpoint latency histograms (microseconds) and error counts
+ * Recorders are safe for concurrent writers; reset() discards warmup samples
+ */
+class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        recorders.computeIfAbsent(endpoint, name -> new Recorder(HIGHEST_TRACKABLE_MICROS, 3))
+            .recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.computeIfAbsent(endpoint, name -> new LongAdder()).increment();
+        }
+    }
+
+    void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.clear();
+    }
+
+    /**
+     * Print a summary table and write one .hgrm percentile file per endpoint,
+     * which HdrHistogram's plotter can overlay to compare releases
+     * Returns the total number of failed requests
+     */
+    long report(Duration elapsed, Path reportDir, PrintStream out) throws IOException {
+        Files.createDirectories(reportDir);
+        double seconds = elapsed.toMillis() / 1000.0;
+        long totalErrors = 0;
+
+        out.printf("%n%-16s %9s %9s %7s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Map<String, Histogram> histograms = new TreeMap<>();
+        recorders.forEach((endpoint, recorder) -> {
+            Histogram histogram = recorder.getIntervalHistogram();
+            // Setup-only endpoints have no samples after the warmup reset
+            if (histogram.getTotalCount() > 0) {
+                histograms.put(endpoint, histogram);
+            }
+        });
+
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            String endpoint = entry.getKey();
+            Histogram histogram = entry.getValue();
+            long failed = errors.containsKey(endpoint) ? errors.get(endpoint).sum() : 0;
+            totalErrors += failed;
+
+            out.printf("%-16s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                failed,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+
+            try (PrintStream file = new PrintStream(Files.newOutputStream(reportDir.resolve(endpoint + ".hgrm")))) {
+                histogram.outputPercentileDistribution(file, 1000.0);
+            }
+        }
+        out.printf("%nReports written to %s%n", reportDir.toAbsolutePath());
+        return totalErrors;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.taskmanagerapi.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fppt.jedismock.RedisServer;
+
+/**
+ * End-to-end load test: the full application on a random port, backed by in-memory H2
+ * (or any spring.datasource.url passed with -D) and jedis-mock as an in-process Redis.
+ *
+ * Excluded from the normal build; run with
+ *   mvn -Ploadtest test -Dloadtest.users=32 -Dloadtest.duration=60s
+ *
+ * jedis-mock has no GETEX, so refresh-token validation takes its database fallback path;
+ * pass -Dloadtest.redis-port=6379 to run against a real local Redis instead.
+ *
+ * To compare request threading models, run it twice on a Java 21+ JDK, the second time with
+ * -Dspring.threads.virtual.enabled=true, and diff the two .hgrm report directories.
+ *
+ * Each virtual user runs a closed loop (next request after the previous response), so
+ * percentiles describe service time at that concurrency rather than an open arrival rate.
+ */
+@Tag("loadtest")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "logging.level.com.example.taskmanagerapi=WARN",
+        "app.mail.outbox.poll-interval=3600000"
+    }
+)
+class LoadTest {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final Integer EXTERNAL_REDIS_PORT = Integer.getInteger("loadtest.redis-port");
+    private static final RedisServer REDIS = EXTERNAL_REDIS_PORT == null ? startRedis() : null;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        if (REDIS != null) {
+            registry.add("spring.data.redis.host", REDIS::getHost);
+            registry.add("spring.data.redis.port", REDIS::getBindPort);
+        } else {
+            registry.add("spring.data.redis.host", () -> "localhost");
+            registry.add("spring.data.redis.port", () -> EXTERNAL_REDIS_PORT);
+        }
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (REDIS != null) {
+            REDIS.stop();
+        }
+    }
+
+    @Test
+    void dragAndDropWorkload() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LatencyRecorder recorder = new LatencyRecorder();
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        String baseUrl = "http://localhost:" + port;
+
+        List<VirtualUser> users = new ArrayList<>();
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        for (int i = 0; i < settings.users(); i++) {
+            User user = new User();
+            user.setName("Load User " + i);
+            user.setUsername("load-user-" + i);
+            user.setEmail("load-user-" + i + "@example.com");
+            user.setPassword(encodedPassword);
+            user.setEmailVerified(true);
+            userRepository.save(user);
+            users.add(new VirtualUser(client, baseUrl, objectMapper, recorder, user.getEmail(), PASSWORD));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.users());
+        try {
+            runAll(executor, users, user -> user.setUp(settings.listsPerBoard(), settings.cardsPerList()));
+
+            runFor(executor, users, settings.warmup());
+            recorder.reset();
+
+            long start = System.nanoTime();
+            runFor(executor, users, settings.duration());
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            System.out.printf("%nLoad test: %d users, %ds measured after %ds warmup, %s request threads%n",
+                settings.users(), elapsed.toSeconds(), settings.warmup().toSeconds(),
+                Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform");
+            long errors = recorder.report(elapsed, settings.reportDir(), System.out);
+            assertEquals(0, errors, "requests failed during the measured run");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void runFor(ExecutorService executor, List<VirtualUser> users, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        runAll(executor, users, user -> {
+            while (System.nanoTime() < deadline) {
+                user.step();
+            }
+        });
+    }
+
+    private static void runAll(ExecutorService executor, List<VirtualUser> users,
+            Consumer<VirtualUser> work) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (VirtualUser user : users) {
+            futures.add(executor.submit(() -> work.accept(user)));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.MINUTES);
+        }
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            return RedisServer.newRedisServer().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start in-process Redis", e);
+        }
+    }
+}
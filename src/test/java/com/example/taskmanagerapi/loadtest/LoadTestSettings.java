@@ -0,0 +1,27 @@
+package com.example.taskmanagerapi.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load test knobs, read from -Dloadtest.* system properties
+ */
+record LoadTestSettings(
+    int users,
+    Duration warmup,
+    Duration duration,
+    int listsPerBoard,
+    int cardsPerList,
+    Path reportDir
+) {
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            Integer.getInteger("loadtest.users", 16),
+            Duration.parse("PT" + System.getProperty("loadtest.warmup", "10s")),
+            Duration.parse("PT" + System.getProperty("loadtest.duration", "30s")),
+            Integer.getInteger("loadtest.lists", 4),
+            Integer.getInteger("loadtest.cards", 15),
+            Path.of(System.getProperty("loadtest.report-dir", "target/loadtest"))
+        );
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.taskmanagerapi.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * One simulated client: logs in, builds its own workspace/board, then loops over a
+ * drag-and-drop-heavy mix of requests. Each request is timed under an endpoint name.
+ *
+ * Mix per step: move card 30%, open board 25%, reorder card 20%, create card 10%,
+ * open workspace 10%, refresh token 4%, login 1%.
+ */
+class VirtualUser {
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final String email;
+    private final String password;
+
+    private String accessToken;
+    private String refreshToken;
+    private String workspaceId;
+    private String boardId;
+    private final List<String> listIds = new ArrayList<>();
+    // Card id -> id of the list currently holding it
+    private final Map<String, String> cardLists = new LinkedHashMap<>();
+    private final List<String> cardIds = new ArrayList<>();
+    private int createdCards;
+
+    VirtualUser(HttpClient client, String baseUrl, ObjectMapper objectMapper, LatencyRecorder recorder,
+            String email, String password) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+        this.email = email;
+        this.password = password;
+    }
+
+    void setUp(int lists, int cardsPerList) {
+        login();
+        workspaceId = send("workspace.create", "POST", "/workspaces", Map.of("name", "Load " + email)).get("id").asText();
+        boardId = send("board.create", "POST", "/boards?workspaceId=" + workspaceId,
+            Map.of("name", "Sprint board", "type", "BOARD")).get("id").asText();
+        for (int i = 0; i < lists; i++) {
+            String listId = send("list.create", "POST", "/boards/" + boardId + "/lists", Map.of("name", "List " + i))
+                .get("id").asText();
+            listIds.add(listId);
+            for (int j = 0; j < cardsPerList; j++) {
+                createCard(listId);
+            }
+        }
+    }
+
+    void step() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+        if (roll < 30) {
+            moveCard(random);
+        } else if (roll < 55) {
+            send("board.open", "GET", "/boards/" + boardId, null);
+        } else if (roll < 75) {
+            reorderCard(random);
+        } else if (roll < 85) {
+            createCard(listIds.get(random.nextInt(listIds.size())));
+        } else if (roll < 95) {
+            send("workspace.open", "GET", "/workspaces/" + workspaceId, null);
+        } else if (roll < 99) {
+            refresh();
+        } else {
+            login();
+        }
+    }
+
+    private void login() {
+        JsonNode body = send("auth.login", "POST", "/auth/login", Map.of("emailOrUsername", email, "password", password));
+        if (body != null) {
+            accessToken = body.get("accessToken").asText();
+            refreshToken = body.get("refreshToken").asText();
+        }
+    }
+
+    private void refresh() {
+        JsonNode body = send("auth.refresh", "POST", "/auth/refresh", Map.of("refreshToken", refreshToken));
+        if (body != null) {
+            accessToken = body.get("accessToken").asText();
+            refreshToken = body.get("refreshToken").asText();
+        }
+    }
+
+    private void createCard(String listId) {
+        JsonNode card = send("card.create", "POST", "/boards/" + boardId + "/lists/" + listId + "/cards",
+            Map.of("name", "Card " + createdCards++, "description", "Generated by the load test"));
+        if (card != null) {
+            String cardId = card.get("id").asText();
+            cardLists.put(cardId, listId);
+            cardIds.add(cardId);
+        }
+    }
+
+    private void moveCard(ThreadLocalRandom random) {
+        String cardId = cardIds.get(random.nextInt(cardIds.size()));
+        String from = cardLists.get(cardId);
+        String to = listIds.get(random.nextInt(listIds.size()));
+        JsonNode moved = send("card.move", "PATCH", cardPath(from, cardId) + "/move",
+            Map.of("targetListId", to, "position", random.nextInt(10)));
+        if (moved != null) {
+            cardLists.put(cardId, to);
+        }
+    }
+
+    private void reorderCard(ThreadLocalRandom random) {
+        String cardId = cardIds.get(random.nextInt(cardIds.size()));
+        send("card.reorder", "PUT", cardPath(cardLists.get(cardId), cardId), Map.of("position", random.nextInt(10)));
+    }
+
+    private String cardPath(String listId, String cardId) {
+        return "/boards/" + boardId + "/lists/" + listId + "/cards/" + cardId;
+    }
+
+    /**
+     * Send one request and record its latency; returns the JSON body, or null on a non-2xx status
+     */
+    private JsonNode send(String endpoint, String method, String path, Object body) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            if (accessToken != null) {
+                request.header("Authorization", "Bearer " + accessToken);
+            }
+            HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            success = response.statusCode() / 100 == 2;
+            return success ? objectMapper.readTree(response.body()) : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            return null;
+        } finally {
+            recorder.record(endpoint, System.nanoTime() - start, success);
+        }
+    }
+}
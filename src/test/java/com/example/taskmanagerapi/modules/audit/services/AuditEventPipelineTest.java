@@ -0,0 +1,91 @@
+package com.example.taskmanagerapi.modules.audit.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.taskmanagerapi.modules.audit.domain.AuditEvent;
+import com.example.taskmanagerapi.modules.audit.domain.AuditEventType;
+import com.example.taskmanagerapi.modules.audit.dto.AuditEventDTO;
+import com.example.taskmanagerapi.modules.audit.repositories.AuditEventRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs the pipeline with a tiny ring buffer and the scheduled flush pushed out,
+ * so each test decides when the writer drains
+ */
+@SpringBootTest(properties = {
+    "app.audit.queue-capacity=4",
+    "app.audit.batch-size=3",
+    "app.audit.flush-interval=3600000"
+})
+class AuditEventPipelineTest {
+
+    @Autowired
+    private AuditEventPublisher publisher;
+
+    @Autowired
+    private AuditEventWriter writer;
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void batchesQueuedEventsAndServesThemNewestFirst() {
+        String userId = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        publisher.publish(new AuditEvent(userId, AuditEventType.LOGIN, "10.0.0.1", "Firefox", now - 2000));
+        publisher.publish(new AuditEvent(userId, AuditEventType.TOKEN_REFRESH, "10.0.0.1", null, now - 1000));
+        publisher.publish(new AuditEvent(userId, AuditEventType.TOKEN_REFRESH, "10.0.0.1", null, now));
+        publisher.publish(new AuditEvent(userId, AuditEventType.LOGOUT, "10.0.0.2", null, now + 1000));
+
+        writer.flush();
+
+        List<AuditEventDTO> firstPage = auditEventRepository.findByUser(userId, 3, 0);
+        assertEquals(List.of(AuditEventType.LOGOUT, AuditEventType.TOKEN_REFRESH, AuditEventType.TOKEN_REFRESH),
+            firstPage.stream().map(AuditEventDTO::type).toList());
+        List<AuditEventDTO> secondPage = auditEventRepository.findByUser(userId, 3, 3);
+        assertEquals(1, secondPage.size());
+        assertEquals("Firefox", secondPage.get(0).userAgent());
+    }
+
+    @Test
+    void cutsOversizedClientValuesToTheirColumnWidths() {
+        String userId = UUID.randomUUID().toString();
+        String forwardedFor = String.join(", ", Collections.nCopies(20, "203.0.113.250"));
+        publisher.publish(new AuditEvent(userId, AuditEventType.LOGIN, forwardedFor, "x".repeat(400),
+            System.currentTimeMillis()));
+
+        writer.flush();
+
+        List<AuditEventDTO> events = auditEventRepository.findByUser(userId, 10, 0);
+        assertEquals(1, events.size());
+        assertEquals(forwardedFor.substring(0, 64), events.get(0).ipAddress());
+        assertEquals(255, events.get(0).userAgent().length());
+    }
+
+    @Test
+    void dropsEventsWhenTheBufferIsFull() {
+        String userId = UUID.randomUUID().toString();
+        double droppedBefore = meterRegistry.counter("audit.events.dropped").count();
+
+        for (int i = 0; i < 6; i++) {
+            publisher.publish(new AuditEvent(userId, AuditEventType.TOKEN_REFRESH, null, null, System.currentTimeMillis()));
+        }
+
+        assertEquals(2, meterRegistry.counter("audit.events.dropped").count() - droppedBefore);
+        writer.flush();
+        assertEquals(4, auditEventRepository.findByUser(userId, 10, 0).size());
+        assertEquals(0, meterRegistry.get("audit.queue.size").gauge().value());
+    }
+}
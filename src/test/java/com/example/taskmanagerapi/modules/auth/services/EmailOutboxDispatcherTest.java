@@ -0,0 +1,102 @@
+package com.example.taskmanagerapi.modules.auth.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.taskmanagerapi.modules.auth.domain.OutboxEmail;
+import com.example.taskmanagerapi.modules.auth.domain.OutboxEmailStatus;
+import com.example.taskmanagerapi.modules.auth.repositories.OutboxEmailRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Delivers the outbox against GreenMail, an in-process SMTP server on port 3025
+ * The scheduled poll is pushed out so each test drives dispatch() itself
+ */
+@SpringBootTest(properties = {
+    "spring.mail.port=3025",
+    "app.mail.outbox.poll-interval=3600000"
+})
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void clearOutbox() {
+        outboxEmailRepository.deleteAll();
+    }
+
+    @Test
+    void deliversQueuedEmailsAndClearsOutbox() {
+        transactionTemplate.executeWithoutResult(status -> {
+            emailService.sendEmail("ana@example.com", "Verify", "link-1");
+            emailService.sendEmail("bruno@example.com", "Verify", "link-2");
+            emailService.sendEmail("carla@example.org", "Reset", "link-3");
+        });
+
+        dispatcher.dispatch().join();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(3, received.length);
+        List<String> bodies = Arrays.stream(received).map(GreenMailUtil::getBody).map(String::trim).sorted().toList();
+        assertEquals(List.of("link-1", "link-2", "link-3"), bodies);
+        assertEquals(0, outboxEmailRepository.count());
+    }
+
+    @Test
+    void rollbackDiscardsQueuedEmail() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                emailService.sendEmail("ana@example.com", "Verify", "link-1");
+                status.setRollbackOnly();
+            });
+        } finally {
+            dispatcher.dispatch().join();
+        }
+
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        assertEquals(0, outboxEmailRepository.count());
+    }
+
+    @Test
+    void failedDeliveryIsRetriedWithBackoff() {
+        greenMail.stop();
+        emailService.sendEmail("ana@example.com", "Verify", "link-1");
+
+        dispatcher.dispatch().join();
+
+        OutboxEmail email = outboxEmailRepository.findAll().get(0);
+        assertEquals(OutboxEmailStatus.PENDING, email.getStatus());
+        assertEquals(1, email.getAttempts());
+        assertTrue(email.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertNotNull(email.getLastError());
+    }
+}
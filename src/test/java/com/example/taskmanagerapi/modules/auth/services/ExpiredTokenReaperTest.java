@@ -0,0 +1,124 @@
+package com.example.taskmanagerapi.modules.auth.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.taskmanagerapi.modules.auth.domain.PasswordResetToken;
+import com.example.taskmanagerapi.modules.auth.domain.RefreshToken;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.PasswordResetRepository;
+import com.example.taskmanagerapi.modules.auth.repositories.RefreshTokenRepository;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded purge: at most batch-size x max-batches rows per run, unexpired rows untouched
+ * The cron trigger is disabled; tests call purgeExpiredTokens() directly
+ */
+@SpringBootTest(properties = {
+    "app.auth.token-reaper.cron=-",
+    "app.auth.token-reaper.batch-size=2",
+    "app.auth.token-reaper.max-batches=2"
+})
+class ExpiredTokenReaperTest {
+
+    @Autowired
+    private ExpiredTokenReaper reaper;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PasswordResetRepository passwordResetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        refreshTokenRepository.deleteAllInBatch();
+        passwordResetRepository.deleteAllInBatch();
+        String handle = "reaper-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Reaper");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        refreshTokenRepository.deleteAllInBatch();
+        passwordResetRepository.deleteAllInBatch();
+        userRepository.delete(user);
+    }
+
+    @Test
+    void eachRunDeletesAtMostMaxBatchesOfBatchSize() {
+        for (int i = 0; i < 5; i++) {
+            refreshToken(LocalDateTime.now().minusHours(1));
+        }
+        RefreshToken active = refreshToken(LocalDateTime.now().plusDays(7));
+        double purgedBefore = purgedCount("refresh");
+
+        reaper.purgeExpiredTokens();
+
+        assertEquals(2, refreshTokenRepository.count());
+        assertEquals(4, purgedCount("refresh") - purgedBefore);
+
+        reaper.purgeExpiredTokens();
+
+        assertEquals(1, refreshTokenRepository.count());
+        assertEquals(active.getToken(), refreshTokenRepository.findAll().get(0).getToken());
+        assertEquals(5, purgedCount("refresh") - purgedBefore);
+    }
+
+    @Test
+    void unexpiredTokensOfEveryTypeSurvive() {
+        passwordReset(LocalDateTime.now().minusMinutes(1));
+        PasswordResetToken pending = passwordReset(LocalDateTime.now().plusHours(1));
+        RefreshToken active = refreshToken(LocalDateTime.now().plusMinutes(1));
+
+        reaper.purgeExpiredTokens();
+
+        assertEquals(1, passwordResetRepository.count());
+        assertEquals(pending.getId(), passwordResetRepository.findAll().get(0).getId());
+        assertEquals(active.getToken(), refreshTokenRepository.findAll().get(0).getToken());
+    }
+
+    private RefreshToken refreshToken(LocalDateTime expirationDate) {
+        RefreshToken token = new RefreshToken();
+        token.setToken(UUID.randomUUID().toString());
+        token.setUser(user);
+        token.setExpirationDate(expirationDate);
+        token.setCreatedAt(LocalDateTime.now().minusDays(7));
+        return refreshTokenRepository.save(token);
+    }
+
+    private PasswordResetToken passwordReset(LocalDateTime expirationDate) {
+        PasswordResetToken token = new PasswordResetToken();
+        token.setToken(UUID.randomUUID().toString());
+        token.setEmail(user.getEmail());
+        token.setExpirationDate(expirationDate);
+        return passwordResetRepository.save(token);
+    }
+
+    private double purgedCount(String type) {
+        return meterRegistry.counter("auth.tokens.purged", "type", type).count();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.taskmanagerapi.modules.auth.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.example.taskmanagerapi.modules.auth.domain.RefreshToken;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.RefreshTokenRepository;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.github.fppt.jedismock.RedisServer;
+
+/**
+ * Synchronous refresh-token path against jedis-mock: cache entry, per-user index and revocation
+ */
+@SpringBootTest
+class RefreshTokenServiceTest {
+
+    private static final RedisServer REDIS = startRedis();
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private User user;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", REDIS::getBindPort);
+    }
+
+    @BeforeEach
+    void createUser() {
+        String handle = "refresh-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Refresh");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void deleteUser() {
+        refreshTokenService.deleteAllUserTokens(user);
+        userRepository.delete(user);
+    }
+
+    @Test
+    void cachesTokenAndIndexesItForTheUser() {
+        RefreshToken token = refreshTokenService.createRefreshToken(user, "203.0.113.7", "test");
+
+        String cacheKey = "refresh_token:" + token.getToken();
+        String indexKey = "refresh_token:user:" + user.getId();
+        assertTrue(redisTemplate.hasKey(cacheKey));
+        assertEquals(Set.<Object>of(cacheKey), redisTemplate.opsForSet().members(indexKey));
+        long entryTtl = redisTemplate.getExpire(cacheKey);
+        assertTrue(entryTtl > 0 && entryTtl <= Duration.ofDays(1).toSeconds(), "entry ttl " + entryTtl);
+        assertTrue(redisTemplate.getExpire(indexKey) > Duration.ofDays(6).toSeconds());
+    }
+
+    @Test
+    void newLoginRevokesPreviousTokens() {
+        RefreshToken first = refreshTokenService.createRefreshToken(user, "203.0.113.7", "test");
+        RefreshToken second = refreshTokenService.createRefreshToken(user, "203.0.113.7", "test");
+
+        assertFalse(redisTemplate.hasKey("refresh_token:" + first.getToken()));
+        assertEquals(Set.<Object>of("refresh_token:" + second.getToken()),
+            redisTemplate.opsForSet().members("refresh_token:user:" + user.getId()));
+        assertTrue(refreshTokenRepository.findByToken(first.getToken()).isEmpty());
+
+        refreshTokenService.deleteAllUserTokens(user);
+        assertFalse(redisTemplate.hasKey("refresh_token:" + second.getToken()));
+        assertFalse(redisTemplate.hasKey("refresh_token:user:" + user.getId()));
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            return RedisServer.newRedisServer().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start in-process Redis", e);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.taskmanagerapi.modules.auth.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.taskmanagerapi.modules.auth.domain.RefreshToken;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.RefreshTokenRepository;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.github.fppt.jedismock.RedisServer;
+
+/**
+ * Write-behind store against jedis-mock: fenced flushing and tombstone-aware recovery
+ * The scheduled flush is pushed out of the way; tests call flush() and recover() directly
+ */
+@SpringBootTest(properties = {
+    "app.auth.refresh-token.write-behind.enabled=true",
+    "app.auth.refresh-token.write-behind.flush-interval=3600000"
+})
+class RefreshTokenWriteBehindStoreTest {
+
+    private static final RedisServer REDIS = startRedis();
+
+    private static final String QUEUE_KEY = "refresh_token:wb:queue";
+    private static final String FLUSH_LOCK_KEY = "refresh_token:wb:flush-lock";
+    private static final String RECOVERED_KEY = "refresh_token:wb:recovered";
+    private static final String TOMBSTONES_KEY = "refresh_token:wb:tombstones";
+
+    @Autowired
+    private RefreshTokenWriteBehindStore store;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", REDIS::getBindPort);
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        String handle = "write-behind-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Write Behind");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.deleteByUser(user));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void flushAppliesQueuedWritesAndReleasesTheLock() {
+        RefreshToken token = refreshTokenService.createRefreshToken(user, "203.0.113.7", "test");
+        assertEquals(2, redisTemplate.opsForList().size(QUEUE_KEY));
+
+        store.flush();
+
+        assertTrue(refreshTokenRepository.findByToken(token.getToken()).isPresent());
+        assertEquals(0, redisTemplate.opsForList().size(QUEUE_KEY));
+        assertFalse(redisTemplate.hasKey(FLUSH_LOCK_KEY));
+    }
+
+    @Test
+    void flushLeavesTheQueueAloneWhileAnotherNodeHoldsTheLock() {
+        RefreshToken token = refreshTokenService.createRefreshToken(user, "203.0.113.7", "test");
+        redisTemplate.opsForValue().set(FLUSH_LOCK_KEY, "other-node");
+
+        store.flush();
+
+        assertTrue(refreshTokenRepository.findByToken(token.getToken()).isEmpty());
+        assertEquals(2, redisTemplate.opsForList().size(QUEUE_KEY));
+        assertEquals("other-node", redisTemplate.opsForValue().get(FLUSH_LOCK_KEY));
+    }
+
+    @Test
+    void recoverySkipsTokensRevokedAfterRedisLostItsData() {
+        RefreshToken revoked = persistToken();
+        RefreshToken kept = persistToken();
+        store.revoke(revoked.getToken());
+        assertTrue(redisTemplate.opsForHash().hasKey(TOMBSTONES_KEY, "token:" + revoked.getToken()));
+
+        store.recover();
+
+        assertFalse(redisTemplate.hasKey("refresh_token:" + revoked.getToken()));
+        assertTrue(redisTemplate.hasKey("refresh_token:" + kept.getToken()));
+        assertTrue(redisTemplate.hasKey(RECOVERED_KEY));
+        assertFalse(redisTemplate.hasKey(TOMBSTONES_KEY));
+    }
+
+    @Test
+    void revokeAllDuringRecoveryCoversTokensCreatedBeforeIt() {
+        RefreshToken older = persistToken();
+        store.revokeAll(user);
+
+        store.recover();
+
+        assertFalse(redisTemplate.hasKey("refresh_token:" + older.getToken()));
+        assertTrue(redisTemplate.hasKey(RECOVERED_KEY));
+    }
+
+    @Test
+    void databaseFallbackRefusesTokensRevokedDuringRecovery() {
+        RefreshToken revoked = persistToken();
+        redisTemplate.opsForValue().set("refresh_token:wb:recovery-lock", "other-node");
+        store.revoke(revoked.getToken());
+
+        assertTrue(refreshTokenService.validateRefreshToken(revoked.getToken()).isEmpty());
+    }
+
+    @Test
+    void missBeforeRecoveryReloadsOnTheRecoveryExecutor() throws InterruptedException {
+        RefreshToken token = persistToken();
+
+        assertFalse(store.isAuthoritative());
+
+        for (int i = 0; i < 100 && !redisTemplate.hasKey(RECOVERED_KEY); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(redisTemplate.hasKey(RECOVERED_KEY));
+        assertTrue(redisTemplate.hasKey("refresh_token:" + token.getToken()));
+    }
+
+    private RefreshToken persistToken() {
+        RefreshToken token = new RefreshToken();
+        token.setToken(UUID.randomUUID().toString());
+        token.setUser(user);
+        token.setExpirationDate(LocalDateTime.now().plusDays(7));
+        token.setCreatedAt(LocalDateTime.now().minusMinutes(1));
+        return refreshTokenRepository.save(token);
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            return RedisServer.newRedisServer().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start in-process Redis", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.taskmanagerapi.modules.batch.services;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BatchServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    private User user;
+    private String bearer;
+    private String boardId;
+    private String listId;
+    private String cardId;
+
+    @BeforeEach
+    void seed() throws Exception {
+        String handle = "batch-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Batch");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+        bearer = "Bearer " + tokenService.generateToken(user);
+
+        String workspaceId = create(post("/workspaces"), "{\"name\":\"Work\"}");
+        boardId = create(post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Sprint\"}");
+        listId = create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"To Do\"}");
+        cardId = create(post("/boards/{boardId}/lists/{listId}/cards", boardId, listId), "{\"name\":\"Card\"}");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workspaceRepository.deleteAll(workspaceRepository.findByOwnerOrderByCreatedAtDesc(user));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void runsOperationsInOrderWithRefsToCreatedEntities() throws Exception {
+        mockMvc.perform(authorized(post("/batch"), """
+                {"operations": [
+                  {"action": "CREATE", "target": "LIST", "parentId": "%s", "ref": "done", "data": {"name": "Done"}},
+                  {"action": "MOVE", "target": "CARD", "id": "%s", "data": {"targetListId": "$done", "position": 0}},
+                  {"action": "UPDATE", "target": "CARD", "id": "%s", "data": {"name": "Shipped"}}
+                ]}
+                """.formatted(boardId, cardId, cardId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.committed").value(true))
+            .andExpect(jsonPath("$.results[0].status").value(201))
+            .andExpect(jsonPath("$.results[1].status").value(200))
+            .andExpect(jsonPath("$.results[2].data.name").value("Shipped"))
+            .andExpect(jsonPath("$.results[2].data.listId").value(Matchers.not(listId)));
+    }
+
+    @Test
+    void failedOperationRollsBackTheWholeBatch() throws Exception {
+        mockMvc.perform(authorized(post("/batch"), """
+                {"operations": [
+                  {"action": "CREATE", "target": "LIST", "parentId": "%s", "data": {"name": "Doomed"}},
+                  {"action": "DELETE", "target": "CARD", "id": "missing-card"}
+                ]}
+                """.formatted(boardId)))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.committed").value(false))
+            .andExpect(jsonPath("$.results[1].index").value(1))
+            .andExpect(jsonPath("$.results[1].data.code").value("NOT_FOUND"));
+
+        mockMvc.perform(get("/boards/{boardId}/lists", boardId).header(HttpHeaders.AUTHORIZATION, bearer))
+            .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void invalidDataFailsAtItsIndexLikeTheSingleEndpoint() throws Exception {
+        mockMvc.perform(authorized(post("/batch"), """
+                {"operations": [
+                  {"action": "CREATE", "target": "LIST", "parentId": "%s", "data": {"name": "Doomed"}},
+                  {"action": "CREATE", "target": "CARD", "parentId": "%s", "data": {"name": ""}}
+                ]}
+                """.formatted(boardId, listId)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.committed").value(false))
+            .andExpect(jsonPath("$.results[1].index").value(1))
+            .andExpect(jsonPath("$.results[1].data.message").value(Matchers.containsString("Card name is required")));
+
+        mockMvc.perform(get("/boards/{boardId}/lists", boardId).header(HttpHeaders.AUTHORIZATION, bearer))
+            .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void constraintViolationIsReportedAgainstTheFailingOperation() throws Exception {
+        mockMvc.perform(authorized(post("/batch"), """
+                {"operations": [
+                  {"action": "UPDATE", "target": "CARD", "id": "%s", "data": {"name": "Renamed"}},
+                  {"action": "CREATE", "target": "LIST", "parentId": "%s", "data": {"name": "%s"}}
+                ]}
+                """.formatted(cardId, boardId, "x".repeat(300))))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.committed").value(false))
+            .andExpect(jsonPath("$.results[1].index").value(1))
+            .andExpect(jsonPath("$.results[1].data.code").value("UNPROCESSABLE_ENTITY"));
+
+        mockMvc.perform(get("/boards/{boardId}/lists", boardId).header(HttpHeaders.AUTHORIZATION, bearer))
+            .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    private String create(MockHttpServletRequestBuilder request, String body) throws Exception {
+        String response = mockMvc.perform(authorized(request, body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request, String body) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.taskmanagerapi.modules.boards.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.boards.domain.Board;
+import com.example.taskmanagerapi.modules.boards.repositories.BoardChangeRepository;
+import com.example.taskmanagerapi.modules.boards.repositories.BoardRepository;
+import com.example.taskmanagerapi.modules.lists.dto.CreateListDTO;
+import com.example.taskmanagerapi.modules.lists.services.BoardListService;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BoardChangeLogTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardChangeRepository changeRepository;
+
+    @Autowired
+    private BoardListService listService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private String bearer;
+    private String boardId;
+    private String listId;
+
+    @BeforeEach
+    void seed() throws Exception {
+        String handle = "changes-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Changes");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+        bearer = "Bearer " + tokenService.generateToken(user);
+
+        String workspaceId = create(post("/workspaces"), "{\"name\":\"Work\"}");
+        boardId = create(post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Sprint\"}");
+        listId = create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"To Do\"}");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workspaceRepository.deleteAll(workspaceRepository.findByOwnerOrderByCreatedAtDesc(user));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void returnsOnlyWhatChangedSinceTheClientsVersion() throws Exception {
+        String kept = create(post("/boards/{boardId}/lists/{listId}/cards", boardId, listId), "{\"name\":\"Kept\"}");
+        String edited = create(post("/boards/{boardId}/lists/{listId}/cards", boardId, listId), "{\"name\":\"Edit\"}");
+        String removed = create(post("/boards/{boardId}/lists/{listId}/cards", boardId, listId), "{\"name\":\"Gone\"}");
+
+        String snapshot = mockMvc.perform(authorized(get("/boards/{id}/changes", boardId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.snapshot").value(true))
+            .andExpect(jsonPath("$.lists.length()").value(1))
+            .andExpect(jsonPath("$.cards.length()").value(3))
+            .andReturn().getResponse().getContentAsString();
+        long version = ((Number) JsonPath.read(snapshot, "$.version")).longValue();
+
+        mockMvc.perform(authorized(put("/boards/{boardId}/lists/{listId}/cards/{id}", boardId, listId, edited))
+                .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Edited\"}"))
+            .andExpect(status().isOk());
+        mockMvc.perform(authorized(delete("/boards/{boardId}/lists/{listId}/cards/{id}", boardId, listId, removed)))
+            .andExpect(status().is2xxSuccessful());
+        String done = create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"Done\"}");
+
+        mockMvc.perform(authorized(get("/boards/{id}/changes", boardId).param("since", String.valueOf(version))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.snapshot").value(false))
+            .andExpect(jsonPath("$.version").value(Matchers.greaterThan((int) version)))
+            .andExpect(jsonPath("$.lists[*].id").value(Matchers.contains(done)))
+            .andExpect(jsonPath("$.cards[*].id").value(Matchers.contains(edited)))
+            .andExpect(jsonPath("$.cards[0].name").value("Edited"))
+            .andExpect(jsonPath("$.deletedCardIds").value(Matchers.contains(removed)))
+            .andExpect(jsonPath("$.deletedListIds").isEmpty())
+            .andExpect(jsonPath("$.cards[*].id").value(Matchers.not(Matchers.hasItem(kept))));
+    }
+
+    @Test
+    void fallsBackToASnapshotForAnUnknownVersion() throws Exception {
+        mockMvc.perform(authorized(get("/boards/{id}/changes", boardId).param("since", "1000000")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.snapshot").value(true))
+            .andExpect(jsonPath("$.lists[0].id").value(listId));
+    }
+
+    @Test
+    void boardRowIsOnlyLockedWhileTheMutationCommits() {
+        Board board = boardRepository.findById(boardId).orElseThrow();
+        long before = changeRepository.findVersions(boardId)[0];
+
+        transactionTemplate.executeWithoutResult(status -> {
+            listService.createList(new CreateListDTO("Doing"), board);
+            // Another writer is not kept waiting by this still-open mutation
+            CompletableFuture<Integer> other = CompletableFuture.supplyAsync(() ->
+                jdbcTemplate.update("UPDATE boards SET description = ? WHERE id = ?", "Touched", boardId));
+            assertEquals(1, other.orTimeout(5, TimeUnit.SECONDS).join());
+        });
+
+        assertEquals(before + 1, changeRepository.findVersions(boardId)[0]);
+    }
+
+    private String create(MockHttpServletRequestBuilder request, String body) throws Exception {
+        String response = mockMvc.perform(authorized(request).contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer);
+    }
+}
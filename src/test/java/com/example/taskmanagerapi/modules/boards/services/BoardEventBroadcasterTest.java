@@ -0,0 +1,176 @@
+package com.example.taskmanagerapi.modules.boards.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.boards.domain.BoardEvent;
+import com.example.taskmanagerapi.modules.boards.domain.BoardEventType;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BoardEventBroadcasterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private BoardEventBroadcaster broadcaster;
+
+    private User user;
+    private String bearer;
+    private String boardId;
+    private String listId;
+
+    @BeforeEach
+    void seed() throws Exception {
+        String handle = "events-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Events");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+        bearer = "Bearer " + tokenService.generateToken(user);
+
+        String workspaceId = create(post("/workspaces"), "{\"name\":\"Work\"}");
+        boardId = create(post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Sprint\"}");
+        listId = create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"To Do\"}");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workspaceRepository.deleteAll(workspaceRepository.findByOwnerOrderByCreatedAtDesc(user));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void streamsCommittedChangesOfTheBoard() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(authorized(get("/boards/{id}/events", boardId))
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn().getResponse();
+
+        String cardId = create(post("/boards/{boardId}/lists/{listId}/cards", boardId, listId), "{\"name\":\"Pushed\"}");
+        create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"Done\"}");
+
+        String body = awaitContent(stream, "event:list.created");
+        assertTrue(body.contains("event:card.created"), body);
+        assertTrue(body.contains("\"id\":\"" + cardId + "\""), body);
+        assertTrue(body.indexOf("event:card.created") < body.indexOf("event:list.created"), body);
+
+        // Ids are board versions, usable as ?since= on the changes endpoint
+        String changes = mockMvc.perform(authorized(get("/boards/{id}/changes", boardId)))
+            .andReturn().getResponse().getContentAsString();
+        long version = ((Number) JsonPath.read(changes, "$.version")).longValue();
+        assertTrue(body.contains("event:list.created\nid:" + version + "\n"), body);
+        assertTrue(body.contains("event:card.created\nid:" + (version - 1) + "\n"), body);
+    }
+
+    @Test
+    void deletingTheBoardEndsItsStreams() throws Exception {
+        int before = broadcaster.subscriberCount();
+        MockHttpServletResponse stream = mockMvc.perform(authorized(get("/boards/{id}/events", boardId))
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn().getResponse();
+        assertEquals(before + 1, broadcaster.subscriberCount());
+
+        mockMvc.perform(authorized(delete("/boards/{id}", boardId))).andExpect(status().isNoContent());
+
+        assertTrue(awaitContent(stream, "event:board.deleted").contains("event:board.deleted"));
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (broadcaster.subscriberCount() > before && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(before, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void disconnectsASubscriberWhoseBufferIsFull() {
+        List<Runnable> pendingWrites = new ArrayList<>();
+        SimpleAsyncTaskExecutor stalledExecutor = new SimpleAsyncTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                pendingWrites.add(task);
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoardEventBroadcaster broadcaster = new BoardEventBroadcaster(stalledExecutor, new ObjectMapper(),
+            2, 10, Duration.ofMinutes(1), new DefaultListableBeanFactory().getBeanProvider(BoardEventRelay.class),
+            registry);
+
+        broadcaster.subscribe("board-1");
+        broadcaster.subscribe("board-2");
+        // The opening heartbeat is sent directly; the third event overflows the buffer of 2
+        broadcaster.onBoardEvent(new BoardEvent("board-1", BoardEventType.CARD_DELETED, new BoardEvent.Removed("a", "l")));
+        broadcaster.onBoardEvent(new BoardEvent("board-1", BoardEventType.CARD_DELETED, new BoardEvent.Removed("b", "l")));
+        broadcaster.onBoardEvent(new BoardEvent("board-1", BoardEventType.CARD_DELETED, new BoardEvent.Removed("c", "l")));
+
+        assertEquals(1, broadcaster.subscriberCount());
+        assertEquals(1.0, registry.counter("board.events.evicted").count());
+        assertEquals(1, pendingWrites.size());
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+
+    private String create(MockHttpServletRequestBuilder request, String body) throws Exception {
+        String response = mockMvc.perform(authorized(request).contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.taskmanagerapi.modules.boards.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
+import com.github.fppt.jedismock.RedisServer;
+import com.jayway.jsonpath.JsonPath;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Relay against jedis-mock: frames from another node reach this node's streams, and this node's commits are published
+ */
+@SpringBootTest(properties = "app.board-events.relay.enabled=true")
+@AutoConfigureMockMvc
+class BoardEventRelayTest {
+
+    private static final RedisServer REDIS = startRedis();
+    private static final String OTHER_NODE = "other-node";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private BoardEventBroadcaster broadcaster;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    @Qualifier("boardEventListenerContainer")
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private String bearer;
+    private String boardId;
+    private String listId;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", REDIS::getBindPort);
+    }
+
+    @BeforeEach
+    void seed() throws Exception {
+        String handle = "relay-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Relay");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+        bearer = "Bearer " + tokenService.generateToken(user);
+
+        String workspaceId = create(post("/workspaces"), "{\"name\":\"Work\"}");
+        boardId = create(post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Sprint\"}");
+        listId = create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"To Do\"}");
+        // Subscription happens asynchronously after startup
+        awaitTrue(listenerContainer::isListening);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workspaceRepository.deleteAll(workspaceRepository.findByOwnerOrderByCreatedAtDesc(user));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void framesFromOtherNodesReachLocalStreams() throws Exception {
+        MockHttpServletResponse stream = open();
+
+        redisTemplate.convertAndSend(BoardEventRelay.CHANNEL,
+            OTHER_NODE + " " + boardId + " card.deleted 7 {\"id\":\"gone\", \"listId\":\"" + listId + "\"}");
+
+        awaitTrue(() -> content(stream).contains("event:card.deleted\nid:7\ndata:{\"id\":\"gone\", \"listId\""));
+    }
+
+    @Test
+    void boardDeletedOnAnotherNodeClosesLocalStreams() throws Exception {
+        int before = broadcaster.subscriberCount();
+        MockHttpServletResponse stream = open();
+        assertEquals(before + 1, broadcaster.subscriberCount());
+
+        redisTemplate.convertAndSend(BoardEventRelay.CHANNEL,
+            OTHER_NODE + " " + boardId + " board.deleted - {\"id\":\"" + boardId + "\"}");
+
+        awaitTrue(() -> content(stream).contains("event:board.deleted\ndata:"));
+        awaitTrue(() -> broadcaster.subscriberCount() == before);
+    }
+
+    @Test
+    void localCommitsArePublishedForOtherNodes() throws Exception {
+        double published = meterRegistry.counter("board.events.relay.published").count();
+
+        create(post("/boards/{boardId}/lists/{listId}/cards", boardId, listId), "{\"name\":\"Relayed\"}");
+
+        awaitTrue(() -> meterRegistry.counter("board.events.relay.published").count() > published);
+    }
+
+    private MockHttpServletResponse open() throws Exception {
+        return mockMvc.perform(authorized(get("/boards/{id}/events", boardId)).accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn().getResponse();
+    }
+
+    private static String content(MockHttpServletResponse response) {
+        try {
+            return response.getContentAsString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private String create(MockHttpServletRequestBuilder request, String body) throws Exception {
+        String response = mockMvc.perform(authorized(request).contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer);
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            return RedisServer.newRedisServer().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start in-process Redis", e);
+        }
+    }
+}
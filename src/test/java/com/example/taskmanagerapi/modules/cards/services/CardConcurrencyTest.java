@@ -0,0 +1,185 @@
+package com.example.taskmanagerapi.modules.cards.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.cards.domain.Card;
+import com.example.taskmanagerapi.modules.cards.dto.CardResponseDTO;
+import com.example.taskmanagerapi.modules.cards.dto.CreateCardDTO;
+import com.example.taskmanagerapi.modules.cards.dto.UpdateCardDTO;
+import com.example.taskmanagerapi.modules.cards.repositories.CardRepository;
+import com.example.taskmanagerapi.modules.lists.domain.BoardList;
+import com.example.taskmanagerapi.modules.lists.repositories.BoardListRepository;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest(properties = "app.concurrency.optimistic.max-attempts=50")
+@AutoConfigureMockMvc
+class CardConcurrencyTest {
+
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private BoardListRepository listRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CardService cardService;
+
+    private User user;
+    private String bearer;
+    private BoardList list;
+
+    @BeforeEach
+    void seed() throws Exception {
+        String handle = "race-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Race");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+        bearer = "Bearer " + tokenService.generateToken(user);
+
+        String workspaceId = create(post("/workspaces"), "{\"name\":\"Work\"}");
+        String boardId = create(post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Sprint\"}");
+        String listId = create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"To Do\"}");
+        list = listRepository.findById(listId).orElseThrow();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workspaceRepository.deleteAll(workspaceRepository.findByOwnerOrderByCreatedAtDesc(user));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void concurrentAppendsGetDistinctPositions() throws Exception {
+        runConcurrently(writer -> () -> cardService.createCard(
+            new CreateCardDTO("Card " + writer, null, null, null), list));
+
+        List<Integer> positions = positions();
+        assertEquals(WRITERS, positions.stream().distinct().count(), "positions collided: " + positions);
+        assertEquals(CardService.POSITION_GAP, positions.get(0));
+    }
+
+    @Test
+    void concurrentDropsAtTheTopAreRepaired() throws Exception {
+        List<String> cardIds = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            cardIds.add(cardService.createCard(new CreateCardDTO("Card " + i, null, null, null), list).id());
+        }
+
+        runConcurrently(writer -> () -> {
+            Card card = cardRepository.findById(cardIds.get(WRITERS - 1 - writer)).orElseThrow();
+            return cardService.updateCard(card, new UpdateCardDTO(null, null, null, 0));
+        });
+
+        List<Integer> positions = positions();
+        assertEquals(WRITERS, positions.size());
+        assertEquals(WRITERS, positions.stream().distinct().count(), "positions collided: " + positions);
+    }
+
+    @Test
+    void dropsIntoAnExhaustedGapRespaceTheList() {
+        List<String> cardIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            cardIds.add(cardService.createCard(new CreateCardDTO("Card " + i, null, null, null), list).id());
+        }
+
+        // Each drop halves the gap after the first card until it runs out and the list is renumbered
+        for (int i = 0; i < 20; i++) {
+            CardResponseDTO dropped = cardService.createCard(new CreateCardDTO("Drop " + i, null, null, 1), list);
+            assertEquals(1, dropped.position(), "responses carry the index, not the sort key");
+            cardIds.add(1, dropped.id());
+        }
+
+        List<Card> cards = cardRepository.findByListOrderByPositionAsc(list);
+        assertEquals(cardIds, cards.stream().map(Card::getId).toList());
+        assertEquals(cards.size(), cards.stream().map(Card::getPosition).distinct().count());
+        assertEquals(IntStream.range(0, cardIds.size()).boxed().toList(),
+            cardService.getCardsByList(list).stream().map(CardResponseDTO::position).toList());
+    }
+
+    /**
+     * Starts every writer at the same moment and fails on the first exception
+     */
+    private void runConcurrently(IntFunction<Callable<CardResponseDTO>> writers) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<CardResponseDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                Callable<CardResponseDTO> writer = writers.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return writer.call();
+                }));
+            }
+            start.countDown();
+            for (Future<CardResponseDTO> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Integer> positions() {
+        return cardRepository.findByListOrderByPositionAsc(list).stream()
+            .map(Card::getPosition)
+            .toList();
+    }
+
+    private String create(MockHttpServletRequestBuilder request, String body) throws Exception {
+        String response = mockMvc.perform(request
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+}
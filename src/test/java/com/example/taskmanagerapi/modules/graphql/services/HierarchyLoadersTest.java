@@ -0,0 +1,154 @@
+package com.example.taskmanagerapi.modules.graphql.services;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class HierarchyLoadersTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    private User user;
+    private User other;
+
+    @BeforeEach
+    void seed() throws Exception {
+        user = userRepository.save(user("graphql"));
+        other = userRepository.save(user("graphql-other"));
+
+        String workspaceId = create(user, post("/workspaces"), "{\"name\":\"Work\"}");
+        String boardId = create(user, post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Sprint\"}");
+        String todo = create(user, post("/boards/{boardId}/lists", boardId), "{\"name\":\"To Do\"}");
+        create(user, post("/boards/{boardId}/lists", boardId), "{\"name\":\"Done\"}");
+        create(user, post("/boards/{boardId}/lists/{listId}/cards", boardId, todo), "{\"name\":\"First\"}");
+        create(user, post("/boards/{boardId}/lists/{listId}/cards", boardId, todo), "{\"name\":\"Second\"}");
+
+        create(other, post("/workspaces"), "{\"name\":\"Private\"}");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (User owner : new User[] { user, other }) {
+            workspaceRepository.deleteAll(workspaceRepository.findByOwnerOrderByCreatedAtDesc(owner));
+            userRepository.delete(owner);
+        }
+    }
+
+    @Test
+    void resolvesTheCallersHierarchyWithAliasesSelectingDifferentFields() throws Exception {
+        graphql(user, """
+                { workspaces { name boards { name lists { name
+                    cards { name status }
+                    positions: cards { position }
+                } } } }
+                """)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.errors").doesNotExist())
+            .andExpect(jsonPath("$.data.workspaces", hasSize(1)))
+            .andExpect(jsonPath("$.data.workspaces[0].name").value("Work"))
+            .andExpect(jsonPath("$.data.workspaces[0].boards[0].lists[0].name").value("To Do"))
+            .andExpect(jsonPath("$.data.workspaces[0].boards[0].lists[0].cards[1].name").value("Second"))
+            .andExpect(jsonPath("$.data.workspaces[0].boards[0].lists[0].cards[1].status").value("ACTIVE"))
+            .andExpect(jsonPath("$.data.workspaces[0].boards[0].lists[0].positions[1].position").value(1))
+            .andExpect(jsonPath("$.data.workspaces[0].boards[0].lists[1].cards", hasSize(0)));
+    }
+
+    @Test
+    void firstLimitsEachParentsChildren() throws Exception {
+        graphql(user, """
+                { workspaces(first: 1) { boards { lists(first: 1) {
+                    name
+                    cards(first: 1) { name }
+                    all: cards { name }
+                } } } }
+                """)
+            .andExpect(jsonPath("$.errors").doesNotExist())
+            .andExpect(jsonPath("$.data.workspaces[0].boards[0].lists", hasSize(1)))
+            .andExpect(jsonPath("$.data.workspaces[0].boards[0].lists[0].cards", hasSize(1)))
+            .andExpect(jsonPath("$.data.workspaces[0].boards[0].lists[0].cards[0].name").value("First"))
+            .andExpect(jsonPath("$.data.workspaces[0].boards[0].lists[0].all", hasSize(2)));
+    }
+
+    @Test
+    void rejectsFirstAboveTheCap() throws Exception {
+        graphql(user, "{ workspaces { boards(first: 101) { name } } }")
+            .andExpect(jsonPath("$.errors[0].extensions.classification").value("BAD_REQUEST"))
+            .andExpect(jsonPath("$.errors[0].message", containsString("first must be between 1 and 100")));
+    }
+
+    @Test
+    void rejectsQueriesOverTheComplexityLimit() throws Exception {
+        StringBuilder query = new StringBuilder("{");
+        for (int i = 0; i < 70; i++) {
+            query.append(" w").append(i).append(": workspaces { id name boardCount }");
+        }
+        graphql(user, query.append(" }").toString())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data").doesNotExist())
+            .andExpect(jsonPath("$.errors[0].message", containsString("complexity")));
+    }
+
+    private ResultActions graphql(User caller, String query) throws Exception {
+        String body = new ObjectMapper().writeValueAsString(Map.of("query", query));
+        return mockMvc.perform(authorized(caller, post("/graphql")).content(body));
+    }
+
+    private String create(User caller, MockHttpServletRequestBuilder request, String body) throws Exception {
+        String response = mockMvc.perform(authorized(caller, request).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private MockHttpServletRequestBuilder authorized(User caller, MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.generateToken(caller))
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    private static User user(String prefix) {
+        String handle = prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setName("GraphQL");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user.setEmailVerified(true);
+        return user;
+    }
+}
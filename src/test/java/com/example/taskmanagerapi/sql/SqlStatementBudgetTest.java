@@ -0,0 +1,247 @@
+package com.example.taskmanagerapi.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.taskmanagerapi.infra.security.TokenService;
+import com.example.taskmanagerapi.modules.auth.domain.User;
+import com.example.taskmanagerapi.modules.auth.repositories.UserRepository;
+import com.example.taskmanagerapi.modules.workspaces.repositories.WorkspaceRepository;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Per-endpoint SQL statement budgets, counted at the JDBC layer for one HTTP request
+ * Budgets are exact ceilings for today's queries; raise one only with a reason in the commit
+ * Users, workspaces, boards and lists come from the second-level cache, so ownership checks
+ * cost nothing; each budget keeps one statement for a cold user lookup in SecurityFilter
+ * Card and list mutations spend three statements on the board change log (version bump,
+ * version read, entry write); placing a card also reads and advances its list's placement
+ * version, and each card pushed down by a placement costs its own update plus its entry
+ * Sparse ?fields= listings are a single narrow query, derived fields included
+ * GraphQL reads one query per hierarchy level, however many parents the level has
+ * The scaling tests fail when a listing issues one more query per row (N+1)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SqlStatementCountingConfig.class)
+class SqlStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementCounter counter;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    private User user;
+    private String bearer;
+    private String workspaceId;
+    private String boardId;
+    private String listId;
+    private String otherListId;
+    private String cardId;
+
+    @BeforeEach
+    void seed() throws Exception {
+        String handle = "budget-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setName("Budget");
+        user.setUsername(handle);
+        user.setEmail(handle + "@example.com");
+        user.setPassword("unused");
+        user.setEmailVerified(true);
+        user = userRepository.save(user);
+        bearer = "Bearer " + tokenService.generateToken(user);
+
+        workspaceId = create(post("/workspaces"), "{\"name\":\"Work\"}");
+        boardId = create(post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Sprint\"}");
+        listId = create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"To Do\"}");
+        otherListId = create(post("/boards/{boardId}/lists", boardId), "{\"name\":\"Done\"}");
+        cardId = create(post("/boards/{boardId}/lists/{listId}/cards", boardId, listId), "{\"name\":\"Card\"}");
+        create(post("/boards/{boardId}/lists/{listId}/cards", boardId, listId), "{\"name\":\"Card 2\"}");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workspaceRepository.deleteAll(workspaceRepository.findByOwnerOrderByCreatedAtDesc(user));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void userEndpoints() throws Exception {
+        assertBudget(1, get("/users/me"), status().isOk());
+    }
+
+    @Test
+    void workspaceEndpoints() throws Exception {
+        assertBudget(3, post("/workspaces").content("{\"name\":\"Personal\"}"), status().isCreated());
+        assertBudget(3, get("/workspaces"), status().isOk());
+        assertBudget(2, get("/workspaces/{id}", workspaceId), status().isOk());
+        assertBudget(3, put("/workspaces/{id}", workspaceId).content("{\"name\":\"Renamed\"}"), status().isOk());
+    }
+
+    @Test
+    void boardEndpoints() throws Exception {
+        assertBudget(2, post("/boards").param("workspaceId", workspaceId).content("{\"name\":\"Backlog\"}"),
+            status().isCreated());
+        assertBudget(3, get("/boards").param("workspaceId", workspaceId), status().isOk());
+        assertBudget(1, get("/boards/{id}", boardId), status().isOk());
+        // Select of the board (replica-eligible), then the locked re-read on the primary, then the update
+        assertBudget(3, put("/boards/{id}", boardId).content("{\"name\":\"Renamed\"}"), status().isOk());
+    }
+
+    @Test
+    void listEndpoints() throws Exception {
+        assertBudget(6, post("/boards/{boardId}/lists", boardId).content("{\"name\":\"Doing\"}"),
+            status().isCreated());
+        assertBudget(2, get("/boards/{boardId}/lists", boardId), status().isOk());
+        assertBudget(1, get("/boards/{boardId}/lists/{listId}", boardId, listId), status().isOk());
+        assertBudget(5, put("/boards/{boardId}/lists/{listId}", boardId, listId).content("{\"name\":\"Later\"}"),
+            status().isOk());
+    }
+
+    @Test
+    void cardEndpoints() throws Exception {
+        String cards = "/boards/{boardId}/lists/{listId}/cards";
+        // Single-card responses count the cards ahead of it, as positions are indexes, not sort keys
+        assertBudget(7, post(cards, boardId, listId).content("{\"name\":\"Another\"}"), status().isCreated());
+        assertBudget(2, get(cards, boardId, listId), status().isOk());
+        assertBudget(3, get(cards + "/{cardId}", boardId, listId, cardId), status().isOk());
+        // Placement reads the two cards around the slot and bumps their versions; nothing is shifted
+        assertBudget(9, put(cards + "/{cardId}", boardId, listId, cardId).content("{\"position\":1}"),
+            status().isOk());
+        // The target list is empty: its placement version is advanced and the list checked again
+        assertBudget(10, patch(cards + "/{cardId}/move", boardId, listId, cardId)
+            .content("{\"targetListId\":\"" + otherListId + "\",\"position\":0}"), status().isOk());
+    }
+
+    @Test
+    void deleteEndpoints() throws Exception {
+        String cards = "/boards/{boardId}/lists/{listId}/cards";
+        assertBudget(6, delete(cards + "/{cardId}", boardId, listId, cardId), status().isNoContent());
+        assertBudget(8, delete("/boards/{boardId}/lists/{listId}", boardId, listId), status().isNoContent());
+        assertBudget(8, delete("/boards/{id}", boardId), status().isNoContent());
+        assertBudget(3, delete("/workspaces/{id}", workspaceId), status().isNoContent());
+    }
+
+    @Test
+    void batchEndpoint() throws Exception {
+        // One gesture: move a card, rename it and add a list; the change log version is bumped once
+        // Each operation is flushed on its own, so the moved then renamed card is updated twice;
+        // the move goes into an empty list, which is checked again once its placement version is taken;
+        // each card response counts the cards ahead of it for its index
+        assertBudget(15, post("/batch").content("""
+                {"operations": [
+                  {"action": "MOVE", "target": "CARD", "id": "%s", "data": {"targetListId": "%s", "position": 0}},
+                  {"action": "UPDATE", "target": "CARD", "id": "%s", "data": {"name": "Renamed"}},
+                  {"action": "CREATE", "target": "LIST", "parentId": "%s", "data": {"name": "Review"}}
+                ]}
+                """.formatted(cardId, otherListId, cardId, boardId)), status().isOk());
+    }
+
+    @Test
+    void sparseFieldsetListings() throws Exception {
+        String cards = "/boards/{boardId}/lists/{listId}/cards";
+        assertBudget(2, get("/workspaces").param("fields", "id,name,boardCount"), status().isOk());
+        assertBudget(2, get("/boards").param("workspaceId", workspaceId).param("fields", "id,name"), status().isOk());
+        assertBudget(2, get("/boards/{boardId}/lists", boardId).param("fields", "id,name"), status().isOk());
+        assertBudget(2, get(cards, boardId, listId).param("fields", "id,name,position"), status().isOk());
+        assertTrue(counter.statements().stream().noneMatch(sql -> sql.contains("description")),
+            () -> "sparse card listing read the description: " + counter.statements());
+    }
+
+    @Test
+    void graphqlHierarchyIsOneQueryPerLevel() throws Exception {
+        MockHttpServletRequestBuilder query = post("/graphql").content("""
+                {"query": "{ workspaces { name boards { name lists { name cards { name status } } } } }"}
+                """);
+        assertBudget(5, query, status().isOk());
+        int statements = count(query);
+
+        for (int i = 0; i < 3; i++) {
+            String board = create(post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Extra " + i + "\"}");
+            String list = create(post("/boards/{boardId}/lists", board), "{\"name\":\"Extra " + i + "\"}");
+            create(post("/boards/{boardId}/lists/{listId}/cards", board, list), "{\"name\":\"Extra " + i + "\"}");
+        }
+
+        assertEquals(statements, count(query), "POST /graphql");
+    }
+
+    @Test
+    void listingsDoNotScaleWithRowCount() throws Exception {
+        int workspaces = count(get("/workspaces"));
+        int boards = count(get("/boards").param("workspaceId", workspaceId));
+        int cards = count(get("/boards/{boardId}/lists/{listId}/cards", boardId, listId));
+
+        for (int i = 0; i < 3; i++) {
+            create(post("/workspaces"), "{\"name\":\"Extra " + i + "\"}");
+            create(post("/boards").param("workspaceId", workspaceId), "{\"name\":\"Extra " + i + "\"}");
+            create(post("/boards/{boardId}/lists/{listId}/cards", boardId, listId), "{\"name\":\"Extra " + i + "\"}");
+        }
+
+        assertEquals(workspaces, count(get("/workspaces")), "GET /workspaces");
+        assertEquals(boards, count(get("/boards").param("workspaceId", workspaceId)), "GET /boards");
+        assertEquals(cards, count(get("/boards/{boardId}/lists/{listId}/cards", boardId, listId)),
+            "GET /boards/{boardId}/lists/{listId}/cards");
+    }
+
+    private void assertBudget(int budget, MockHttpServletRequestBuilder request, ResultMatcher expectedStatus)
+            throws Exception {
+        MockHttpServletRequest built = request.buildRequest(new MockServletContext());
+        String label = built.getMethod() + " " + built.getRequestURI();
+        counter.reset();
+        mockMvc.perform(authorized(request)).andExpect(expectedStatus);
+        List<String> statements = counter.statements();
+        assertTrue(statements.size() <= budget, () -> label + " ran " + statements.size()
+            + " statements, budget is " + budget + ":\n  " + String.join("\n  ", statements));
+    }
+
+    private int count(MockHttpServletRequestBuilder request) throws Exception {
+        counter.reset();
+        mockMvc.perform(authorized(request)).andExpect(status().isOk());
+        return counter.statements().size();
+    }
+
+    private String create(MockHttpServletRequestBuilder request, String body) throws Exception {
+        String response = mockMvc.perform(authorized(request).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer).contentType(MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.taskmanagerapi.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Records every SQL statement executed through the proxied datasource
+ * A JDBC batch of one prepared statement is recorded once, matching round trips
+ * Only the thread that last called reset() is counted, so scheduled jobs polling
+ * in the background (outbox, reaper, write-behind flush) never leak into a budget
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile Thread recordingThread;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (Thread.currentThread() != recordingThread) {
+            return;
+        }
+        queryInfoList.forEach(query -> statements.add(query.getQuery()));
+    }
+
+    public void reset() {
+        recordingThread = Thread.currentThread();
+        statements.clear();
+    }
+
+    public List<String> statements() {
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.taskmanagerapi.sql;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the application DataSource in a datasource-proxy that feeds SqlStatementCounter
+ */
+@TestConfiguration
+public class SqlStatementCountingConfig {
+
+    private static final SqlStatementCounter COUNTER = new SqlStatementCounter();
+
+    @Bean
+    static SqlStatementCounter sqlStatementCounter() {
+        return COUNTER;
+    }
+
+    @Bean
+    static BeanPostProcessor sqlStatementCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(COUNTER)
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+}